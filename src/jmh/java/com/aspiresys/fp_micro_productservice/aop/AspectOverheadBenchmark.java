@@ -0,0 +1,149 @@
+package com.aspiresys.fp_micro_productservice.aop;
+
+import com.aspiresys.fp_micro_productservice.aop.annotation.Auditable;
+import com.aspiresys.fp_micro_productservice.aop.annotation.ExecutionTime;
+import com.aspiresys.fp_micro_productservice.aop.annotation.ValidateParameters;
+import com.aspiresys.fp_micro_productservice.aop.aspect.AuditAspect;
+import com.aspiresys.fp_micro_productservice.aop.aspect.ExecutionTimeAspect;
+import com.aspiresys.fp_micro_productservice.aop.aspect.ValidationAspect;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEventPublisher;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditSink;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.aop.performance.PerformanceDashboard;
+import com.aspiresys.fp_micro_productservice.config.AopProperties;
+import com.aspiresys.fp_micro_productservice.config.AopRuntimeConfig;
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of the annotation-driven aspects.
+ * <p>
+ * {@code direct} calls the target without a proxy; {@code advised} goes through the
+ * audit, execution-time and validation aspects exactly as wired in the application
+ * (audit events go to a no-op sink). The difference is the instrumentation cost per call.
+ * The {@code audited}, {@code timed} and {@code validated} benchmarks apply one aspect each
+ * to the same no-op method, so the cost of every aspect is visible on its own. The product
+ * operation aspect only matches the product controller and service; its cost is part of
+ * {@link ProductReadPathBenchmark}.
+ * </p>
+ *
+ * Run with: {@code mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args=AspectOverhead}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AspectOverheadBenchmark {
+
+    /**
+     * Stand-in for an annotated service method.
+     */
+    public static class CatalogService {
+
+        @Auditable(operation = "GET_PRODUCT", entityType = "Product", logParameters = true)
+        @ExecutionTime(operation = "Get Product")
+        @ValidateParameters(notNull = true)
+        public Long findProduct(Long id) {
+            return id;
+        }
+
+        @Auditable(operation = "GET_PRODUCT", entityType = "Product", logParameters = true)
+        public Long auditedFindProduct(Long id) {
+            return id;
+        }
+
+        @ExecutionTime(operation = "Get Product")
+        public Long timedFindProduct(Long id) {
+            return id;
+        }
+
+        @ValidateParameters(notNull = true)
+        public Long validatedFindProduct(Long id) {
+            return id;
+        }
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @Import({AopRuntimeConfig.class, AdviceMetadataCache.class, AuditEventPublisher.class,
+            AuditAspect.class, ExecutionTimeAspect.class, ValidationAspect.class, PerformanceDashboard.class,
+            SchedulingConfig.class})
+    static class BenchmarkConfig {
+
+        @Bean
+        AopProperties aopProperties() {
+            return new AopProperties();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AuditSink noopAuditSink() {
+            return batch -> { };
+        }
+
+        @Bean
+        CatalogService catalogService() {
+            return new CatalogService();
+        }
+    }
+
+    private AnnotationConfigApplicationContext context;
+    private CatalogService direct;
+    private CatalogService advised;
+    private Long productId;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        advised = context.getBean(CatalogService.class);
+        direct = new CatalogService();
+        productId = 42L;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long direct() {
+        return direct.findProduct(productId);
+    }
+
+    @Benchmark
+    public Long advised() {
+        return advised.findProduct(productId);
+    }
+
+    @Benchmark
+    public Long audited() {
+        return advised.auditedFindProduct(productId);
+    }
+
+    @Benchmark
+    public Long timed() {
+        return advised.timedFindProduct(productId);
+    }
+
+    @Benchmark
+    public Long validated() {
+        return advised.validatedFindProduct(productId);
+    }
+}
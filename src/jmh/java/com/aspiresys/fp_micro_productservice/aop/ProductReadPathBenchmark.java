@@ -0,0 +1,155 @@
+package com.aspiresys.fp_micro_productservice.aop;
+
+import com.aspiresys.fp_micro_productservice.aop.aspect.AuditAspect;
+import com.aspiresys.fp_micro_productservice.aop.aspect.ExecutionTimeAspect;
+import com.aspiresys.fp_micro_productservice.aop.aspect.ProductOperationAspect;
+import com.aspiresys.fp_micro_productservice.aop.aspect.ValidationAspect;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEventPublisher;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditSink;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.aop.performance.PerformanceDashboard;
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import com.aspiresys.fp_micro_productservice.config.AopProperties;
+import com.aspiresys.fp_micro_productservice.config.AopRuntimeConfig;
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import com.aspiresys.fp_micro_productservice.config.WovenAspectsPostProcessor;
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.ProductController;
+import com.aspiresys.fp_micro_productservice.product.ProductRepository;
+import com.aspiresys.fp_micro_productservice.product.ProductServiceImpl;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.java.Log;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the product read path in the two weaving modes.
+ * <p>
+ * The real {@link ProductController} and {@link ProductServiceImpl} run with every aspect
+ * wired as in the application, over an in-memory repository (audit events go to a no-op sink),
+ * so only the controller, service and instrumentation costs are measured. The same benchmark
+ * measures the mode the classes were built with: CGLIB proxies by default, or compile-time
+ * woven aspects with the {@code aspectj} profile. Add {@code -prof gc} to compare allocation.
+ * </p>
+ *
+ * Proxy mode: {@code mvn clean -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="ProductReadPath -prof gc"}
+ * <br>
+ * Woven mode: {@code mvn clean -Pbenchmark,aspectj -DskipTests test-compile exec:exec -Djmh.args="ProductReadPath -prof gc"}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@Log
+public class ProductReadPathBenchmark {
+
+    private static final int CATALOG_SIZE = 50;
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @Import({AopRuntimeConfig.class, AdviceMetadataCache.class, AuditEventPublisher.class,
+            AuditAspect.class, ExecutionTimeAspect.class, ProductOperationAspect.class, ValidationAspect.class,
+            PerformanceDashboard.class, ProductServiceImpl.class, ProductController.class, SchedulingConfig.class})
+    static class BenchmarkConfig {
+
+        @Bean
+        static WovenAspectsPostProcessor wovenAspectsPostProcessor() {
+            return new WovenAspectsPostProcessor();
+        }
+
+        @Bean
+        AopProperties aopProperties() {
+            return new AopProperties();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AuditSink noopAuditSink() {
+            return batch -> { };
+        }
+
+        @Bean
+        ProductRepository productRepository() {
+            return inMemoryRepository(catalog());
+        }
+    }
+
+    private AnnotationConfigApplicationContext context;
+    private ProductController productController;
+    private ProductServiceImpl productService;
+    private Long productId;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        productController = context.getBean(ProductController.class);
+        productService = context.getBean(ProductServiceImpl.class);
+        productId = 7L;
+        log.info("Weaving mode: " + (WovenAspectsPostProcessor.isWoven(AuditAspect.class)
+                ? "compile-time (AspectJ)" : "proxy (Spring AOP / CGLIB)"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<AppResponse<List<Product>>> controllerGetAllProducts() {
+        return productController.getAllProducts(null);
+    }
+
+    @Benchmark
+    public Product serviceGetProductById() {
+        return productService.getProductById(productId);
+    }
+
+    private static List<Product> catalog() {
+        List<Product> products = new ArrayList<>(CATALOG_SIZE);
+        for (long id = 1; id <= CATALOG_SIZE; id++) {
+            Clothes clothes = new Clothes();
+            clothes.setId(id);
+            clothes.setName("Product " + id);
+            clothes.setPrice(10.0 + id);
+            clothes.setCategory("clothes");
+            clothes.setStock(5);
+            products.add(clothes);
+        }
+        return List.copyOf(products);
+    }
+
+    /**
+     * Repository answering {@code findAll} and {@code findById} from a fixed list.
+     */
+    private static ProductRepository inMemoryRepository(List<Product> products) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> products;
+                    case "findById" -> products.stream().filter(p -> p.getId().equals(args[0])).findFirst();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryProductRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,84 @@
+package com.aspiresys.fp_micro_productservice.common.dto;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the product list response ({@code AppResponse<List<Product>>}) as
+ * written by {@code GET /products}, for catalogs of increasing size. The mapper is built with
+ * the same builder Spring MVC uses.
+ *
+ * Run with: {@code mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args="AppResponseSerialization -prof gc"}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AppResponseSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int products;
+
+    private ObjectMapper objectMapper;
+    private AppResponse<List<Product>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Product> catalog = new ArrayList<>(products);
+        for (long id = 1; id <= products; id++) {
+            catalog.add(id % 2 == 0 ? smartphone(id) : clothes(id));
+        }
+        response = new AppResponse<>("Product list retrieved successfully", catalog);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private static Product clothes(long id) {
+        Clothes clothes = new Clothes();
+        clothes.setId(id);
+        clothes.setName("T-Shirt " + id);
+        clothes.setPrice(19.99);
+        clothes.setCategory("clothes");
+        clothes.setImageUrl("https://example.com/clothes/" + id + ".jpg");
+        clothes.setStock(25);
+        clothes.setBrand("Acme");
+        clothes.setSize("M");
+        clothes.setColor("Blue");
+        clothes.setFabricType("Cotton");
+        return clothes;
+    }
+
+    private static Product smartphone(long id) {
+        Smartphone smartphone = new Smartphone();
+        smartphone.setId(id);
+        smartphone.setName("Phone " + id);
+        smartphone.setPrice(799.0);
+        smartphone.setCategory("smartphone");
+        smartphone.setImageUrl("https://example.com/phones/" + id + ".jpg");
+        smartphone.setStock(10);
+        smartphone.setBrand("Acme");
+        smartphone.setModel("X" + id);
+        smartphone.setOperatingSystem("Android");
+        smartphone.setStorageCapacity(128);
+        smartphone.setRam(8);
+        smartphone.setProcessor("Octa-core");
+        smartphone.setScreenSize(6.1);
+        return smartphone;
+    }
+}
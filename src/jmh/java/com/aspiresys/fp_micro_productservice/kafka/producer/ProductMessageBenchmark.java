@@ -0,0 +1,88 @@
+package com.aspiresys.fp_micro_productservice.kafka.producer;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a product into the Kafka payload: building the {@link ProductMessage}
+ * ({@link ProductProducerService#createProductMessage}) and serializing it with the same
+ * {@link JsonSerializer} configuration the producers use.
+ *
+ * Run with: {@code mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args=ProductMessage}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMessageBenchmark {
+
+    private static final String TOPIC = "product";
+
+    private JsonSerializer<ProductMessage> serializer;
+    private Product clothes;
+    private Product smartphone;
+    private ProductMessage message;
+
+    @Setup
+    public void setUp() {
+        serializer = new JsonSerializer<>();
+        serializer.setAddTypeInfo(false);
+
+        Clothes shirt = new Clothes();
+        shirt.setId(1L);
+        shirt.setName("Basic T-Shirt");
+        shirt.setPrice(19.99);
+        shirt.setCategory("clothes");
+        shirt.setImageUrl("https://example.com/shirt.jpg");
+        shirt.setStock(25);
+        shirt.setBrand("Acme");
+        clothes = shirt;
+
+        Smartphone phone = new Smartphone();
+        phone.setId(2L);
+        phone.setName("Phone X");
+        phone.setPrice(799.0);
+        phone.setCategory("smartphone");
+        phone.setImageUrl("https://example.com/phone.jpg");
+        phone.setStock(10);
+        phone.setBrand("Acme");
+        smartphone = phone;
+
+        message = ProductProducerService.createProductMessage(clothes, "PRODUCT_UPDATED");
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+    }
+
+    @Benchmark
+    public ProductMessage createClothesMessage() {
+        return ProductProducerService.createProductMessage(clothes, "PRODUCT_UPDATED");
+    }
+
+    @Benchmark
+    public ProductMessage createSmartphoneMessage() {
+        return ProductProducerService.createProductMessage(smartphone, "PRODUCT_UPDATED");
+    }
+
+    @Benchmark
+    public byte[] serializeMessage() {
+        return serializer.serialize(TOPIC, message);
+    }
+
+    @Benchmark
+    public byte[] createAndSerialize() {
+        return serializer.serialize(TOPIC, ProductProducerService.createProductMessage(clothes, "PRODUCT_UPDATED"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.aspiresys.fp_micro_productservice.product;
+
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.ClothesRepository;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository reads against an in-memory H2 database with the real entity mappings
+ * (joined inheritance), so changes to mappings or queries show up as read-path regressions.
+ * Only the data source, JPA and the product repositories are started.
+ *
+ * Run with: {@code mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args=ProductRepository}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductRepositoryBenchmark {
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Product.class)
+    @EnableJpaRepositories(basePackageClasses = Product.class)
+    static class BenchmarkConfig {
+    }
+
+    @Param({"1000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private ClothesRepository clothesRepository;
+    private long firstId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.cloud.config.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:product-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.open-in-view=false")
+                .run();
+        productRepository = context.getBean(ProductRepository.class);
+        clothesRepository = context.getBean(ClothesRepository.class);
+
+        List<Product> catalog = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            catalog.add(i % 2 == 0 ? clothes(i) : smartphone(i));
+        }
+        firstId = productRepository.saveAll(catalog).get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Product> findAll() {
+        return productRepository.findAll();
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        return productRepository.findById(firstId + ThreadLocalRandom.current().nextInt(catalogSize));
+    }
+
+    @Benchmark
+    public List<Clothes> findAllClothes() {
+        return clothesRepository.findAll();
+    }
+
+    private static Product clothes(int i) {
+        Clothes clothes = new Clothes();
+        clothes.setName("T-Shirt " + i);
+        clothes.setPrice(19.99);
+        clothes.setCategory("clothes");
+        clothes.setImageUrl("https://example.com/clothes/" + i + ".jpg");
+        clothes.setStock(25);
+        clothes.setBrand("Acme");
+        clothes.setSize("M");
+        clothes.setColor("Blue");
+        clothes.setFabricType("Cotton");
+        return clothes;
+    }
+
+    private static Product smartphone(int i) {
+        Smartphone smartphone = new Smartphone();
+        smartphone.setName("Phone " + i);
+        smartphone.setPrice(799.0);
+        smartphone.setCategory("smartphone");
+        smartphone.setImageUrl("https://example.com/phones/" + i + ".jpg");
+        smartphone.setStock(10);
+        smartphone.setBrand("Acme");
+        smartphone.setModel("X" + i);
+        smartphone.setOperatingSystem("Android");
+        smartphone.setStorageCapacity(128);
+        smartphone.setRam(8);
+        smartphone.setProcessor("Octa-core");
+        smartphone.setScreenSize(6.1);
+        return smartphone;
+    }
+}
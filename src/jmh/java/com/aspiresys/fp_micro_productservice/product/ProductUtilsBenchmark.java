@@ -0,0 +1,78 @@
+package com.aspiresys.fp_micro_productservice.product;
+
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ProductUtils#isAValidProduct(Product, ProductValidators)} for a valid product (every rule is
+ * checked) and for products rejected by the first and by the last rule (which also build the
+ * error message).
+ *
+ * Run with: {@code mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args=ProductUtils}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductUtilsBenchmark {
+
+    private ProductValidators validators;
+    private Product validClothes;
+    private Product validSmartphone;
+    private Product invalidCategory;
+    private Product invalidImageUrl;
+
+    @Setup
+    public void setUp() {
+        validators = new ProductValidators(new CategoryRegistry());
+        validClothes = clothes("clothes", "https://example.com/shirt.jpg");
+        validSmartphone = new Smartphone();
+        validSmartphone.setName("Phone X");
+        validSmartphone.setPrice(799.0);
+        validSmartphone.setCategory("Smartphone");
+        validSmartphone.setImageUrl("https://example.com/phone.jpg");
+        validSmartphone.setStock(10);
+        invalidCategory = clothes("furniture", "https://example.com/chair.jpg");
+        invalidImageUrl = clothes("clothes", "ftp://example.com/shirt.jpg");
+    }
+
+    @Benchmark
+    public ProductUtils.TupleResponse<Boolean, String> validClothes() {
+        return ProductUtils.isAValidProduct(validClothes, validators);
+    }
+
+    @Benchmark
+    public ProductUtils.TupleResponse<Boolean, String> validSmartphone() {
+        return ProductUtils.isAValidProduct(validSmartphone, validators);
+    }
+
+    @Benchmark
+    public ProductUtils.TupleResponse<Boolean, String> rejectedByFirstRule() {
+        return ProductUtils.isAValidProduct(invalidCategory, validators);
+    }
+
+    @Benchmark
+    public ProductUtils.TupleResponse<Boolean, String> rejectedByLastRule() {
+        return ProductUtils.isAValidProduct(invalidImageUrl, validators);
+    }
+
+    private static Product clothes(String category, String imageUrl) {
+        Clothes clothes = new Clothes();
+        clothes.setName("Basic T-Shirt");
+        clothes.setPrice(19.99);
+        clothes.setCategory(category);
+        clothes.setImageUrl(imageUrl);
+        clothes.setStock(25);
+        clothes.setBrand("Acme");
+        return clothes;
+    }
+}
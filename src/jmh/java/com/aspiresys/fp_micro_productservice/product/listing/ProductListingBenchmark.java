@@ -0,0 +1,105 @@
+package com.aspiresys.fp_micro_productservice.product.listing;
+
+import com.aspiresys.fp_micro_productservice.common.bulkhead.Bulkhead;
+import com.aspiresys.fp_micro_productservice.common.bulkhead.DataSourcePartition;
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.ProductRepository;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.generator.CatalogGenerationRequest;
+import com.aspiresys.fp_micro_productservice.product.generator.CatalogGenerator;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing every product with the polymorphic query versus one query per subtype run in
+ * parallel, at several catalog sizes, against an in-memory H2 database with the real
+ * entity mappings. The catalog comes from the {@link CatalogGenerator} (60% clothes).
+ *
+ * Run with: {@code mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args=ProductListing}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductListingBenchmark {
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Product.class)
+    @EnableJpaRepositories(basePackageClasses = Product.class)
+    @Import({PerSubtypeProductFetcher.class, CatalogGenerator.class, CategoryRegistry.class, ProductValidators.class,
+            SchedulingConfig.class})
+    static class BenchmarkConfig {
+
+        @Bean(destroyMethod = "close")
+        Bulkhead listingBulkhead() {
+            return new Bulkhead("listing", DataSourcePartition.DEFAULT, 4, 32, new SimpleMeterRegistry());
+        }
+    }
+
+    @Param({"1000", "10000", "100000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private PerSubtypeProductFetcher perSubtypeProductFetcher;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "spring.cloud.config.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:listing-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.open-in-view=false")
+                .run();
+        productRepository = context.getBean(ProductRepository.class);
+        perSubtypeProductFetcher = context.getBean(PerSubtypeProductFetcher.class);
+        context.getBean(CatalogGenerator.class)
+                .generate(new CatalogGenerationRequest(catalogSize, 0.6, 1000, 4, 42L));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Product> polymorphic() {
+        return productRepository.findAll();
+    }
+
+    @Benchmark
+    public List<Product> perSubtype() {
+        return perSubtypeProductFetcher.findAll();
+    }
+}
@@ -0,0 +1,104 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.ProductUtils;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-product cost of validating a bulk import: the compiled rules ({@link ProductValidators})
+ * against the hard-coded chain that {@code ProductUtils.isAValidProduct} used to run, which
+ * allocated a response per product. One in {@code invalidEvery} products has an invalid price.
+ * Scores are per product.
+ *
+ * Run with: {@code mvn -Pbenchmark -DskipTests test-compile exec:exec -Djmh.args=ProductValidation}
+ *
+ * @author bruno.gil
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductValidationBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"10", "1000"})
+    private int invalidEvery;
+
+    private CategoryRegistry categories;
+    private ProductValidators validators;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        categories = new CategoryRegistry();
+        validators = new ProductValidators(categories);
+        products = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Product product = i % 2 == 0 ? new Clothes() : new Smartphone();
+            product.setName("Product " + i);
+            product.setPrice(i % invalidEvery == 0 ? -1.0 : 10.0 + i);
+            product.setCategory(product instanceof Clothes ? "clothes" : "smartphone");
+            product.setImageUrl("https://example.com/products/" + i + ".jpg");
+            product.setStock(i % 50);
+            products.add(product);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void legacyChain(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(legacyIsAValidProduct(product));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void compiledFirstViolation(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(validators.firstViolation(product));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchValidationResult compiledBatchAllViolations() {
+        return validators.validateBatch(products);
+    }
+
+    /**
+     * The validation chain before the rules were compiled, kept as the baseline.
+     */
+    private ProductUtils.TupleResponse<Boolean, String> legacyIsAValidProduct(Product product) {
+        if (product == null) {
+            return new ProductUtils.TupleResponse<>(false, "Product cannot be null");
+        }
+        if (!ProductUtils.isValidCategory(product.getCategory(), categories)) {
+            return new ProductUtils.TupleResponse<>(false, "Invalid category: " + product.getCategory());
+        }
+        if (!ProductUtils.isValidStock(product.getStock())) {
+            return new ProductUtils.TupleResponse<>(false, "Invalid stock: " + product.getStock());
+        }
+        if (!ProductUtils.isValidPrice(product.getPrice())) {
+            return new ProductUtils.TupleResponse<>(false, "Invalid price: " + product.getPrice());
+        }
+        if (!ProductUtils.isValidName(product.getName())) {
+            return new ProductUtils.TupleResponse<>(false, "Invalid name: " + product.getName());
+        }
+        if (!ProductUtils.isValidImageUrl(product.getImageUrl())) {
+            return new ProductUtils.TupleResponse<>(false, "Invalid image URL: " + product.getImageUrl());
+        }
+        return new ProductUtils.TupleResponse<>(true, "Product is valid");
+    }
+}
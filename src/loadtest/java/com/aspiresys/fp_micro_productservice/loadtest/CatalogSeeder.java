@@ -0,0 +1,52 @@
+package com.aspiresys.fp_micro_productservice.loadtest;
+
+import com.aspiresys.fp_micro_productservice.product.generator.CatalogGenerationRequest;
+import com.aspiresys.fp_micro_productservice.product.generator.CatalogGenerationStatus;
+import com.aspiresys.fp_micro_productservice.product.generator.CatalogGenerator;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Seeds a synthetic catalog (half clothes, half smartphones) with the {@link CatalogGenerator}
+ * before the load starts.
+ *
+ * @author bruno.gil
+ */
+public class CatalogSeeder {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int WORKERS = 2;
+    private static final long SEED = 42;
+
+    /**
+     * Ids of the seeded products, by type.
+     */
+    public record SeededCatalog(List<Long> clothesIds, List<Long> smartphoneIds) {
+    }
+
+    private final CatalogGenerator catalogGenerator;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogSeeder(ApplicationContext context) {
+        this.catalogGenerator = context.getBean(CatalogGenerator.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    public SeededCatalog seed(int size) {
+        CatalogGenerationStatus status = catalogGenerator.generate(
+                new CatalogGenerationRequest(size, 0.5, BATCH_SIZE, WORKERS, SEED));
+        if (status.state() != CatalogGenerationStatus.State.COMPLETED) {
+            throw new IllegalStateException("Catalog seeding failed: " + status.error());
+        }
+        // A two-product catalog can still come out as a single type; the scenario needs both
+        if (status.clothes() == 0 || status.smartphones() == 0) {
+            throw new IllegalStateException("Seeded catalog has no " + (status.clothes() == 0 ? "clothes" : "smartphones")
+                    + "; use a larger catalog size");
+        }
+        return new SeededCatalog(
+                List.copyOf(jdbcTemplate.queryForList("SELECT id FROM clothes ORDER BY id", Long.class)),
+                List.copyOf(jdbcTemplate.queryForList("SELECT id FROM smartphone ORDER BY id", Long.class)));
+    }
+}
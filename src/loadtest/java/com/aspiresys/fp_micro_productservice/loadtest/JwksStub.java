@@ -0,0 +1,76 @@
+package com.aspiresys.fp_micro_productservice.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Stand-in for the authorization server: serves a JWK set on {@code /oauth2/jwks} and
+ * signs tokens with the matching private key, so the service validates them exactly
+ * as it does in production.
+ *
+ * @author bruno.gil
+ */
+public class JwksStub implements AutoCloseable {
+
+    private static final String JWKS_PATH = "/oauth2/jwks";
+
+    private final RSAKey signingKey;
+    private final HttpServer server;
+
+    public JwksStub() throws IOException, JOSEException {
+        signingKey = new RSAKeyGenerator(2048).keyID("loadtest").generate();
+        byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(JWKS_PATH, exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        server.start();
+    }
+
+    public String jwkSetUri() {
+        return "http://localhost:" + server.getAddress().getPort() + JWKS_PATH;
+    }
+
+    /**
+     * Issues a signed token for the given subject and roles.
+     */
+    public String issueToken(String subject, List<String> roles, Duration validity) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(subject)
+                .claim("roles", roles)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(validity)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
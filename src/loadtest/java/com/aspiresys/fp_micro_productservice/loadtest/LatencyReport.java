@@ -0,0 +1,91 @@
+package com.aspiresys.fp_micro_productservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error statistics per endpoint.
+ * <p>
+ * Latencies are recorded in nanoseconds from the time a request was <em>scheduled</em>
+ * to be sent, not from when it was actually sent, so a stalled server shows up in the
+ * percentiles instead of silently lowering the request rate (coordinated omission).
+ * A response counts as an error when it fails, times out, is rejected because too many
+ * requests are in flight, or has a 5xx status.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private static class EndpointStats {
+        final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final LongAdder errors = new LongAdder();
+        final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    }
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Records one completed (or failed) request.
+     *
+     * @param endpoint     endpoint the request is reported under
+     * @param latencyNanos time from the scheduled send time to completion
+     * @param outcome      HTTP status, or the kind of failure
+     * @param error        whether the request counts as an error
+     */
+    public void record(String endpoint, long latencyNanos, String outcome, boolean error) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.latencies.recordValue(Math.min(Math.max(latencyNanos, 0), HIGHEST_TRACKABLE_NANOS));
+        stats.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (error) {
+            stats.errors.increment();
+        }
+    }
+
+    public long totalErrors() {
+        return endpoints.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+    }
+
+    /**
+     * Prints one line per endpoint plus the total, with latencies in milliseconds.
+     */
+    public void print(PrintStream out, int measuredSeconds) {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        long totalErrors = 0;
+
+        out.printf("%-34s %9s %8s %7s %8s %8s %8s %8s %8s %8s  %s%n", "Endpoint", "Requests", "Req/s",
+                "Errors", "p50", "p90", "p99", "p99.9", "Max", "Mean", "Outcomes");
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram latencies = stats.latencies.copy();
+            total.add(latencies);
+            totalErrors += stats.errors.sum();
+            printLine(out, entry.getKey(), latencies, stats.errors.sum(), measuredSeconds, new TreeMap<>(stats.outcomes).toString());
+        }
+        printLine(out, "TOTAL", total, totalErrors, measuredSeconds, "");
+    }
+
+    private static void printLine(PrintStream out, String endpoint, Histogram latencies, long errors,
+                                  int measuredSeconds, String outcomes) {
+        long count = latencies.getTotalCount();
+        double errorRate = count == 0 ? 0 : 100.0 * errors / count;
+        out.printf("%-34s %9d %8.1f %6.2f%% %8.2f %8.2f %8.2f %8.2f %8.2f %8.2f  %s%n", endpoint, count,
+                (double) count / measuredSeconds, errorRate,
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()), latencies.getMean() / 1_000_000.0, outcomes);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
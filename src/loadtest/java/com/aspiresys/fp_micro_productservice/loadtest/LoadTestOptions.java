@@ -0,0 +1,78 @@
+package com.aspiresys.fp_micro_productservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Options of a load-test run, read from {@code --name=value} arguments.
+ * Arguments that are not load-test options are passed on to the application
+ * (e.g. {@code --logging.level.com.aspiresys=INFO}).
+ *
+ * @param rate               target request rate (requests per second), independent of response times
+ * @param warmupSeconds      seconds of load sent before measuring
+ * @param durationSeconds    seconds of measured load
+ * @param catalogSize        number of products seeded before the run
+ * @param writeRatio         fraction of requests that create, update or delete products
+ * @param listRatio          fraction of requests that list the whole catalog
+ * @param maxInFlight        requests allowed to be outstanding; beyond it requests are counted as rejected
+ * @param applicationArgs    arguments passed on to the application
+ * @author bruno.gil
+ */
+public record LoadTestOptions(int rate,
+                              int warmupSeconds,
+                              int durationSeconds,
+                              int catalogSize,
+                              double writeRatio,
+                              double listRatio,
+                              int maxInFlight,
+                              List<String> applicationArgs) {
+
+    public static LoadTestOptions parse(String[] args) {
+        int rate = 200;
+        int warmupSeconds = 20;
+        int durationSeconds = 60;
+        int catalogSize = 1000;
+        double writeRatio = 0.1;
+        double listRatio = 0.02;
+        int maxInFlight = 2000;
+        List<String> applicationArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "rate" -> rate = Integer.parseInt(value);
+                case "warmup" -> warmupSeconds = Integer.parseInt(value);
+                case "duration" -> durationSeconds = Integer.parseInt(value);
+                case "catalog-size" -> catalogSize = Integer.parseInt(value);
+                case "write-ratio" -> writeRatio = Double.parseDouble(value);
+                case "list-ratio" -> listRatio = Double.parseDouble(value);
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                default -> applicationArgs.add(arg);
+            }
+        }
+
+        if (rate <= 0 || durationSeconds <= 0 || warmupSeconds < 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate, duration and max-in-flight must be positive");
+        }
+        if (catalogSize < 2) {
+            throw new IllegalArgumentException("catalog-size must be at least 2 (clothes and smartphones are seeded)");
+        }
+        if (writeRatio < 0 || listRatio < 0 || writeRatio + listRatio > 1) {
+            throw new IllegalArgumentException("write-ratio and list-ratio must be >= 0 and add up to at most 1");
+        }
+        return new LoadTestOptions(rate, warmupSeconds, durationSeconds, catalogSize,
+                writeRatio, listRatio, maxInFlight, List.copyOf(applicationArgs));
+    }
+
+    @Override
+    public String toString() {
+        return "rate=" + rate + "/s, warmup=" + warmupSeconds + "s, duration=" + durationSeconds
+                + "s, catalog=" + catalogSize + ", writes=" + writeRatio + ", lists=" + listRatio
+                + ", maxInFlight=" + maxInFlight;
+    }
+}
@@ -0,0 +1,100 @@
+package com.aspiresys.fp_micro_productservice.loadtest;
+
+import com.aspiresys.fp_micro_productservice.FpMicroProductserviceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local load test of the product service.
+ * <p>
+ * Boots the real application (test profile, H2 database) against an embedded Kafka broker
+ * and a stubbed JWKS endpoint, seeds a synthetic catalog, drives a mixed read/write
+ * scenario at a fixed request rate with an {@link OpenLoopLoadGenerator} and prints
+ * latency percentiles and error rates per endpoint.
+ * </p>
+ *
+ * Run with: {@code mvn -Ploadtest -DskipTests test-compile exec:exec -Dloadtest.args="--rate=300 --duration=60"}
+ * <br>
+ * Options: {@code --rate}, {@code --warmup}, {@code --duration}, {@code --catalog-size},
+ * {@code --write-ratio}, {@code --list-ratio} and {@code --max-in-flight} (see {@link LoadTestOptions});
+ * any other {@code --name=value} is passed to the application, e.g.
+ * {@code --logging.level.com.aspiresys.fp_micro_productservice=INFO}.
+ *
+ * @author bruno.gil
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // DevTools would restart the application (and this runner) in a new class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        System.out.println("Load test: " + options);
+
+        EmbeddedKafkaBroker kafka = new EmbeddedKafkaKraftBroker(1, 1, "product", "order");
+        kafka.afterPropertiesSet();
+        try (JwksStub jwks = new JwksStub();
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(FpMicroProductserviceApplication.class)
+                     .profiles("test")
+                     .run(applicationArgs(options, kafka.getBrokersAsString(), jwks.jwkSetUri()))) {
+
+            long seedStart = System.nanoTime();
+            CatalogSeeder.SeededCatalog catalog = new CatalogSeeder(context).seed(options.catalogSize());
+            System.out.printf("Seeded %d products in %d ms%n", options.catalogSize(),
+                    Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            String adminToken = jwks.issueToken("loadtest-admin@example.com", List.of("ADMIN"), Duration.ofHours(4));
+            ProductScenario scenario = new ProductScenario(baseUrl, adminToken, catalog,
+                    options.writeRatio(), options.listRatio());
+
+            LatencyReport report = new LatencyReport();
+            OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(options.rate(), options.maxInFlight());
+            try {
+                generator.run(scenario::next, options.warmupSeconds(), options.durationSeconds(), report);
+            } finally {
+                generator.shutdown();
+            }
+
+            System.out.println();
+            System.out.println("Latency in ms from the scheduled send time, " + options.durationSeconds()
+                    + "s measured after " + options.warmupSeconds() + "s warmup");
+            report.print(System.out, options.durationSeconds());
+        } finally {
+            kafka.destroy();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Application arguments: the harness settings, overridden by any passed-through option.
+     * They are passed as command-line arguments so they take precedence over the test profile.
+     */
+    private static String[] applicationArgs(LoadTestOptions options, String kafkaBrokers, String jwkSetUri) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.kafka.bootstrap-servers", kafkaBrokers);
+        properties.put("spring.security.oauth2.resourceserver.jwt.jwk-set-uri", jwkSetUri);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.com.aspiresys.fp_micro_productservice", "WARN");
+        properties.put("logging.level.org.springframework.aop", "WARN");
+        properties.put("kafka.spool.path", "target/loadtest/product-kafka-spool.dat");
+        // Every virtual user is the same client, which the per-client rate limits would throttle
+        properties.put("ratelimit.enabled", "false");
+
+        for (String arg : options.applicationArgs()) {
+            int separator = arg.indexOf('=');
+            properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+}
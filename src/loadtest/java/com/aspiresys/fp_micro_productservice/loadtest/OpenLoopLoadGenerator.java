@@ -0,0 +1,111 @@
+package com.aspiresys.fp_micro_productservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop load generator: requests are sent on a fixed schedule ({@code rate} per second)
+ * whether or not earlier requests have completed, like independent users would, instead of
+ * waiting for each response before sending the next request.
+ * <p>
+ * Requests are sent asynchronously. Each latency is measured from the request's scheduled
+ * send time, and at most {@code maxInFlight} requests may be outstanding; requests over
+ * that bound are not sent and are reported as rejected errors, so an overloaded service
+ * cannot exhaust the generator.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+    private final ExecutorService clientExecutor;
+    private final int rate;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+
+    public OpenLoopLoadGenerator(int rate, int maxInFlight) {
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.clientExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    /**
+     * Sends requests for {@code warmupSeconds + durationSeconds}; only the requests scheduled
+     * after the warmup are recorded in the report.
+     */
+    public void run(Supplier<ProductScenario.PlannedRequest> requests, int warmupSeconds, int durationSeconds,
+                    LatencyReport report) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (long i = 0; ; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            if (scheduledAt >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduledAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(requests.get(), scheduledAt, scheduledAt >= measureFrom ? report : null);
+        }
+
+        if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.err.println("Some requests were still in flight after " + DRAIN_TIMEOUT.toSeconds() + "s");
+        }
+    }
+
+    private void send(ProductScenario.PlannedRequest planned, long scheduledAt, LatencyReport report) {
+        if (!inFlight.tryAcquire()) {
+            if (report != null) {
+                report.record(planned.endpoint(), System.nanoTime() - scheduledAt, "REJECTED", true);
+            }
+            return;
+        }
+        httpClient.sendAsync(planned.request(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> {
+                    try {
+                        long latency = System.nanoTime() - scheduledAt;
+                        if (failure != null) {
+                            if (report != null) {
+                                String outcome = failure.getCause() instanceof HttpTimeoutException ? "TIMEOUT" : "FAILED";
+                                report.record(planned.endpoint(), latency, outcome, true);
+                            }
+                            return;
+                        }
+                        if (report != null) {
+                            report.record(planned.endpoint(), latency, String.valueOf(response.statusCode()),
+                                    response.statusCode() >= 500);
+                        }
+                        if (planned.onResponse() != null) {
+                            planned.onResponse().accept(response);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    public void shutdown() {
+        clientExecutor.shutdownNow();
+    }
+}
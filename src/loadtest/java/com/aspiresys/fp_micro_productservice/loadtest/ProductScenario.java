@@ -0,0 +1,154 @@
+package com.aspiresys.fp_micro_productservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Mixed read/write traffic against the product REST endpoints.
+ * <p>
+ * Reads are public; writes carry an ADMIN token issued by the {@link JwksStub}.
+ * Reads and updates target the seeded catalog; deletes only remove products the
+ * scenario created itself, so the seeded catalog keeps its size during the run.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class ProductScenario {
+
+    /**
+     * A request to send, with the endpoint it is reported under and an optional response hook.
+     */
+    public record PlannedRequest(String endpoint, HttpRequest request, Consumer<HttpResponse<String>> onResponse) {
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final String adminToken;
+    private final CatalogSeeder.SeededCatalog catalog;
+    private final double writeRatio;
+    private final double listRatio;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<Long> createdClothes = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ProductScenario(String baseUrl, String adminToken, CatalogSeeder.SeededCatalog catalog,
+                           double writeRatio, double listRatio) {
+        this.baseUrl = baseUrl;
+        this.adminToken = adminToken;
+        this.catalog = catalog;
+        this.writeRatio = writeRatio;
+        this.listRatio = listRatio;
+    }
+
+    /**
+     * Picks the next request according to the configured mix.
+     */
+    public PlannedRequest next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double roll = random.nextDouble();
+        if (roll < listRatio) {
+            return get("GET /products", "/products");
+        }
+        if (roll < listRatio + writeRatio) {
+            double write = random.nextDouble();
+            if (write < 0.5) {
+                return createClothes();
+            }
+            if (write < 0.85) {
+                return updateClothes(pick(catalog.clothesIds(), random));
+            }
+            Long created = createdClothes.poll();
+            return created != null ? deleteClothes(created) : createClothes();
+        }
+        double read = random.nextDouble();
+        if (read < 0.45) {
+            return get("GET /products/clothes/{id}", "/products/clothes/" + pick(catalog.clothesIds(), random));
+        }
+        if (read < 0.9) {
+            return get("GET /products/smartphones/{id}", "/products/smartphones/" + pick(catalog.smartphoneIds(), random));
+        }
+        return get("GET /products/categories", "/products/categories");
+    }
+
+    private PlannedRequest get(String endpoint, String path) {
+        return new PlannedRequest(endpoint, request(path).GET().build(), null);
+    }
+
+    private PlannedRequest createClothes() {
+        HttpRequest request = authorized("/products/clothes")
+                .POST(HttpRequest.BodyPublishers.ofString(clothesJson(sequence.incrementAndGet())))
+                .build();
+        return new PlannedRequest("POST /products/clothes", request, this::rememberCreated);
+    }
+
+    private PlannedRequest updateClothes(Long id) {
+        HttpRequest request = authorized("/products/clothes/" + id)
+                .PUT(HttpRequest.BodyPublishers.ofString(clothesJson(sequence.incrementAndGet())))
+                .build();
+        return new PlannedRequest("PUT /products/clothes/{id}", request, null);
+    }
+
+    private PlannedRequest deleteClothes(Long id) {
+        return new PlannedRequest("DELETE /products/clothes/{id}", authorized("/products/clothes/" + id).DELETE().build(), null);
+    }
+
+    private void rememberCreated(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            return;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+            if (id.canConvertToLong()) {
+                createdClothes.add(id.asLong());
+            }
+        } catch (Exception e) {
+            // The response is still recorded; the product is just not reused for deletes
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return request(path)
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Content-Type", "application/json");
+    }
+
+    private String clothesJson(long n) {
+        Map<String, Object> clothes = new LinkedHashMap<>();
+        clothes.put("name", "Load T-Shirt " + n);
+        clothes.put("price", 19.99);
+        clothes.put("category", "clothes");
+        clothes.put("imageUrl", "https://example.com/load/clothes/" + n + ".jpg");
+        clothes.put("stock", 10);
+        clothes.put("brand", "LoadBrand");
+        clothes.put("size", "M");
+        clothes.put("color", "Red");
+        clothes.put("fabricType", "Cotton");
+        try {
+            return objectMapper.writeValueAsString(clothes);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Long pick(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
@@ -24,7 +24,7 @@ public class FpMicroProductserviceApplication {
 	 * This will only run when the application is started in a non-test profile.
 	 */
 	@Bean
-	@Profile("!test")// this bean will not be loaded in the test profile
+	@Profile("!test & !catalog-generator")// not loaded in the test profile, nor when a synthetic catalog is generated
 	public CommandLineRunner dataLoader(
 			@Autowired ClothesRepository clothesRepository,
 			@Autowired SmartphoneRepository smartphoneRepository) {
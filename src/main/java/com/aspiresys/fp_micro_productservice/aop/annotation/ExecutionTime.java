@@ -24,12 +24,14 @@ public @interface ExecutionTime {
     /**
      * Threshold in milliseconds for performance alerts.
      * If the method takes longer than this threshold, a warning is logged.
+     * A negative value uses {@code aop.performance.default-warning-threshold}.
      */
-    long warningThreshold() default 1000;
+    long warningThreshold() default -1;
     
     /**
      * If detailed logging is enabled.
      * If true, additional information about the execution will be logged.
+     * Also enabled for every method by {@code aop.performance.detailed-logging}.
      */
     boolean detailed() default false;
 }
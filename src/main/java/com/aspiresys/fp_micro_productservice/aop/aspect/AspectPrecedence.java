@@ -0,0 +1,19 @@
+package com.aspiresys.fp_micro_productservice.aop.aspect;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+
+/**
+ * Aspect order for compile-time weaving (aspectj build profile).
+ * <p>
+ * ajc does not read Spring's {@code @Order}, so the order defined in
+ * {@link com.aspiresys.fp_micro_productservice.config.AopConfig} is declared here
+ * as well. This class is not a Spring bean and has no effect on proxy-based AOP.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Aspect
+@DeclarePrecedence("AuditAspect, TracingAspect, ExecutionTimeAspect, ProductOperationAspect, ValidationAspect")
+public class AspectPrecedence {
+}
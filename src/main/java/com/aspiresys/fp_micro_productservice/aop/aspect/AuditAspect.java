@@ -1,110 +1,138 @@
 package com.aspiresys.fp_micro_productservice.aop.aspect;
 
 import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
-import com.aspiresys.fp_micro_productservice.aop.annotation.Auditable;
-
-import lombok.extern.java.Log;
-
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEntityIds;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEvent;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEventPublisher;
+import com.aspiresys.fp_micro_productservice.aop.audit.ParameterSummaries;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadata;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.config.AopConfig;
+import com.aspiresys.fp_micro_productservice.config.AopRuntimeConfig;
 
 /**
  * Aspect to audit critical system operations.
- * Automatically logs who, what, when, and the result of operations.
+ * Automatically records who, what, when, and the result of operations.
+ * <p>
+ * The aspect only captures a small immutable {@link AuditEvent} on the request thread
+ * and hands it to the {@link AuditEventPublisher}; formatting and writing happen on the
+ * audit writer thread. Parameters and results are reduced to bounded summaries, so
+ * collections are recorded by size rather than by content.
+ * </p>
+ * <p>
+ * Enablement, sampling rate and parameter/result logging come from
+ * {@link AopRuntimeConfig} ({@code aop.audit.*}); names and annotation attributes
+ * come from the per-method {@link AdviceMetadata}.
+ * </p>
  * 
  * @author bruno.gil
  */
 @Aspect
 @Component
-@Log
+@Order(AopConfig.AUDIT_ORDER)
 public class AuditAspect {
 
-    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    @Autowired
+    private AuditEventPublisher auditEventPublisher;
+
+    @Autowired
+    private AopRuntimeConfig aopRuntimeConfig;
+
+    @Autowired
+    private AdviceMetadataCache adviceMetadataCache;
     
     /**
-     * It executes before methods annotated with @Auditable.
-     * Logs the operation details including user, operation name, entity type, class, method,
+     * Audits methods annotated with @Auditable.
+     * The sampling decision is taken once per call, so a sampled call always records
+     * its start together with its success or error.
      */
-    @Before("@annotation(auditable)")
-    public void auditBefore(JoinPoint joinPoint, Auditable auditable) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String userEmail = getCurrentUserEmail();
-        
-        StringBuilder auditLog = new StringBuilder();
-        auditLog.append("\n[PRODUCT-AUDIT-START] ").append(timestamp);
-        auditLog.append("\n|- User: ").append(userEmail);
-        auditLog.append("\n|- Operation: ").append(auditable.operation().isEmpty() ? methodName : auditable.operation());
-        auditLog.append("\n|- Entity Type: ").append(auditable.entityType().isEmpty() ? "Product" : auditable.entityType());
-        auditLog.append("\n|- Class: ").append(className);
-        auditLog.append("\n|- Method: ").append(methodName);
-        
-        if (auditable.logParameters() && joinPoint.getArgs().length > 0) {
-            auditLog.append("\n|- Parameters: ");
-            Object[] args = joinPoint.getArgs();
-            for (int i = 0; i < args.length; i++) {
-                if (i > 0) auditLog.append(", ");
-                auditLog.append(getSafeParameterString(args[i]));
-            }
+    @Around("execution(* *(..)) && @annotation(com.aspiresys.fp_micro_productservice.aop.annotation.Auditable)")
+    public Object audit(ProceedingJoinPoint joinPoint) throws Throwable {
+        AopRuntimeConfig.Snapshot config = aopRuntimeConfig.get();
+        if (!config.audit().shouldApply()) {
+            return joinPoint.proceed();
         }
-        
-        log.info(auditLog.toString());
+
+        AdviceMetadata metadata = adviceMetadataCache.get(joinPoint);
+        auditBefore(joinPoint, metadata, config);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable exception) {
+            auditAfterThrowing(joinPoint, metadata, exception);
+            throw exception;
+        }
+        auditAfterReturning(joinPoint, metadata, config, result);
+        return result;
     }
     
     /**
-     * It executes after the successful execution of methods annotated with @Auditable.
-     * Logs the operation details including operation name, status, and result.
+     * Records the operation details including user, operation name, entity type, class, method
+     * and, when enabled both on the annotation and in {@code aop.audit.log-parameters}, the parameters.
      */
-    @AfterReturning(pointcut = "@annotation(auditable)", returning = "result")
-    public void auditAfterReturning(JoinPoint joinPoint, Auditable auditable, Object result) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String methodName = joinPoint.getSignature().getName();
+    private void auditBefore(JoinPoint joinPoint, AdviceMetadata metadata, AopRuntimeConfig.Snapshot config) {
+        String parameters = null;
         
-        StringBuilder auditLog = new StringBuilder();
-        auditLog.append("\n[PRODUCT-AUDIT-SUCCESS] ").append(timestamp);
-        auditLog.append("\n|- Operation: ").append(auditable.operation().isEmpty() ? methodName : auditable.operation());
-        auditLog.append("\n|- Status: SUCCESS");
-        
-        if (auditable.logResult() && result != null) {
-            auditLog.append("\n|_ Result: ").append(getSafeParameterString(result));
-        } else {
-            auditLog.append("\n|_ Result: [Not logged]");
+        if (metadata.getAuditable().logParameters() && config.logParameters() && joinPoint.getArgs().length > 0) {
+            parameters = ParameterSummaries.ofArguments(joinPoint.getArgs());
         }
         
-        log.info(auditLog.toString());
+        auditEventPublisher.publish(baseEvent(metadata, AuditEvent.Phase.START)
+                .entityId(AuditEntityIds.fromArguments(joinPoint.getArgs()))
+                .detail(parameters)
+                .build());
     }
     
     /**
-     * It executes when an exception occurs in methods annotated with @Auditable.
-     * Logs the operation details including operation name, status, and exception details.
-     * 
+     * Records the operation details including operation name, status and, when requested by the
+     * annotation or by {@code aop.audit.log-results}, the result.
      */
-    @AfterThrowing(pointcut = "@annotation(auditable)", throwing = "exception")
-    public void auditAfterThrowing(JoinPoint joinPoint, Auditable auditable, Throwable exception) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String methodName = joinPoint.getSignature().getName();
-        String userEmail = getCurrentUserEmail();
-        
-        StringBuilder auditLog = new StringBuilder();
-        auditLog.append("\n[PRODUCT-AUDIT-ERROR] ").append(timestamp);
-        auditLog.append("\n|- User: ").append(userEmail);
-        auditLog.append("\n|- Operation: ").append(auditable.operation().isEmpty() ? methodName : auditable.operation());
-        auditLog.append("\n|- Status: ERROR");
-        auditLog.append("\n|- Exception: ").append(exception.getClass().getSimpleName());
-        auditLog.append("\n|_ Message: ").append(exception.getMessage());
+    private void auditAfterReturning(JoinPoint joinPoint, AdviceMetadata metadata, AopRuntimeConfig.Snapshot config,
+                                     Object result) {
+        boolean logResult = metadata.getAuditable().logResult() || config.logResults();
+        String resultSummary = logResult && result != null ? ParameterSummaries.of(result) : null;
+        Long entityId = AuditEntityIds.fromValue(result);
         
-        log.warning(auditLog.toString());
+        auditEventPublisher.publish(baseEvent(metadata, AuditEvent.Phase.SUCCESS)
+                .entityId(entityId != null ? entityId : AuditEntityIds.fromArguments(joinPoint.getArgs()))
+                .detail(resultSummary)
+                .build());
+    }
+    
+    /**
+     * Records the operation details including operation name, status, and exception details.
+     */
+    private void auditAfterThrowing(JoinPoint joinPoint, AdviceMetadata metadata, Throwable exception) {
+        auditEventPublisher.publish(baseEvent(metadata, AuditEvent.Phase.ERROR)
+                .entityId(AuditEntityIds.fromArguments(joinPoint.getArgs()))
+                .exceptionType(exception.getClass().getSimpleName())
+                .exceptionMessage(ParameterSummaries.truncate(exception.getMessage()))
+                .build());
+    }
+
+    /**
+     * Starts an event with the fields shared by every phase.
+     */
+    private AuditEvent.AuditEventBuilder baseEvent(AdviceMetadata metadata, AuditEvent.Phase phase) {
+        return AuditEvent.builder()
+                .timestampMillis(System.currentTimeMillis())
+                .source(AuditEvent.SOURCE_AUDIT)
+                .phase(phase)
+                .user(getCurrentUserEmail())
+                .operation(metadata.getAuditOperation())
+                .entityType(metadata.getAuditEntityType())
+                .className(metadata.getClassName())
+                .methodName(metadata.getMethodName());
     }
     
     /**
@@ -123,35 +151,4 @@ public class AuditAspect {
             return "PUBLIC_USER";
         }
     }
-    
-    /**
-     * Safely formats the parameter for logging.
-     * Avoids logging sensitive information such as passwords or credentials.
-     */
-    private String getSafeParameterString(Object parameter) {
-        if (parameter == null) {
-            return "null";
-        }
-        
-        // No loguear objetos que puedan contener información sensible
-        String className = parameter.getClass().getSimpleName();
-        if (className.toLowerCase().contains("password") || 
-            className.toLowerCase().contains("credential") ||
-            className.toLowerCase().contains("secret")) {
-            return "[SENSITIVE_DATA]";
-        }
-        
-        // Para arrays
-        if (parameter.getClass().isArray()) {
-            return Arrays.toString((Object[]) parameter);
-        }
-        
-        // Para strings largos, truncar
-        String str = parameter.toString();
-        if (str.length() > 200) {
-            return str.substring(0, 200) + "... [TRUNCATED]";
-        }
-        
-        return str;
-    }
 }
@@ -1,107 +1,181 @@
 package com.aspiresys.fp_micro_productservice.aop.aspect;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import com.aspiresys.fp_micro_productservice.aop.annotation.ExecutionTime;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadata;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.aop.performance.PerformanceDashboard;
+import com.aspiresys.fp_micro_productservice.config.AopConfig;
+import com.aspiresys.fp_micro_productservice.config.AopRuntimeConfig;
+import com.aspiresys.fp_micro_productservice.jfr.ProductOperationEvent;
 
 import lombok.extern.java.Log;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Aspect for measuring method execution time.
  * Provides performance metrics and performance alerts.
- * 
+ * <p>
+ * Every call is recorded (using {@link System#nanoTime()}) into a Micrometer timer named
+ * {@code product.operation.duration}, tagged by operation, class, method and outcome.
+ * The timers keep a time-windowed HDR histogram, so p50/p95/p99 and max are available
+ * per operation through {@code /actuator/metrics} and {@code /actuator/prometheus}.
+ * A log line is only written when an execution exceeds its warning threshold.
+ * </p>
+ * <p>
+ * Enablement, sampling rate, default threshold and detailed logging come from
+ * {@link AopRuntimeConfig} ({@code aop.performance.*}); with sampling, the timers
+ * only see the sampled calls. Names, thresholds and timers are resolved once per
+ * method ({@link AdviceMetadata}).
+ * </p>
+ * <p>
+ * Sampled calls also emit a {@link ProductOperationEvent} when a Flight Recorder
+ * recording has the event enabled, and are fed to the {@link PerformanceDashboard}
+ * ({@code /products/admin/performance}).
+ * </p>
+ *
  * @author bruno.gil
  */
 @Aspect
 @Component
+@Order(AopConfig.EXECUTION_TIME_ORDER)
 @Log
 public class ExecutionTimeAspect {
 
-    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
-    
+    static final String TIMER_NAME = "product.operation.duration";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AopRuntimeConfig aopRuntimeConfig;
+
+    @Autowired
+    private AdviceMetadataCache adviceMetadataCache;
+
+    @Autowired
+    private PerformanceDashboard performanceDashboard;
+
+    /**
+     * Success and error timers of one method, keyed by its (identity-compared) metadata.
+     */
+    private record OperationTimers(Timer success, Timer error) {
+    }
+
+    private final Map<AdviceMetadata, OperationTimers> timers = new ConcurrentHashMap<>();
+
     /**
      * Wraps method execution to measure time.
-     * Logs the start and end time, execution duration, and status.
+     * Records the duration in the operation timer and logs a warning when the threshold is exceeded.
      */
-    @Around("@annotation(executionTime)")
-    public Object measureExecutionTime(ProceedingJoinPoint joinPoint, ExecutionTime executionTime) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String operationName = executionTime.operation().isEmpty() ? methodName : executionTime.operation();
-        
-        // Registrar inicio
-        long startTime = System.currentTimeMillis();
-        String startTimestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        
-        if (executionTime.detailed()) {
-            log.info(String.format("[PRODUCT-PERFORMANCE-START] %s - Operation: %s (%s.%s)", 
-                    startTimestamp, operationName, className, methodName));
+    @Around("execution(* *(..)) && @annotation(com.aspiresys.fp_micro_productservice.aop.annotation.ExecutionTime)")
+    public Object measureExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+        AopRuntimeConfig.Snapshot config = aopRuntimeConfig.get();
+        if (!config.performance().shouldApply()) {
+            return joinPoint.proceed();
         }
-        
-        Object result = null;
-        boolean success = true;
+
+        AdviceMetadata metadata = adviceMetadataCache.get(joinPoint);
+        ProductOperationEvent event = ProductOperationEvent.beginIfActive();
+        long startNanos = System.nanoTime();
         Throwable exception = null;
-        
+
         try {
-            result = joinPoint.proceed();
-            return result;
+            return joinPoint.proceed();
         } catch (Throwable throwable) {
-            success = false;
             exception = throwable;
             throw throwable;
         } finally {
-            long endTime = System.currentTimeMillis();
-            long executionTimeMs = endTime - startTime;
-            String endTimestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-            
-            StringBuilder perfLog = new StringBuilder();
-            perfLog.append("\n[PRODUCT-PERFORMANCE-REPORT] ").append(endTimestamp);
-            perfLog.append("\n|- Operation: ").append(operationName);
-            perfLog.append("\n|- Class: ").append(className);
-            perfLog.append("\n|- Method: ").append(methodName);
-            perfLog.append("\n|- Execution Time: ").append(executionTimeMs).append(" ms");
-            perfLog.append("\n|- Status: ").append(success ? "SUCCESS" : "ERROR");
-            
-            if (executionTime.detailed()) {
-                perfLog.append("\n|- Start Time: ").append(startTimestamp);
-                perfLog.append("\n|- End Time: ").append(endTimestamp);
-                if (!success && exception != null) {
-                    perfLog.append("\n|- Exception: ").append(exception.getClass().getSimpleName());
+            long elapsedNanos = System.nanoTime() - startNanos;
+            ExecutionTime executionTime = metadata.getExecutionTime();
+            boolean success = exception == null;
+
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.operation = metadata.getTimedOperation();
+                    event.className = metadata.getClassName();
+                    event.methodName = metadata.getMethodName();
+                    event.success = success;
+                    event.commit();
                 }
             }
-            
-            if (executionTimeMs > executionTime.warningThreshold()) {
-                perfLog.append("\n|_ WARNING: Execution time exceeded threshold (")
-                       .append(executionTime.warningThreshold()).append(" ms)");
-                log.warning(perfLog.toString());
-            } else {
-                perfLog.append("\n|_ Performance: NORMAL");
-                log.info(perfLog.toString());
+
+            OperationTimers operationTimers = timersFor(metadata);
+            (success ? operationTimers.success() : operationTimers.error()).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            performanceDashboard.record(metadata, elapsedNanos, success, joinPoint::getArgs);
+
+            long executionTimeMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            long warningThreshold = executionTime.warningThreshold() < 0
+                    ? config.defaultWarningThreshold() : executionTime.warningThreshold();
+            boolean detailed = executionTime.detailed() || config.detailedLogging();
+            if (executionTimeMs > warningThreshold) {
+                logSlowExecution(metadata.getTimedOperation(), metadata.getClassName(), metadata.getMethodName(),
+                        executionTimeMs, warningThreshold, detailed, exception);
+            } else if (detailed) {
+                log.fine(() -> String.format("[PRODUCT-PERFORMANCE] Operation: %s (%s.%s) - %d ms - %s",
+                        metadata.getTimedOperation(), metadata.getClassName(), metadata.getMethodName(),
+                        executionTimeMs, success ? "SUCCESS" : "ERROR"));
             }
-            
-            logMetrics(operationName, className, methodName, executionTimeMs, success);
         }
     }
-    
+
+    /**
+     * Returns the timers for a method, creating and caching them on first use.
+     */
+    private OperationTimers timersFor(AdviceMetadata metadata) {
+        OperationTimers operationTimers = timers.get(metadata);
+        if (operationTimers == null) {
+            operationTimers = timers.computeIfAbsent(metadata, key -> new OperationTimers(
+                    timer(key, "SUCCESS"), timer(key, "ERROR")));
+        }
+        return operationTimers;
+    }
+
+    private Timer timer(AdviceMetadata metadata, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Execution time of @ExecutionTime operations")
+                .tag("operation", metadata.getTimedOperation())
+                .tag("class", metadata.getClassName())
+                .tag("method", metadata.getMethodName())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
     /**
-     * Logs performance metrics for the operation.
-     * This could be integrated with monitoring systems like Prometheus or Micrometer.
+     * Logs an execution that exceeded its warning threshold.
      */
-    private void logMetrics(String operation, String className, String methodName, 
-                           long executionTime, boolean success) {
-        
-        String metricsLog = String.format(
-            "PRODUCT_METRICS|operation=%s|class=%s|method=%s|execution_time_ms=%d|success=%s|timestamp=%s",
-            operation, className, methodName, executionTime, success, 
-            LocalDateTime.now().format(TIMESTAMP_FORMAT)
-        );
-        
-        log.info("[PRODUCT-METRICS] " + metricsLog);
+    private void logSlowExecution(String operationName, String className, String methodName,
+                                  long executionTimeMs, long warningThreshold, boolean detailed,
+                                  Throwable exception) {
+        StringBuilder perfLog = new StringBuilder();
+        perfLog.append("\n[PRODUCT-PERFORMANCE-REPORT]");
+        perfLog.append("\n|- Operation: ").append(operationName);
+        perfLog.append("\n|- Class: ").append(className);
+        perfLog.append("\n|- Method: ").append(methodName);
+        perfLog.append("\n|- Execution Time: ").append(executionTimeMs).append(" ms");
+        perfLog.append("\n|- Status: ").append(exception == null ? "SUCCESS" : "ERROR");
+        if (detailed && exception != null) {
+            perfLog.append("\n|- Exception: ").append(exception.getClass().getSimpleName());
+        }
+        perfLog.append("\n|_ WARNING: Execution time exceeded threshold (")
+               .append(warningThreshold).append(" ms)");
+        log.warning(perfLog.toString());
     }
 }
@@ -3,38 +3,63 @@ package com.aspiresys.fp_micro_productservice.aop.aspect;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEntityIds;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEvent;
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditEventPublisher;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadata;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.aop.metadata.CachedTimestampFormatter;
+import com.aspiresys.fp_micro_productservice.config.AopConfig;
+import com.aspiresys.fp_micro_productservice.config.AopRuntimeConfig;
 import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.ProductController;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
+import com.aspiresys.fp_micro_productservice.product.validation.Violation;
 
 import lombok.extern.java.Log;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-
 /**
  * Specific aspect for product operations.
  * Provides specialized logging, security validations and business metrics.
  * 
  * Pointcuts are annotations to define where the aspect should apply.
+ * All behaviour runs from a single around advice per call; method names and
+ * the kind of modification are resolved once per method ({@link AdviceMetadata}).
  * This aspect includes:
  * - Logging before and after operations in the controller
- * - Logging and additional validations for product modification operations
+ * - Audit events and additional validations for product modification operations
  * - Logging after successful operations in the service
  * - Logging when errors occur in the service
  * - Additional specific validations for product operations
  * 
+ * Logging is enabled and sampled through {@code aop.product-operation.*}
+ * ({@link AopRuntimeConfig}); the product validations always run.
+ * 
  * @author bruno.gil
  */
 @Aspect
 @Component
+@Order(AopConfig.PRODUCT_OPERATION_ORDER)
 @Log
 public class ProductOperationAspect {
 
-    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final CachedTimestampFormatter TIMESTAMP_FORMAT = new CachedTimestampFormatter("yyyy-MM-dd HH:mm:ss");
+
+    @Autowired
+    private AuditEventPublisher auditEventPublisher;
+
+    @Autowired
+    private AopRuntimeConfig aopRuntimeConfig;
+
+    @Autowired
+    private AdviceMetadataCache adviceMetadataCache;
     
     /**
      * Pointcut para todos los métodos del ProductController
@@ -49,116 +74,151 @@ public class ProductOperationAspect {
     public void productServiceMethods() {}
     
     /**
-     * Pointcut para métodos que modifican productos (save, delete)
+     * Interceptor único para el controller y el service de productos.
+     * El tipo de operación (controller, modificación, lectura) se resuelve una sola vez por
+     * método en {@link AdviceMetadata}; el muestreo se decide una vez por llamada.
      */
-    @Pointcut("execution(* com.aspiresys.fp_micro_productservice.product.ProductService.saveProduct(..)) || " +
-              "execution(* com.aspiresys.fp_micro_productservice.product.ProductService.deleteProduct(..))")
-    public void productModificationMethods() {}
+    @Around("productControllerMethods() || productServiceMethods()")
+    public Object logProductOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        AdviceMetadata metadata = adviceMetadataCache.get(joinPoint);
+        boolean sampled = aopRuntimeConfig.get().productOperation().shouldApply();
+
+        if (joinPoint.getTarget() instanceof ProductController) {
+            if (sampled) {
+                logBeforeProductController(joinPoint, metadata);
+            }
+            return joinPoint.proceed();
+        }
+
+        boolean modification = metadata.getModificationKind() != AdviceMetadata.ModificationKind.NONE;
+        if (!sampled) {
+            // Las validaciones se aplican siempre, aunque no se registre la operación
+            if (modification) {
+                validateProductOperation(joinPoint, metadata);
+            }
+            return joinPoint.proceed();
+        }
+
+        Object result;
+        try {
+            result = modification ? logProductModification(joinPoint, metadata) : joinPoint.proceed();
+        } catch (Throwable exception) {
+            logProductServiceError(metadata, exception);
+            throw exception;
+        }
+        logAfterProductService(metadata, result);
+        return result;
+    }
     
     /**
      * Log antes de operaciones en el controller
      */
-    @Before("productControllerMethods()")
-    public void logBeforeProductController(JoinPoint joinPoint) {
-        String userEmail = getCurrentUserEmail();
-        String methodName = joinPoint.getSignature().getName();
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        
+    private void logBeforeProductController(JoinPoint joinPoint, AdviceMetadata metadata) {
         log.info(String.format("[PRODUCT-CONTROLLER] %s - User: %s - Method: %s - Args: %d", 
-                timestamp, userEmail, methodName, joinPoint.getArgs().length));
+                TIMESTAMP_FORMAT.now(), getCurrentUserEmail(), metadata.getMethodName(), joinPoint.getArgs().length));
     }
     
     /**
-     * Log y validaciones adicionales para operaciones que modifican productos
+     * Registro de auditoría y validaciones adicionales para operaciones que modifican productos.
+     * Los eventos se envían al pipeline de auditoría asíncrono (log y tabla audit_record).
      */
-    @Around("productModificationMethods()")
-    public Object logProductModifications(ProceedingJoinPoint joinPoint) throws Throwable {
+    private Object logProductModification(ProceedingJoinPoint joinPoint, AdviceMetadata metadata) throws Throwable {
         String userEmail = getCurrentUserEmail();
-        String methodName = joinPoint.getSignature().getName();
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        String methodName = metadata.getMethodName();
+        Long entityId = AuditEntityIds.fromArguments(joinPoint.getArgs());
         long startTime = System.currentTimeMillis();
         
-        // Log inicio de operación crítica
-        log.info(String.format("\n[PRODUCT-MODIFICATION-START] %s\n|- User: %s\n|- Operation: %s\n└─ Critical product operation initiated", 
-                timestamp, userEmail, methodName));
+        // Registrar inicio de operación crítica
+        auditEventPublisher.publish(modificationEvent(AuditEvent.Phase.START, userEmail, methodName, startTime)
+                .entityId(entityId)
+                .build());
         
         try {
             // Validaciones adicionales para productos
-            validateProductOperation(joinPoint);
+            validateProductOperation(joinPoint, metadata);
             
             // Ejecutar método original
             Object result = joinPoint.proceed();
             
-            // Log éxito
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.info(String.format("\n[PRODUCT-MODIFICATION-SUCCESS] %s\n|- User: %s\n|- Operation: %s\n|- Duration: %d ms\n└─ Product operation completed successfully", 
-                    LocalDateTime.now().format(TIMESTAMP_FORMAT), userEmail, methodName, executionTime));
+            // Registrar éxito
+            long endTime = System.currentTimeMillis();
+            Long resultId = AuditEntityIds.fromValue(result);
+            auditEventPublisher.publish(modificationEvent(AuditEvent.Phase.SUCCESS, userEmail, methodName, endTime)
+                    .entityId(resultId != null ? resultId : entityId)
+                    .durationMs(endTime - startTime)
+                    .build());
             
             return result;
             
         } catch (Exception e) {
-            // Log error
-            long executionTime = System.currentTimeMillis() - startTime;
-            log.severe(String.format("\n[PRODUCT-MODIFICATION-ERROR] %s\n|- User: %s\n|- Operation: %s\n|- Duration: %d ms\n|- Error: %s\n└─ Message: %s", 
-                    LocalDateTime.now().format(TIMESTAMP_FORMAT), userEmail, methodName, executionTime, 
-                    e.getClass().getSimpleName(), e.getMessage()));
+            // Registrar error
+            long endTime = System.currentTimeMillis();
+            auditEventPublisher.publish(modificationEvent(AuditEvent.Phase.ERROR, userEmail, methodName, endTime)
+                    .entityId(entityId)
+                    .durationMs(endTime - startTime)
+                    .exceptionType(e.getClass().getSimpleName())
+                    .exceptionMessage(e.getMessage())
+                    .build());
             
             throw e;
         }
     }
+
+    private AuditEvent.AuditEventBuilder modificationEvent(AuditEvent.Phase phase, String userEmail,
+                                                           String methodName, long timestampMillis) {
+        return AuditEvent.builder()
+                .timestampMillis(timestampMillis)
+                .source(AuditEvent.SOURCE_PRODUCT_MODIFICATION)
+                .phase(phase)
+                .user(userEmail)
+                .operation(methodName)
+                .entityType("Product")
+                .className("ProductService")
+                .methodName(methodName);
+    }
     
     /**
      * Log después de operaciones exitosas en el service
      */
-    @AfterReturning(pointcut = "productServiceMethods()", returning = "result")
-    public void logAfterProductService(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
-        String resultInfo = getResultInfo(result);
-        
+    private void logAfterProductService(AdviceMetadata metadata, Object result) {
         log.info(String.format("[PRODUCT-SERVICE] Method: %s completed - Result: %s", 
-                methodName, resultInfo));
+                metadata.getMethodName(), getResultInfo(result)));
     }
     
     /**
      * Log cuando ocurren errores en el service
      */
-    @AfterThrowing(pointcut = "productServiceMethods()", throwing = "exception")
-    public void logProductServiceErrors(JoinPoint joinPoint, Throwable exception) {
-        String methodName = joinPoint.getSignature().getName();
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        
+    private void logProductServiceError(AdviceMetadata metadata, Throwable exception) {
         log.warning(String.format("\n[PRODUCT-SERVICE-ERROR] %s\n|- Method: %s\n|- Exception: %s\n└─ Message: %s", 
-                timestamp, methodName, exception.getClass().getSimpleName(), exception.getMessage()));
+                TIMESTAMP_FORMAT.now(), metadata.getMethodName(), exception.getClass().getSimpleName(), exception.getMessage()));
     }
     
     /**
      * Validaciones adicionales específicas para operaciones de productos
      */
-    private void validateProductOperation(ProceedingJoinPoint joinPoint) {
+    private void validateProductOperation(ProceedingJoinPoint joinPoint, AdviceMetadata metadata) {
         Object[] args = joinPoint.getArgs();
-        String methodName = joinPoint.getSignature().getName();
+        AdviceMetadata.ModificationKind kind = metadata.getModificationKind();
         
         // Validar si hay un producto en los parámetros
         for (Object arg : args) {
             if (arg instanceof Product) {
                 Product product = (Product) arg;
                 
-                // Validaciones específicas para productos
-                if (methodName.equals("saveProduct")) {
-                    if (product.getName() == null || product.getName().trim().isEmpty()) {
-                        throw new IllegalArgumentException("Product name cannot be null or empty");
-                    }
-                    if (product.getPrice() == null || product.getPrice() <= 0) {
-                        throw new IllegalArgumentException("Product price must be greater than 0");
+                // Validaciones específicas para productos (reglas compiladas en ProductRules)
+                if (kind == AdviceMetadata.ModificationKind.SAVE) {
+                    Violation violation = ProductValidators.savePreconditions().firstViolation(product);
+                    if (violation != null) {
+                        throw new IllegalArgumentException(violation.message());
                     }
                 }
                 
-                log.fine(String.format("Product validation passed for %s - Product: %s", 
-                        methodName, product.getName() != null ? product.getName() : "Unknown"));
+                log.fine(() -> String.format("Product validation passed for %s - Product: %s", 
+                        metadata.getMethodName(), product.getName() != null ? product.getName() : "Unknown"));
             }
             
             // Validar IDs para operaciones de eliminación
-            if (methodName.equals("deleteProduct") && arg instanceof Long) {
+            if (kind == AdviceMetadata.ModificationKind.DELETE && arg instanceof Long) {
                 Long productId = (Long) arg;
                 if (productId <= 0) {
                     throw new IllegalArgumentException("Product ID must be greater than 0");
@@ -0,0 +1,42 @@
+package com.aspiresys.fp_micro_productservice.aop.aspect;
+
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.config.AopConfig;
+import com.aspiresys.fp_micro_productservice.tracing.Spans;
+
+/**
+ * Aspect that opens a tracing span around every {@code @ExecutionTime} method.
+ * <p>
+ * The span is named {@code Class.method} and is a child of the current span (the HTTP
+ * server span for requests); calls outside a trace are not traced. It wraps the
+ * {@link ExecutionTimeAspect}, so the span covers the measured time, and is not sampled
+ * with {@code aop.performance.*}: trace sampling is decided once per trace by
+ * {@code management.tracing.sampling.probability}.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Aspect
+@Component
+@Order(AopConfig.TRACING_ORDER)
+public class TracingAspect {
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private AdviceMetadataCache adviceMetadataCache;
+
+    @Around("execution(* *(..)) && @annotation(com.aspiresys.fp_micro_productservice.aop.annotation.ExecutionTime)")
+    public Object traceExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+        return Spans.inChildSpan(tracer, adviceMetadataCache.get(joinPoint).getSpanName(), joinPoint::proceed);
+    }
+}
@@ -3,80 +3,72 @@ package com.aspiresys.fp_micro_productservice.aop.aspect;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import com.aspiresys.fp_micro_productservice.aop.annotation.ValidateParameters;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadata;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.config.AopConfig;
+import com.aspiresys.fp_micro_productservice.config.AopRuntimeConfig;
 
 import lombok.extern.java.Log;
 
-import java.util.Collection;
+import java.util.List;
 
 /**
  * Aspect for validating method input parameters.
  * Provides automatic validations before method execution.
+ * <p>
+ * Validation is never sampled. {@code aop.validation.enabled} turns it on or off and
+ * {@code aop.validation.fail-fast} decides whether the first violation is reported
+ * or all violations are collected into a single exception ({@link AopRuntimeConfig}).
+ * The checks of each method are compiled once from its parameter types
+ * ({@link com.aspiresys.fp_micro_productservice.aop.metadata.ParameterValidator}).
+ * </p>
  * 
  * @author bruno.gil
  */
 @Aspect
 @Component
+@Order(AopConfig.VALIDATION_ORDER)
 @Log
 public class ValidationAspect {
+
+    @Autowired
+    private AopRuntimeConfig aopRuntimeConfig;
+
+    @Autowired
+    private AdviceMetadataCache adviceMetadataCache;
     
     /**
      * Validates parameters before method execution.
      */
-    @Before("@annotation(validateParameters)")
-    public void validateMethodParameters(JoinPoint joinPoint, ValidateParameters validateParameters) {
-        Object[] args = joinPoint.getArgs();
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        
-        if (validateParameters.notNull()) {
-            for (int i = 0; i < args.length; i++) {
-                if (args[i] == null) {
-                    String errorMessage = String.format(
-                        "Product service parameter validation failed in %s.%s(): Parameter at index %d is null. %s",
-                        className, methodName, i, validateParameters.message()
-                    );
-                    log.severe(errorMessage);
-                    throw new IllegalArgumentException(errorMessage);
-                }
-            }
+    @Before("execution(* *(..)) && @annotation(com.aspiresys.fp_micro_productservice.aop.annotation.ValidateParameters)")
+    public void validateMethodParameters(JoinPoint joinPoint) {
+        AopRuntimeConfig.Snapshot config = aopRuntimeConfig.get();
+        if (!config.validationEnabled()) {
+            return;
         }
-        
-        if (validateParameters.notEmpty()) {
-            for (int i = 0; i < args.length; i++) {
-                Object arg = args[i];
-                if (arg != null) {
-                    if (arg instanceof Collection && ((Collection<?>) arg).isEmpty()) {
-                        String errorMessage = String.format(
-                            "Product service parameter validation failed in %s.%s(): Collection parameter at index %d is empty. %s",
-                            className, methodName, i, validateParameters.message()
-                        );
-                        log.severe(errorMessage);
-                        throw new IllegalArgumentException(errorMessage);
-                    }
-                    if (arg instanceof String && ((String) arg).trim().isEmpty()) {
-                        String errorMessage = String.format(
-                            "Product service parameter validation failed in %s.%s(): String parameter at index %d is empty. %s",
-                            className, methodName, i, validateParameters.message()
-                        );
-                        log.severe(errorMessage);
-                        throw new IllegalArgumentException(errorMessage);
-                    }
-                    if (arg.getClass().isArray() && java.lang.reflect.Array.getLength(arg) == 0) {
-                        String errorMessage = String.format(
-                            "Product service parameter validation failed in %s.%s(): Array parameter at index %d is empty. %s",
-                            className, methodName, i, validateParameters.message()
-                        );
-                        log.severe(errorMessage);
-                        throw new IllegalArgumentException(errorMessage);
-                    }
-                }
-            }
+
+        AdviceMetadata metadata = adviceMetadataCache.get(joinPoint);
+        ValidateParameters validateParameters = metadata.getValidateParameters();
+        Object[] args = joinPoint.getArgs();
+        String methodName = metadata.getMethodName();
+        String className = metadata.getClassName();
+        List<String> violations = metadata.getParameterValidator().violations(args, config.validationFailFast());
+
+        if (!violations.isEmpty()) {
+            String errorMessage = String.format(
+                "Product service parameter validation failed in %s.%s(): %s. %s",
+                className, methodName, String.join("; ", violations), validateParameters.message()
+            );
+            log.severe(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
         }
         
-        log.fine(String.format("Product service parameter validation passed for %s.%s() with %d parameters", 
+        log.fine(() -> String.format("Product service parameter validation passed for %s.%s() with %d parameters", 
                 className, methodName, args.length));
     }
 }
@@ -0,0 +1,55 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST Controller for querying the persisted audit trail.
+ * 
+ * This controller is restricted to ADMIN users only. Example:
+ * {@code GET /products/admin/audit?productId=42&from=2025-01-01T00:00:00Z&to=2025-01-08T00:00:00Z}
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/audit")
+@Log
+public class AuditController {
+
+    @Autowired
+    private AuditQueryService auditQueryService;
+
+    /**
+     * Searches audit records by user, product id, operation and time range (ISO-8601 instants).
+     * All filters are optional; results are ordered newest first.
+     *
+     * @return ResponseEntity with the matching audit records
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<List<AuditRecord>>> searchAudit(
+            @RequestParam(required = false) String user,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) String operation,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) Integer limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            return ResponseEntity.badRequest()
+                    .body(new AppResponse<>("'from' must be before 'to'", null));
+        }
+        List<AuditRecord> records = auditQueryService.search(user, productId, operation, from, to, limit);
+        log.info("Admin queried audit trail. Records returned: " + records.size());
+        return ResponseEntity.ok(new AppResponse<>("Audit records retrieved successfully", records));
+    }
+}
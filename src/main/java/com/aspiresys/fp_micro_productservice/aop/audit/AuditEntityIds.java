@@ -0,0 +1,50 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import com.aspiresys.fp_micro_productservice.product.Product;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Extracts the product id an audited call refers to, so audit records can be
+ * queried by product.
+ *
+ * @author bruno.gil
+ */
+public final class AuditEntityIds {
+
+    private AuditEntityIds() {
+    }
+
+    /**
+     * Returns the id of the first product or id found in the arguments, or null.
+     */
+    public static Long fromArguments(Object[] args) {
+        for (Object arg : args) {
+            Long id = fromValue(arg);
+            if (id != null) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the product id carried by a value: a product, a product id, or a
+     * response wrapping a single product. Returns null otherwise.
+     */
+    public static Long fromValue(Object value) {
+        if (value instanceof Product product) {
+            return product.getId();
+        }
+        if (value instanceof Long id) {
+            return id;
+        }
+        if (value instanceof ResponseEntity<?> response) {
+            return fromValue(response.getBody());
+        }
+        if (value instanceof AppResponse<?> appResponse && appResponse.getData() instanceof Product product) {
+            return product.getId();
+        }
+        return null;
+    }
+}
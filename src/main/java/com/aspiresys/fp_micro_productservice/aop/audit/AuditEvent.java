@@ -0,0 +1,57 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable audit record captured by the audit aspects on the request thread.
+ * <p>
+ * Only small, already-summarized values are stored so that capturing an event
+ * is cheap; formatting and writing happen later on the audit writer thread.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public final class AuditEvent {
+
+    public enum Phase { START, SUCCESS, ERROR }
+
+    /**
+     * Events recorded by {@code AuditAspect} for {@code @Auditable} methods.
+     */
+    public static final String SOURCE_AUDIT = "AUDIT";
+
+    /**
+     * Events recorded by {@code ProductOperationAspect} for product modifications.
+     */
+    public static final String SOURCE_PRODUCT_MODIFICATION = "PRODUCT_MODIFICATION";
+
+    private final long timestampMillis;
+    private final String source;
+    private final Phase phase;
+    private final String user;
+    private final String operation;
+    private final String entityType;
+    private final Long entityId;
+    private final String className;
+    private final String methodName;
+
+    /**
+     * Summarized parameters (START) or result (SUCCESS); null when not logged.
+     */
+    private final String detail;
+
+    private final String exceptionType;
+    private final String exceptionMessage;
+
+    /**
+     * Duration of the operation for SUCCESS/ERROR events, when measured.
+     */
+    private final Long durationMs;
+}
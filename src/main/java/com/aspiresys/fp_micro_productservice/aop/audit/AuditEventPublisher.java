@@ -0,0 +1,162 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import com.aspiresys.fp_micro_productservice.config.AopProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous audit pipeline.
+ * <p>
+ * Request threads hand small {@link AuditEvent}s to {@link #publish(AuditEvent)}, which
+ * only places them in a bounded lock-free {@link AuditRingBuffer}. A single background
+ * writer thread drains the buffer in batches and passes each batch to every
+ * {@link AuditSink}. When the buffer is full the configured {@link AuditOverflowPolicy}
+ * decides whether the event is dropped immediately or after a short bounded wait.
+ * </p>
+ *
+ * Configuration (prefix {@code aop.audit}):
+ * <ul>
+ *   <li><b>buffer-size</b>: buffer capacity (default 8192)</li>
+ *   <li><b>batch-size</b>: maximum events per sink call (default 256)</li>
+ *   <li><b>flush-interval-ms</b>: writer idle wait (default 200)</li>
+ *   <li><b>overflow-policy</b>: DROP or BLOCK (default DROP)</li>
+ *   <li><b>block-timeout-ms</b>: maximum wait with the BLOCK policy (default 5)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class AuditEventPublisher {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    @Autowired
+    private AopProperties aopProperties;
+
+    @Autowired
+    private List<AuditSink> sinks;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private AuditRingBuffer<AuditEvent> buffer;
+    private int batchSize;
+    private long flushIntervalNanos;
+    private AuditOverflowPolicy overflowPolicy;
+    private long blockTimeoutNanos;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    private Counter published;
+    private Counter dropped;
+    private Counter written;
+    private Counter sinkErrors;
+
+    @PostConstruct
+    void start() {
+        AopProperties.Audit audit = aopProperties.getAudit();
+        buffer = new AuditRingBuffer<>(audit.getBufferSize());
+        batchSize = Math.max(1, audit.getBatchSize());
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, audit.getFlushIntervalMs()));
+        overflowPolicy = audit.getOverflowPolicy();
+        blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(audit.getBlockTimeoutMs());
+
+        published = meterRegistry.counter("product.audit.events.published");
+        dropped = meterRegistry.counter("product.audit.events.dropped");
+        written = meterRegistry.counter("product.audit.events.written");
+        sinkErrors = meterRegistry.counter("product.audit.sink.errors");
+        meterRegistry.gauge("product.audit.buffer.size", buffer, AuditRingBuffer::size);
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        log.info("Audit pipeline started (buffer: " + buffer.capacity() + ", batch: " + batchSize +
+                ", overflow policy: " + overflowPolicy + ")");
+    }
+
+    /**
+     * Queues an event for asynchronous writing. Never throws and never blocks longer
+     * than the configured block timeout.
+     *
+     * @return false if the event was dropped because the buffer was full
+     */
+    public boolean publish(AuditEvent event) {
+        boolean accepted = buffer.offer(event);
+        if (!accepted && overflowPolicy == AuditOverflowPolicy.BLOCK) {
+            LockSupport.unpark(writerThread);
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (!accepted && System.nanoTime() < deadline) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                accepted = buffer.offer(event);
+            }
+        }
+        if (!accepted) {
+            dropped.increment();
+            return false;
+        }
+        published.increment();
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    /**
+     * Number of events waiting to be written.
+     */
+    public int pendingEvents() {
+        return buffer.size();
+    }
+
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (drainBatch(batch) == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+        // Write whatever is left after shutdown was requested
+        while (drainBatch(batch) > 0) {
+            // keep draining
+        }
+    }
+
+    private int drainBatch(List<AuditEvent> batch) {
+        int drained = buffer.drainTo(batch, batchSize);
+        if (drained > 0) {
+            for (AuditSink sink : sinks) {
+                try {
+                    sink.write(batch);
+                } catch (Exception e) {
+                    sinkErrors.increment();
+                    log.severe("Audit sink " + sink.getClass().getSimpleName() + " failed to write " +
+                            drained + " events: " + e.getMessage());
+                }
+            }
+            written.increment(drained);
+            batch.clear();
+        }
+        return drained;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
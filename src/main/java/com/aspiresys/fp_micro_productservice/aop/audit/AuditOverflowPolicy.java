@@ -0,0 +1,20 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+/**
+ * Behaviour of the audit pipeline when its buffer is full.
+ *
+ * @author bruno.gil
+ */
+public enum AuditOverflowPolicy {
+
+    /**
+     * Discard the new event immediately; the request is never slowed down.
+     */
+    DROP,
+
+    /**
+     * Apply backpressure: the request thread waits a bounded time for space,
+     * then discards the event.
+     */
+    BLOCK
+}
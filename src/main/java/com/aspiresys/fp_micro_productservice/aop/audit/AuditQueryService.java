@@ -0,0 +1,67 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Queries persisted audit records.
+ * <p>
+ * Only the filters that are present become predicates, so each query can use the
+ * matching {@code (column, event_time)} index of the audit table.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Service
+public class AuditQueryService {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private AuditRecordRepository auditRecordRepository;
+
+    /**
+     * Finds audit records matching all given filters, newest first.
+     * Null filters are ignored.
+     *
+     * @param userId    subject of the user who performed the operation
+     * @param productId id of the product the operation refers to
+     * @param operation operation name
+     * @param from      inclusive lower bound of the event time
+     * @param to        exclusive upper bound of the event time
+     * @param limit     maximum number of records (capped at {@value #MAX_LIMIT})
+     * @return matching records, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<AuditRecord> search(String userId, Long productId, String operation,
+                                    Instant from, Instant to, Integer limit) {
+        Specification<AuditRecord> spec = (root, query, cb) -> cb.conjunction();
+        if (userId != null && !userId.isBlank()) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("userId"), userId));
+        }
+        if (productId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("entityId"), productId));
+        }
+        if (operation != null && !operation.isBlank()) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("operation"), operation));
+        }
+        if (from != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("eventTime"), from));
+        }
+        if (to != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThan(root.get("eventTime"), to));
+        }
+
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        PageRequest page = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "eventTime", "id"));
+        return auditRecordRepository.findAll(spec, page).getContent();
+    }
+}
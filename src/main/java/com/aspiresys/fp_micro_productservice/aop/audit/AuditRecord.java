@@ -0,0 +1,80 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Persisted audit event.
+ * <p>
+ * Rows are inserted in batches by {@link JdbcAuditSink}; this mapping defines the
+ * table and its indexes and is used for queries. {@code eventDay} buckets rows by
+ * UTC day so retention deletes whole days through the {@code idx_audit_day} index
+ * (and maps directly onto range partitions where the database supports them).
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Entity
+@Table(name = "audit_record", indexes = {
+        @Index(name = "idx_audit_user_time", columnList = "user_id, event_time"),
+        @Index(name = "idx_audit_entity_time", columnList = "entity_id, event_time"),
+        @Index(name = "idx_audit_operation_time", columnList = "operation, event_time"),
+        @Index(name = "idx_audit_time", columnList = "event_time"),
+        @Index(name = "idx_audit_day", columnList = "event_day")
+})
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class AuditRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_time", nullable = false)
+    private Instant eventTime;
+
+    @Column(name = "event_day", nullable = false)
+    private LocalDate eventDay;
+
+    @Column(length = 32)
+    private String source;
+
+    @Column(length = 16)
+    private String phase;
+
+    @Column(name = "user_id")
+    private String userId;
+
+    private String operation;
+
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    private String className;
+
+    private String methodName;
+
+    @Column(length = 1000)
+    private String detail;
+
+    private String exceptionType;
+
+    @Column(length = 1000)
+    private String exceptionMessage;
+
+    private Long durationMs;
+}
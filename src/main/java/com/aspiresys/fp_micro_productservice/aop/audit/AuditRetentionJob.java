@@ -0,0 +1,90 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import com.aspiresys.fp_micro_productservice.config.AopProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Periodically removes audit records older than the retention period.
+ * <p>
+ * Records are removed a whole day at a time using the {@code event_day} bucket,
+ * which keeps the delete an index range scan independent of the table size.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>aop.audit.store.retention-days</b>: days of audit history to keep (default 90)</li>
+ *   <li><b>aop.audit.store.retention-interval-minutes</b>: how often retention runs (default 60)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@ConditionalOnProperty(name = "aop.audit.store.enabled", havingValue = "true", matchIfMissing = true)
+@Log
+public class AuditRetentionJob {
+
+    static final String DELETE_SQL = "DELETE FROM audit_record WHERE event_day = ?";
+    static final String OLDEST_DAY_SQL = "SELECT MIN(event_day) FROM audit_record";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AopProperties aopProperties;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> purgeTask;
+
+    @PostConstruct
+    void start() {
+        long interval = Math.max(1, aopProperties.getAudit().getStore().getRetentionIntervalMinutes());
+        Duration delay = Duration.ofMinutes(interval);
+        purgeTask = taskScheduler.scheduleWithFixedDelay(this::purgeExpired, Instant.now().plus(delay), delay);
+    }
+
+    /**
+     * Deletes every day bucket older than the retention period, oldest first.
+     *
+     * @return the number of records deleted
+     */
+    public int purgeExpired() {
+        LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(aopProperties.getAudit().getStore().getRetentionDays());
+        int deleted = 0;
+        try {
+            Date oldest = jdbcTemplate.queryForObject(OLDEST_DAY_SQL, Date.class);
+            if (oldest == null) {
+                return 0;
+            }
+            for (LocalDate day = oldest.toLocalDate(); day.isBefore(cutoff); day = day.plusDays(1)) {
+                deleted += jdbcTemplate.update(DELETE_SQL, Date.valueOf(day));
+            }
+            if (deleted > 0) {
+                log.info("Audit retention removed " + deleted + " records older than " + cutoff);
+            }
+        } catch (Exception e) {
+            log.warning("Audit retention failed: " + e.getMessage());
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        purgeTask.cancel(true);
+    }
+}
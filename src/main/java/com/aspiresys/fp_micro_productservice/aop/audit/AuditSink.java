@@ -0,0 +1,12 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import java.util.List;
+
+/**
+ * Destination for batches of audit events, invoked on the audit writer thread.
+ *
+ * @author bruno.gil
+ */
+public interface AuditSink {
+    void write(List<AuditEvent> batch);
+}
@@ -0,0 +1,90 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Audit sink that persists events to the {@code audit_record} table.
+ * <p>
+ * Each batch drained by the audit writer is written with a single JDBC batch
+ * insert, so persisting audit events costs one round trip per batch rather
+ * than one per event.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>aop.audit.store.enabled</b>: whether audit events are persisted (default true)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@ConditionalOnProperty(name = "aop.audit.store.enabled", havingValue = "true", matchIfMissing = true)
+@Log
+public class JdbcAuditSink implements AuditSink {
+
+    static final String INSERT_SQL = "INSERT INTO audit_record (event_time, event_day, source, phase, user_id, " +
+            "operation, entity_type, entity_id, class_name, method_name, detail, exception_type, " +
+            "exception_message, duration_ms) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_TEXT_LENGTH = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void write(List<AuditEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AuditEvent event = batch.get(i);
+                Instant eventTime = Instant.ofEpochMilli(event.getTimestampMillis());
+                ps.setTimestamp(1, Timestamp.from(eventTime));
+                ps.setDate(2, Date.valueOf(LocalDate.ofInstant(eventTime, ZoneOffset.UTC)));
+                ps.setString(3, event.getSource());
+                ps.setString(4, event.getPhase().name());
+                ps.setString(5, event.getUser());
+                ps.setString(6, event.getOperation());
+                ps.setString(7, event.getEntityType());
+                setLong(ps, 8, event.getEntityId());
+                ps.setString(9, event.getClassName());
+                ps.setString(10, event.getMethodName());
+                ps.setString(11, limit(event.getDetail()));
+                ps.setString(12, event.getExceptionType());
+                ps.setString(13, limit(event.getExceptionMessage()));
+                setLong(ps, 14, event.getDurationMs());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static String limit(String value) {
+        return value != null && value.length() > MAX_TEXT_LENGTH ? value.substring(0, MAX_TEXT_LENGTH) : value;
+    }
+}
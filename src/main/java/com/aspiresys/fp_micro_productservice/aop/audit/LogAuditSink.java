@@ -0,0 +1,82 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import lombok.extern.java.Log;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Audit sink that writes events to the application log using the
+ * {@code [PRODUCT-AUDIT-*]} and {@code [PRODUCT-MODIFICATION-*]} formats.
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class LogAuditSink implements AuditSink {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    @Override
+    public void write(List<AuditEvent> batch) {
+        for (AuditEvent event : batch) {
+            if (event.getPhase() == AuditEvent.Phase.ERROR) {
+                log.warning(format(event));
+            } else {
+                log.info(format(event));
+            }
+        }
+    }
+
+    String format(AuditEvent event) {
+        String timestamp = TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(event.getTimestampMillis()));
+        if (AuditEvent.SOURCE_PRODUCT_MODIFICATION.equals(event.getSource())) {
+            return formatModification(event, timestamp);
+        }
+        StringBuilder auditLog = new StringBuilder();
+        switch (event.getPhase()) {
+            case START -> {
+                auditLog.append("\n[PRODUCT-AUDIT-START] ").append(timestamp);
+                auditLog.append("\n|- User: ").append(event.getUser());
+                auditLog.append("\n|- Operation: ").append(event.getOperation());
+                auditLog.append("\n|- Entity Type: ").append(event.getEntityType());
+                auditLog.append("\n|- Class: ").append(event.getClassName());
+                auditLog.append("\n|- Method: ").append(event.getMethodName());
+                if (event.getDetail() != null) {
+                    auditLog.append("\n|- Parameters: ").append(event.getDetail());
+                }
+            }
+            case SUCCESS -> {
+                auditLog.append("\n[PRODUCT-AUDIT-SUCCESS] ").append(timestamp);
+                auditLog.append("\n|- Operation: ").append(event.getOperation());
+                auditLog.append("\n|- Status: SUCCESS");
+                auditLog.append("\n|_ Result: ").append(event.getDetail() != null ? event.getDetail() : "[Not logged]");
+            }
+            case ERROR -> {
+                auditLog.append("\n[PRODUCT-AUDIT-ERROR] ").append(timestamp);
+                auditLog.append("\n|- User: ").append(event.getUser());
+                auditLog.append("\n|- Operation: ").append(event.getOperation());
+                auditLog.append("\n|- Status: ERROR");
+                auditLog.append("\n|- Exception: ").append(event.getExceptionType());
+                auditLog.append("\n|_ Message: ").append(event.getExceptionMessage());
+            }
+        }
+        return auditLog.toString();
+    }
+
+    private String formatModification(AuditEvent event, String timestamp) {
+        return switch (event.getPhase()) {
+            case START -> String.format("\n[PRODUCT-MODIFICATION-START] %s\n|- User: %s\n|- Operation: %s\n└─ Critical product operation initiated",
+                    timestamp, event.getUser(), event.getOperation());
+            case SUCCESS -> String.format("\n[PRODUCT-MODIFICATION-SUCCESS] %s\n|- User: %s\n|- Operation: %s\n|- Duration: %d ms\n└─ Product operation completed successfully",
+                    timestamp, event.getUser(), event.getOperation(), event.getDurationMs());
+            case ERROR -> String.format("\n[PRODUCT-MODIFICATION-ERROR] %s\n|- User: %s\n|- Operation: %s\n|- Duration: %d ms\n|- Error: %s\n└─ Message: %s",
+                    timestamp, event.getUser(), event.getOperation(), event.getDurationMs(),
+                    event.getExceptionType(), event.getExceptionMessage());
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Reduces parameters and results to bounded, non-sensitive summaries, so they
+ * can be kept in audit records and in the performance dashboard.
+ *
+ * @author bruno.gil
+ */
+public final class ParameterSummaries {
+
+    static final int MAX_SUMMARY_LENGTH = 200;
+
+    private ParameterSummaries() {
+    }
+
+    /**
+     * Summarizes every argument of a call, comma separated.
+     */
+    public static String ofArguments(Object[] args) {
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) summary.append(", ");
+            summary.append(of(args[i]));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Safely summarizes a parameter.
+     * Avoids recording sensitive information such as passwords or credentials, and
+     * keeps the summary bounded: collections, maps and arrays are recorded by size,
+     * response wrappers are unwrapped, and long strings are truncated.
+     */
+    public static String of(Object parameter) {
+        if (parameter == null) {
+            return "null";
+        }
+
+        // No loguear objetos que puedan contener información sensible
+        String className = parameter.getClass().getSimpleName();
+        if (className.toLowerCase().contains("password") ||
+            className.toLowerCase().contains("credential") ||
+            className.toLowerCase().contains("secret")) {
+            return "[SENSITIVE_DATA]";
+        }
+
+        // Respuestas HTTP: resumir el cuerpo
+        if (parameter instanceof ResponseEntity<?> response) {
+            return "ResponseEntity[" + response.getStatusCode() + ", " + of(response.getBody()) + "]";
+        }
+        if (parameter instanceof AppResponse<?> appResponse) {
+            return "AppResponse[message=" + truncate(appResponse.getMessage()) +
+                   ", data=" + of(appResponse.getData()) + "]";
+        }
+
+        // Para colecciones y arrays, solo el tamaño
+        if (parameter instanceof Collection<?> collection) {
+            return className + "[" + collection.size() + " items]";
+        }
+        if (parameter instanceof Map<?, ?> map) {
+            return className + "[" + map.size() + " entries]";
+        }
+        if (parameter.getClass().isArray()) {
+            return parameter.getClass().getComponentType().getSimpleName() +
+                   "[" + Array.getLength(parameter) + " items]";
+        }
+
+        // Para strings largos, truncar
+        return truncate(parameter.toString());
+    }
+
+    /**
+     * Truncates a value to {@value #MAX_SUMMARY_LENGTH} characters.
+     */
+    public static String truncate(String value) {
+        if (value != null && value.length() > MAX_SUMMARY_LENGTH) {
+            return value.substring(0, MAX_SUMMARY_LENGTH) + "... [TRUNCATED]";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,87 @@
+package com.aspiresys.fp_micro_productservice.aop.metadata;
+
+import com.aspiresys.fp_micro_productservice.aop.annotation.Auditable;
+import com.aspiresys.fp_micro_productservice.aop.annotation.ExecutionTime;
+import com.aspiresys.fp_micro_productservice.aop.annotation.ValidateParameters;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Everything the aspects need to know about an advised method, resolved once
+ * per method and target class by {@link AdviceMetadataCache}.
+ * <p>
+ * Annotation lookups, name fallbacks and method-name checks are done when the
+ * metadata is built, so the advice itself only reads final fields.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Getter
+@ToString
+public final class AdviceMetadata {
+
+    /**
+     * Product modification performed by a service method, if any.
+     */
+    public enum ModificationKind { NONE, SAVE, DELETE }
+
+    private final String className;
+    private final String methodName;
+
+    /**
+     * Name of the tracing span of the method ({@code Class.method}).
+     */
+    private final String spanName;
+
+    /**
+     * {@code @Auditable} on the method, or null.
+     */
+    private final Auditable auditable;
+    private final String auditOperation;
+    private final String auditEntityType;
+
+    /**
+     * {@code @ExecutionTime} on the method, or null.
+     */
+    private final ExecutionTime executionTime;
+    private final String timedOperation;
+
+    /**
+     * {@code @ValidateParameters} on the method, or null.
+     */
+    private final ValidateParameters validateParameters;
+
+    /**
+     * Compiled {@code @ValidateParameters} checks, or null.
+     */
+    private final ParameterValidator parameterValidator;
+
+    private final ModificationKind modificationKind;
+
+    AdviceMetadata(Method method, Class<?> targetClass) {
+        this.className = targetClass.getSimpleName();
+        this.methodName = method.getName();
+        this.spanName = className + "." + methodName;
+
+        this.auditable = AnnotatedElementUtils.findMergedAnnotation(method, Auditable.class);
+        this.auditOperation = auditable == null || auditable.operation().isEmpty() ? methodName : auditable.operation();
+        this.auditEntityType = auditable == null || auditable.entityType().isEmpty() ? "Product" : auditable.entityType();
+
+        this.executionTime = AnnotatedElementUtils.findMergedAnnotation(method, ExecutionTime.class);
+        this.timedOperation = executionTime == null || executionTime.operation().isEmpty()
+                ? methodName : executionTime.operation();
+
+        this.validateParameters = AnnotatedElementUtils.findMergedAnnotation(method, ValidateParameters.class);
+        this.parameterValidator = validateParameters == null
+                ? null : new ParameterValidator(method.getParameterTypes(), validateParameters);
+
+        this.modificationKind = switch (methodName) {
+            case "saveProduct" -> ModificationKind.SAVE;
+            case "deleteProduct" -> ModificationKind.DELETE;
+            default -> ModificationKind.NONE;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.aspiresys.fp_micro_productservice.aop.metadata;
+
+import com.aspiresys.fp_micro_productservice.jfr.CacheLookupEvent;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link AdviceMetadata} shared by the aspects.
+ * <p>
+ * Entries are keyed by target class and then by {@link Method}, so a lookup on the
+ * hot path is two hash lookups without allocation. The number of entries is
+ * bounded by the number of advised methods. Lookups are reported as
+ * {@link CacheLookupEvent}s when a Flight Recorder recording enables them.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+public class AdviceMetadataCache {
+
+    private static final String CACHE_NAME = "adviceMetadata";
+
+    private final Map<Class<?>, Map<Method, AdviceMetadata>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metadata for the method being advised at the given join point.
+     */
+    public AdviceMetadata get(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return get(method, joinPoint.getTarget().getClass());
+    }
+
+    /**
+     * Returns the metadata for a method invoked on an instance of the target class.
+     */
+    public AdviceMetadata get(Method method, Class<?> targetClass) {
+        Map<Method, AdviceMetadata> methods = cache.get(targetClass);
+        if (methods == null) {
+            methods = cache.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        }
+        AdviceMetadata metadata = methods.get(method);
+        boolean hit = metadata != null;
+        if (!hit) {
+            metadata = methods.computeIfAbsent(method,
+                    key -> new AdviceMetadata(AopUtils.getMostSpecificMethod(key, targetClass), targetClass));
+        }
+        CacheLookupEvent.record(CACHE_NAME, metadata.getSpanName(), hit);
+        return metadata;
+    }
+
+    /**
+     * Number of cached methods.
+     */
+    public int size() {
+        return cache.values().stream().mapToInt(Map::size).sum();
+    }
+}
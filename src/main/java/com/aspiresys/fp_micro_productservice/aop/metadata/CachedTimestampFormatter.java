@@ -0,0 +1,37 @@
+package com.aspiresys.fp_micro_productservice.aop.metadata;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats the current time with second precision, reusing the formatted text
+ * for all calls within the same second.
+ *
+ * @author bruno.gil
+ */
+public final class CachedTimestampFormatter {
+
+    private record Entry(long epochSecond, String text) {
+    }
+
+    private final DateTimeFormatter formatter;
+    private volatile Entry last = new Entry(Long.MIN_VALUE, "");
+
+    public CachedTimestampFormatter(String pattern) {
+        this.formatter = DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * Returns the current time formatted with the configured pattern.
+     */
+    public String now() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        Entry entry = last;
+        if (entry.epochSecond() != epochSecond) {
+            entry = new Entry(epochSecond, formatter.format(Instant.ofEpochSecond(epochSecond)));
+            last = entry;
+        }
+        return entry.text();
+    }
+}
@@ -0,0 +1,114 @@
+package com.aspiresys.fp_micro_productservice.aop.metadata;
+
+import com.aspiresys.fp_micro_productservice.aop.annotation.ValidateParameters;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The {@link ValidateParameters} checks of one method, compiled from its parameter types.
+ * <p>
+ * Which checks apply to a parameter is decided once from its declared type: primitives
+ * are never null-checked, a {@code String}, collection or array parameter only gets its
+ * own emptiness check, and only parameters declared as a supertype of those (such as
+ * {@code Object}) are inspected at call time. Other types (ids, products) are not
+ * checked for emptiness at all.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public final class ParameterValidator {
+
+    private enum EmptyCheck { STRING, COLLECTION, ARRAY, RUNTIME }
+
+    private final int[] nullChecked;
+    private final int[] emptyChecked;
+    private final EmptyCheck[] emptyChecks;
+
+    ParameterValidator(Class<?>[] parameterTypes, ValidateParameters validateParameters) {
+        List<Integer> nullIndexes = new ArrayList<>();
+        List<Integer> emptyIndexes = new ArrayList<>();
+        List<EmptyCheck> checks = new ArrayList<>();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> type = parameterTypes[i];
+            if (validateParameters.notNull() && !type.isPrimitive()) {
+                nullIndexes.add(i);
+            }
+            EmptyCheck check = validateParameters.notEmpty() ? emptyCheck(type) : null;
+            if (check != null) {
+                emptyIndexes.add(i);
+                checks.add(check);
+            }
+        }
+        this.nullChecked = nullIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.emptyChecked = emptyIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.emptyChecks = checks.toArray(new EmptyCheck[0]);
+    }
+
+    /**
+     * Checks the arguments of a call.
+     *
+     * @param failFast stop at the first violation
+     * @return descriptions of the violations (empty if the arguments are valid)
+     */
+    public List<String> violations(Object[] args, boolean failFast) {
+        List<String> violations = null;
+        for (int index : nullChecked) {
+            if (args[index] == null) {
+                violations = add(violations, "Parameter at index " + index + " is null");
+                if (failFast) {
+                    return violations;
+                }
+            }
+        }
+        for (int i = 0; i < emptyChecked.length; i++) {
+            int index = emptyChecked[i];
+            Object arg = args[index];
+            if (arg == null) {
+                continue;
+            }
+            EmptyCheck check = emptyChecks[i];
+            if ((check == EmptyCheck.COLLECTION || check == EmptyCheck.RUNTIME)
+                    && arg instanceof Collection<?> collection && collection.isEmpty()) {
+                violations = add(violations, "Collection parameter at index " + index + " is empty");
+            } else if ((check == EmptyCheck.STRING || check == EmptyCheck.RUNTIME)
+                    && arg instanceof String string && string.trim().isEmpty()) {
+                violations = add(violations, "String parameter at index " + index + " is empty");
+            } else if ((check == EmptyCheck.ARRAY || check == EmptyCheck.RUNTIME)
+                    && arg.getClass().isArray() && Array.getLength(arg) == 0) {
+                violations = add(violations, "Array parameter at index " + index + " is empty");
+            } else {
+                continue;
+            }
+            if (failFast) {
+                return violations;
+            }
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    private static EmptyCheck emptyCheck(Class<?> type) {
+        if (type == String.class) {
+            return EmptyCheck.STRING;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return EmptyCheck.COLLECTION;
+        }
+        if (type.isArray()) {
+            return EmptyCheck.ARRAY;
+        }
+        if (type.isAssignableFrom(String.class) || type.isAssignableFrom(ArrayList.class)
+                || type.isAssignableFrom(Object[].class)) {
+            return EmptyCheck.RUNTIME;
+        }
+        return null;
+    }
+
+    private static List<String> add(List<String> violations, String violation) {
+        List<String> list = violations == null ? new ArrayList<>(2) : violations;
+        list.add(violation);
+        return list;
+    }
+}
@@ -0,0 +1,36 @@
+package com.aspiresys.fp_micro_productservice.aop.performance;
+
+import java.util.List;
+
+/**
+ * Rolling-window performance of one {@code @ExecutionTime} operation.
+ *
+ * @param operation         operation name from {@code @ExecutionTime}
+ * @param className         class declaring the operation
+ * @param methodName        method of the operation
+ * @param windowSeconds     time covered by the figures (shorter than the window right after start or reset)
+ * @param calls             calls in the window
+ * @param callsPerSecond    call rate over the window
+ * @param errors            calls that threw
+ * @param errorRate         errors / calls
+ * @param p50Ms             median latency
+ * @param p90Ms             90th percentile latency
+ * @param p99Ms             99th percentile latency
+ * @param maxMs             slowest call
+ * @param slowest           slowest invocations in the window, slowest first
+ * @author bruno.gil
+ */
+public record OperationPerformance(String operation,
+                                   String className,
+                                   String methodName,
+                                   long windowSeconds,
+                                   long calls,
+                                   double callsPerSecond,
+                                   long errors,
+                                   double errorRate,
+                                   double p50Ms,
+                                   double p90Ms,
+                                   double p99Ms,
+                                   double maxMs,
+                                   List<SlowInvocation> slowest) {
+}
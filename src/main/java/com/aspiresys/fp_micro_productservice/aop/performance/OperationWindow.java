@@ -0,0 +1,205 @@
+package com.aspiresys.fp_micro_productservice.aop.performance;
+
+import com.aspiresys.fp_micro_productservice.aop.audit.ParameterSummaries;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadata;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Rolling-window latency histograms and slowest invocations of one operation.
+ * <p>
+ * Calls are recorded into HdrHistogram {@link Recorder}s (one for successful calls,
+ * one for failed calls), whose {@code recordValue} is wait-free, so request threads
+ * never block on each other or on a reader. Every slice the recorders are swapped
+ * out by {@link #rotate(long)} into a ring of {@code slices} interval histograms;
+ * the histogram that leaves the window is handed back to the recorder for reuse.
+ * A {@link #snapshot} merges the completed slices, so it trails the live traffic
+ * by at most one slice.
+ * </p>
+ * <p>
+ * The slowest invocations are kept in a small array behind a volatile admission
+ * threshold: a call only takes the lock when it is slower than the fastest kept
+ * invocation, which after warm-up is rare.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+final class OperationWindow {
+
+    private final AdviceMetadata metadata;
+    private final Recorder successRecorder = new Recorder(2);
+    private final Recorder errorRecorder = new Recorder(2);
+
+    // Ring of completed slices, guarded by this
+    private final Histogram[] successSlices;
+    private final Histogram[] errorSlices;
+    private int nextSlice;
+    private int completedSlices;
+
+    // Slowest invocations, guarded by slowestLock
+    private final Object slowestLock = new Object();
+    private final SlowInvocation[] slowest;
+    private final long[] slowestNanos;
+    private int slowestCount;
+    private volatile long admissionNanos;
+
+    OperationWindow(AdviceMetadata metadata, int slices, int slowestInvocations) {
+        this.metadata = metadata;
+        this.successSlices = new Histogram[slices];
+        this.errorSlices = new Histogram[slices];
+        this.slowest = new SlowInvocation[slowestInvocations];
+        this.slowestNanos = new long[slowestInvocations];
+    }
+
+    /**
+     * Records one call. The arguments are only summarized when the call is kept as
+     * one of the slowest.
+     */
+    void record(long elapsedNanos, boolean success, Supplier<Object[]> arguments) {
+        (success ? successRecorder : errorRecorder).recordValue(Math.max(0, elapsedNanos));
+        if (elapsedNanos > admissionNanos && slowest.length > 0) {
+            offerSlowest(elapsedNanos, success, arguments);
+        }
+    }
+
+    /**
+     * Closes the current slice and drops the slowest invocations that are older than the window.
+     *
+     * @param windowStartMillis start of the window after this rotation (epoch millis)
+     */
+    synchronized void rotate(long windowStartMillis) {
+        successSlices[nextSlice] = successRecorder.getIntervalHistogram(successSlices[nextSlice]);
+        errorSlices[nextSlice] = errorRecorder.getIntervalHistogram(errorSlices[nextSlice]);
+        nextSlice = (nextSlice + 1) % successSlices.length;
+        completedSlices = Math.min(completedSlices + 1, successSlices.length);
+        pruneSlowest(windowStartMillis);
+    }
+
+    /**
+     * Summarizes the completed slices.
+     *
+     * @param sliceSeconds length of one slice
+     */
+    synchronized OperationPerformance snapshot(long sliceSeconds) {
+        Histogram latencies = new Histogram(2);
+        long errors = 0;
+        for (int i = 0; i < completedSlices; i++) {
+            latencies.add(successSlices[i]);
+            latencies.add(errorSlices[i]);
+            errors += errorSlices[i].getTotalCount();
+        }
+        long calls = latencies.getTotalCount();
+        long coveredSeconds = Math.max(1, completedSlices * sliceSeconds);
+
+        return new OperationPerformance(
+                metadata.getTimedOperation(),
+                metadata.getClassName(),
+                metadata.getMethodName(),
+                coveredSeconds,
+                calls,
+                (double) calls / coveredSeconds,
+                errors,
+                calls == 0 ? 0.0 : (double) errors / calls,
+                percentileMillis(latencies, 50.0),
+                percentileMillis(latencies, 90.0),
+                percentileMillis(latencies, 99.0),
+                calls == 0 ? 0.0 : toMillis(latencies.getMaxValue()),
+                slowestInvocations());
+    }
+
+    /**
+     * Clears the slices and the slowest invocations.
+     */
+    synchronized void reset() {
+        successRecorder.reset();
+        errorRecorder.reset();
+        for (int i = 0; i < successSlices.length; i++) {
+            successSlices[i] = null;
+            errorSlices[i] = null;
+        }
+        nextSlice = 0;
+        completedSlices = 0;
+        synchronized (slowestLock) {
+            slowestCount = 0;
+            admissionNanos = 0;
+        }
+    }
+
+    private void offerSlowest(long elapsedNanos, boolean success, Supplier<Object[]> arguments) {
+        synchronized (slowestLock) {
+            int slot;
+            if (slowestCount < slowest.length) {
+                slot = slowestCount++;
+            } else {
+                slot = fastestSlowest();
+                if (elapsedNanos <= slowestNanos[slot]) {
+                    return;
+                }
+            }
+            slowest[slot] = new SlowInvocation(Instant.now(), toMillis(elapsedNanos), success,
+                    Thread.currentThread().getName(), ParameterSummaries.ofArguments(arguments.get()));
+            slowestNanos[slot] = elapsedNanos;
+            updateAdmission();
+        }
+    }
+
+    private void pruneSlowest(long windowStartMillis) {
+        synchronized (slowestLock) {
+            int kept = 0;
+            for (int i = 0; i < slowestCount; i++) {
+                if (slowest[i].at().toEpochMilli() >= windowStartMillis) {
+                    slowest[kept] = slowest[i];
+                    slowestNanos[kept] = slowestNanos[i];
+                    kept++;
+                }
+            }
+            for (int i = kept; i < slowestCount; i++) {
+                slowest[i] = null;
+            }
+            slowestCount = kept;
+            updateAdmission();
+        }
+    }
+
+    private List<SlowInvocation> slowestInvocations() {
+        List<SlowInvocation> invocations = new ArrayList<>(slowest.length);
+        synchronized (slowestLock) {
+            for (int i = 0; i < slowestCount; i++) {
+                invocations.add(slowest[i]);
+            }
+        }
+        invocations.sort(Comparator.comparingDouble(SlowInvocation::durationMs).reversed());
+        return invocations;
+    }
+
+    /**
+     * Index of the fastest of the kept invocations (the one to replace).
+     */
+    private int fastestSlowest() {
+        int fastest = 0;
+        for (int i = 1; i < slowestCount; i++) {
+            if (slowestNanos[i] < slowestNanos[fastest]) {
+                fastest = i;
+            }
+        }
+        return fastest;
+    }
+
+    private void updateAdmission() {
+        admissionNanos = slowestCount < slowest.length ? 0 : slowestNanos[fastestSlowest()];
+    }
+
+    private static double percentileMillis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? 0.0 : toMillis(histogram.getValueAtPercentile(percentile));
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
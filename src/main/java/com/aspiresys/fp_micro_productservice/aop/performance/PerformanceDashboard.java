@@ -0,0 +1,120 @@
+package com.aspiresys.fp_micro_productservice.aop.performance;
+
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadata;
+import com.aspiresys.fp_micro_productservice.config.AopProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Live, per-operation view of the {@code @ExecutionTime} operations: call rate,
+ * error rate, latency percentiles and the slowest recent invocations over a
+ * rolling window.
+ * <p>
+ * The {@code ExecutionTimeAspect} records every measured call into the
+ * {@link OperationWindow} of its method (keyed by the identity-compared
+ * {@link AdviceMetadata}); a background thread advances all windows one slice at a time.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>aop.performance.dashboard.window-seconds</b>: length of the rolling window (default 60)</li>
+ *   <li><b>aop.performance.dashboard.window-slices</b>: slices the window advances by (default 12)</li>
+ *   <li><b>aop.performance.dashboard.slowest-invocations</b>: slowest invocations kept per operation (default 5)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class PerformanceDashboard {
+
+    @Autowired
+    private AopProperties aopProperties;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private final Map<AdviceMetadata, OperationWindow> windows = new ConcurrentHashMap<>();
+
+    private int slices;
+    private long sliceSeconds;
+    private int slowestInvocations;
+    private ScheduledFuture<?> rotationTask;
+
+    @PostConstruct
+    void start() {
+        AopProperties.Dashboard dashboard = aopProperties.getPerformance().getDashboard();
+        slices = Math.max(1, dashboard.getWindowSlices());
+        sliceSeconds = Math.max(1, dashboard.getWindowSeconds() / slices);
+        slowestInvocations = Math.max(0, dashboard.getSlowestInvocations());
+        Duration slice = Duration.ofSeconds(sliceSeconds);
+        rotationTask = taskScheduler.scheduleAtFixedRate(this::rotate, Instant.now().plus(slice), slice);
+    }
+
+    /**
+     * Records one call of an operation.
+     *
+     * @param arguments supplies the call arguments; only invoked if the call is one of the slowest
+     */
+    public void record(AdviceMetadata metadata, long elapsedNanos, boolean success, Supplier<Object[]> arguments) {
+        OperationWindow window = windows.get(metadata);
+        if (window == null) {
+            window = windows.computeIfAbsent(metadata, key -> new OperationWindow(key, slices, slowestInvocations));
+        }
+        window.record(elapsedNanos, success, arguments);
+    }
+
+    /**
+     * Returns the performance of every operation called since start or reset, highest p99 first.
+     */
+    public List<OperationPerformance> snapshot() {
+        return windows.values().stream()
+                .map(window -> window.snapshot(sliceSeconds))
+                .sorted(Comparator.comparingDouble(OperationPerformance::p99Ms).reversed())
+                .toList();
+    }
+
+    /**
+     * Clears the windows of every operation.
+     */
+    public void reset() {
+        windows.values().forEach(OperationWindow::reset);
+    }
+
+    public long getWindowSeconds() {
+        return sliceSeconds * slices;
+    }
+
+    /**
+     * Closes the current slice of every operation.
+     */
+    void rotate() {
+        try {
+            long windowStartMillis = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(getWindowSeconds());
+            for (OperationWindow window : windows.values()) {
+                window.rotate(windowStartMillis);
+            }
+        } catch (Exception e) {
+            log.warning("Performance dashboard rotation failed: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rotationTask.cancel(true);
+    }
+}
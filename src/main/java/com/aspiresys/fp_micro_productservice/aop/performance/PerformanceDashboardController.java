@@ -0,0 +1,57 @@
+package com.aspiresys.fp_micro_productservice.aop.performance;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for the live performance dashboard.
+ *
+ * This controller is restricted to ADMIN users only and provides:
+ * - Call rate, error rate, latency percentiles and slowest invocations per operation
+ * - Resetting the dashboard (e.g. before a load test)
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/performance")
+@Log
+public class PerformanceDashboardController {
+
+    @Autowired
+    private PerformanceDashboard performanceDashboard;
+
+    /**
+     * Gets the rolling-window performance of every operation, highest p99 first.
+     *
+     * @return ResponseEntity with the performance of each operation
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<List<OperationPerformance>>> getPerformance() {
+        return ResponseEntity.ok(new AppResponse<>("Performance over the last "
+                + performanceDashboard.getWindowSeconds() + " seconds retrieved successfully",
+                performanceDashboard.snapshot()));
+    }
+
+    /**
+     * Clears the performance dashboard.
+     *
+     * @return ResponseEntity confirming the reset
+     */
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<Boolean>> resetPerformance() {
+        performanceDashboard.reset();
+        log.info("Admin reset the performance dashboard");
+        return ResponseEntity.ok(new AppResponse<>("Performance dashboard reset", true));
+    }
+}
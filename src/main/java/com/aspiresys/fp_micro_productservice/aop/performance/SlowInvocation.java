@@ -0,0 +1,20 @@
+package com.aspiresys.fp_micro_productservice.aop.performance;
+
+import java.time.Instant;
+
+/**
+ * One of the slowest recent invocations of an operation.
+ *
+ * @param at         when the invocation finished
+ * @param durationMs execution time
+ * @param success    false if the invocation threw
+ * @param thread     thread that ran the invocation
+ * @param arguments  bounded summary of the arguments
+ * @author bruno.gil
+ */
+public record SlowInvocation(Instant at,
+                             double durationMs,
+                             boolean success,
+                             String thread,
+                             String arguments) {
+}
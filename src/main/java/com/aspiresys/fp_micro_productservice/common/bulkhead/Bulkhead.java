@@ -0,0 +1,120 @@
+package com.aspiresys.fp_micro_productservice.common.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded executor that isolates a class of work from the request threads.
+ * <p>
+ * Tasks run on a fixed number of threads behind a bounded queue; when the queue is full,
+ * {@link #submit(Supplier)} fails fast with {@link BulkheadFullException} instead of queueing
+ * without limit. Tasks run in the bulkhead's {@link DataSourcePartition} and with the security
+ * context of the submitting thread.
+ * </p>
+ *
+ * Metrics (tagged with the bulkhead name): {@code bulkhead.active}, {@code bulkhead.queue.depth},
+ * {@code bulkhead.rejected} and {@code bulkhead.queue.wait} (time from submission to start).
+ *
+ * @author bruno.gil
+ */
+public class Bulkhead implements AutoCloseable {
+
+    private final String name;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    private final Timer queueWait;
+
+    /**
+     * @param name          bulkhead name, used for thread names and metric tags
+     * @param partition     connection pool partition of the tasks
+     * @param threads       number of threads
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @param meterRegistry registry of the bulkhead metrics
+     */
+    public Bulkhead(String name, String partition, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                task -> {
+                    Thread thread = new Thread(DataSourcePartition.wrap(partition, task),
+                            "bulkhead-" + name + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .description("Tasks rejected because the bulkhead was full")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("bulkhead.queue.wait")
+                .description("Time tasks waited in the bulkhead queue")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Tasks running in the bulkhead")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queue.depth", executor, e -> e.getQueue().size())
+                .description("Tasks waiting in the bulkhead queue")
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a task in the bulkhead.
+     *
+     * @return a future completed with the result of the task
+     * @throws BulkheadFullException if all threads are busy and the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        Runnable runnable = DelegatingSecurityContextRunnable.create(() -> {
+            queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, null);
+        try {
+            executor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BulkheadFullException(name, queueCapacity);
+        }
+        return future;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of tasks waiting for a thread.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,13 @@
+package com.aspiresys.fp_micro_productservice.common.bulkhead;
+
+/**
+ * Thrown when a task is submitted to a {@link Bulkhead} whose threads are busy and whose queue is full.
+ *
+ * @author bruno.gil
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String bulkhead, int queueCapacity) {
+        super("Bulkhead '" + bulkhead + "' is full (" + queueCapacity + " tasks queued), try again later");
+    }
+}
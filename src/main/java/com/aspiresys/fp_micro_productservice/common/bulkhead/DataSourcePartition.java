@@ -0,0 +1,77 @@
+package com.aspiresys.fp_micro_productservice.common.bulkhead;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Connection pool partition used by the current thread.
+ * <p>
+ * {@link PartitionedDataSource} hands out connections from the pool of the current
+ * partition, so work marked {@link #ADMIN} (Kafka sync, catalog generation) uses its own
+ * connections and cannot exhaust the pool that serves public reads.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public final class DataSourcePartition {
+
+    /**
+     * Partition of request threads and everything not marked otherwise.
+     */
+    public static final String DEFAULT = "default";
+
+    /**
+     * Partition of admin and bulk operations.
+     */
+    public static final String ADMIN = "admin";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private DataSourcePartition() {
+    }
+
+    /**
+     * Returns the partition of the current thread.
+     */
+    public static String current() {
+        String partition = CURRENT.get();
+        return partition != null ? partition : DEFAULT;
+    }
+
+    /**
+     * Returns a task that runs in the given partition.
+     */
+    public static Runnable wrap(String partition, Runnable task) {
+        return () -> {
+            String previous = CURRENT.get();
+            CURRENT.set(partition);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Returns a task that runs in the given partition.
+     */
+    public static <T> Callable<T> wrap(String partition, Callable<T> task) {
+        return () -> {
+            String previous = CURRENT.get();
+            CURRENT.set(partition);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(String previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.aspiresys.fp_micro_productservice.common.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource that routes each connection request to the pool of the current
+ * {@link DataSourcePartition}; partitions without a pool of their own use the default pool.
+ *
+ * @author bruno.gil
+ */
+public class PartitionedDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+
+    /**
+     * @param pools connection pools by partition; must contain {@link DataSourcePartition#DEFAULT}
+     */
+    public PartitionedDataSource(Map<String, HikariDataSource> pools) {
+        if (!pools.containsKey(DataSourcePartition.DEFAULT)) {
+            throw new IllegalArgumentException("No pool for the default partition");
+        }
+        this.pools = Map.copyOf(pools);
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(DataSourcePartition.DEFAULT));
+        afterPropertiesSet();
+    }
+
+    /**
+     * Returns the pool of a partition, or null if it has none.
+     */
+    public HikariDataSource getPool(String partition) {
+        return pools.get(partition);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return DataSourcePartition.current();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
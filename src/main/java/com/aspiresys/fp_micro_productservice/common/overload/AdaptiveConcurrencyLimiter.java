@@ -0,0 +1,314 @@
+package com.aspiresys.fp_micro_productservice.common.overload;
+
+import com.aspiresys.fp_micro_productservice.common.readiness.StartupReadinessTracker;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive limit on the number of requests processed concurrently.
+ * <p>
+ * Requests above the limit are rejected at once instead of queueing for a database
+ * connection until the pool times out. The limit follows a gradient algorithm: every
+ * {@code overload.window-ms} the average latency of the window is compared with a long-term
+ * baseline, and the limit is scaled by {@code tolerance * baseline / latency} (capped at 1)
+ * plus a small headroom of {@code sqrt(limit)}. While latency stays within tolerance the
+ * limit grows; when requests slow down, or requests wait for a connection of the default
+ * pool, it shrinks. It only grows while the instance actually uses at least half of it.
+ * Windows are closed by a scheduled tick rather than by requests, so an instance that
+ * receives no traffic still evaluates its windows; a window with fewer than
+ * {@value #MIN_WINDOW_SAMPLES} requests leaves the limit alone and keeps its samples for
+ * the next one.
+ * </p>
+ * <p>
+ * When requests are shed (or the pool has waiters) for {@code overload.out-of-service-after-seconds}
+ * in a row, the instance is reported OUT_OF_SERVICE to Eureka and in the readiness health
+ * group, so the gateway routes traffic elsewhere; it is reported UP again after
+ * {@code overload.recover-after-seconds} without saturation (windows without requests
+ * count as calm, since the gateway stops sending them).
+ * </p>
+ *
+ * Configuration ({@code overload.*}): enabled (true), initial-limit (20), min-limit (4),
+ * max-limit (200), tolerance (2.0), smoothing (0.2), window-ms (500), baseline-windows (60),
+ * out-of-service-after-seconds (10), recover-after-seconds (30).
+ *
+ * Metrics: {@code http.concurrency.limit}, {@code http.concurrency.in-flight} and
+ * {@code http.concurrency.rejected}.
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Returned by {@link #tryAcquire()} when a request is rejected.
+     */
+    public static final long REJECTED = Long.MIN_VALUE;
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double POOL_WAIT_GRADIENT = 0.9;
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    @Autowired
+    private StartupReadinessTracker readinessTracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectProvider<DataSource> dataSource;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${overload.enabled:true}")
+    private boolean enabled;
+
+    @Value("${overload.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${overload.min-limit:4}")
+    private int minLimit;
+
+    @Value("${overload.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${overload.tolerance:2.0}")
+    private double tolerance;
+
+    @Value("${overload.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${overload.window-ms:500}")
+    private long windowMs;
+
+    @Value("${overload.baseline-windows:60}")
+    private int baselineWindows;
+
+    @Value("${overload.out-of-service-after-seconds:10}")
+    private long outOfServiceAfterSeconds;
+
+    @Value("${overload.recover-after-seconds:30}")
+    private long recoverAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowRejected = new AtomicInteger();
+    private long windowStartNanos = System.nanoTime();
+
+    private volatile double limit;
+    private double baselineNanos;
+    private long saturatedSinceNanos = -1;
+    private long calmSinceNanos = -1;
+    private boolean outOfService;
+    private HikariPoolMXBean pool;
+
+    private Counter rejected;
+    private ScheduledFuture<?> windowTask;
+
+    @PostConstruct
+    void init() {
+        limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+        rejected = Counter.builder("http.concurrency.rejected")
+                .description("Requests shed by the adaptive concurrency limiter")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Requests being processed")
+                .register(meterRegistry);
+
+        if (enabled) {
+            Duration interval = Duration.ofMillis(Math.max(1, windowMs));
+            windowTask = taskScheduler.scheduleAtFixedRate(this::tickQuietly, Instant.now().plus(interval), interval);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (windowTask != null) {
+            windowTask.cancel(true);
+        }
+    }
+
+    /**
+     * Admits a request if fewer than {@link #getLimit()} requests are in flight.
+     *
+     * @return the start time to pass to {@link #release(long)}, or {@link #REJECTED}
+     */
+    public long tryAcquire() {
+        if (!enabled) {
+            return System.nanoTime();
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                windowRejected.incrementAndGet();
+                rejected.increment();
+                return REJECTED;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                maxInFlight.accumulateAndGet(current + 1, Math::max);
+                return System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Ends a request admitted by {@link #tryAcquire()} and records its latency.
+     */
+    public void release(long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(System.nanoTime() - startNanos);
+        windowSamples.increment();
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns true while the instance is reported out of service because of sustained saturation.
+     */
+    public synchronized boolean isOutOfService() {
+        return outOfService;
+    }
+
+    /**
+     * Closes the current window once it has lasted {@code overload.window-ms}. Run on a
+     * schedule, so saturation is tracked (and an overloaded instance recovers) even when
+     * no request arrives.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    synchronized void tick(long nowNanos) {
+        if (nowNanos - windowStartNanos < TimeUnit.MILLISECONDS.toNanos(windowMs)) {
+            return;
+        }
+        windowStartNanos = nowNanos;
+        double latency = 0;
+        int windowMaxInFlight = 0;
+        if (windowSamples.sum() >= MIN_WINDOW_SAMPLES) {
+            long samples = windowSamples.sumThenReset();
+            latency = (double) windowLatencyNanos.sumThenReset() / samples;
+            windowMaxInFlight = maxInFlight.getAndSet(inFlight.get());
+        }
+        onWindow(latency, windowMaxInFlight, poolWaiters(), windowRejected.getAndSet(0), nowNanos);
+    }
+
+    /**
+     * Adjusts the limit at the end of a window and tracks sustained saturation.
+     * A window without latency (no or too few requests) only counts for saturation.
+     *
+     * @param latencyNanos average latency of the window
+     * @param windowMaxInFlight highest concurrency seen in the window
+     * @param poolWaiters threads waiting for a connection of the default pool
+     * @param windowRejected requests rejected in the window
+     * @param nowNanos current {@link System#nanoTime()}
+     */
+    synchronized void onWindow(double latencyNanos, int windowMaxInFlight, int poolWaiters, int windowRejected,
+                               long nowNanos) {
+        if (latencyNanos > 0) {
+            if (baselineNanos == 0) {
+                baselineNanos = latencyNanos;
+            } else {
+                baselineNanos += (latencyNanos - baselineNanos) / Math.max(1, baselineWindows);
+                // After a sustained slowdown ends, let the baseline come back down faster
+                if (baselineNanos > 2 * latencyNanos) {
+                    baselineNanos *= 0.95;
+                }
+            }
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineNanos / latencyNanos));
+            if (poolWaiters > 0) {
+                gradient = Math.min(gradient, POOL_WAIT_GRADIENT);
+            }
+            double current = limit;
+            double target = current * gradient + Math.sqrt(current);
+            if (gradient >= 1.0 && windowMaxInFlight < current / 2) {
+                // Not using the limit, so the latency says nothing about a higher one
+                target = current;
+            }
+            limit = Math.min(maxLimit, Math.max(minLimit, current * (1 - smoothing) + target * smoothing));
+        }
+        trackSaturation(windowRejected > 0 || poolWaiters > 0, nowNanos);
+    }
+
+    private void trackSaturation(boolean saturated, long nowNanos) {
+        if (saturated) {
+            calmSinceNanos = -1;
+            if (saturatedSinceNanos < 0) {
+                saturatedSinceNanos = nowNanos;
+            }
+            if (!outOfService && nowNanos - saturatedSinceNanos >= TimeUnit.SECONDS.toNanos(outOfServiceAfterSeconds)) {
+                outOfService = true;
+                log.warning("Sustained overload (concurrency limit " + Math.round(limit) + "), reporting OUT_OF_SERVICE");
+                readinessTracker.setOutOfService(true);
+            }
+        } else {
+            saturatedSinceNanos = -1;
+            if (calmSinceNanos < 0) {
+                calmSinceNanos = nowNanos;
+            }
+            if (outOfService && nowNanos - calmSinceNanos >= TimeUnit.SECONDS.toNanos(recoverAfterSeconds)) {
+                outOfService = false;
+                log.info("Overload cleared (concurrency limit " + Math.round(limit) + "), reporting UP");
+                readinessTracker.setOutOfService(false);
+            }
+        }
+    }
+
+    private void tickQuietly() {
+        try {
+            tick(System.nanoTime());
+        } catch (Exception e) {
+            log.warning("Concurrency limit window failed: " + e.getMessage());
+        }
+    }
+
+    private int poolWaiters() {
+        if (pool == null) {
+            // The default pool; it has no MXBean until its first connection
+            DataSource target = dataSource.getIfAvailable();
+            HikariDataSource hikari = target == null ? null
+                    : DataSourceUnwrapper.unwrap(target, HikariConfigMXBean.class, HikariDataSource.class);
+            pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        }
+        return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+    }
+}
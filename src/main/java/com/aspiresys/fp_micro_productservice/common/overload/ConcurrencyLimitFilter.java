@@ -0,0 +1,66 @@
+package com.aspiresys.fp_micro_productservice.common.overload;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import com.aspiresys.fp_micro_productservice.common.ratelimit.RateLimitRoute;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Servlet filter that sheds product requests above the {@link AdaptiveConcurrencyLimiter} limit
+ * with {@code 503 Service Unavailable} and {@code Retry-After: 1}.
+ * <p>
+ * Only the routes served from the default connection pool are limited (list, single and
+ * write); admin operations have their own bulkhead, and actuator endpoints are never shed.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<RateLimitRoute> LIMITED_ROUTES =
+            EnumSet.of(RateLimitRoute.LIST, RateLimitRoute.SINGLE, RateLimitRoute.WRITE);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limiter.isEnabled()
+                || !LIMITED_ROUTES.contains(RateLimitRoute.classify(request.getMethod(), request.getServletPath()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = limiter.tryAcquire();
+        if (start == AdaptiveConcurrencyLimiter.REJECTED) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    new AppResponse<>("Service overloaded, retry later", null));
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(start);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.aspiresys.fp_micro_productservice.common.overload;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator reporting OUT_OF_SERVICE while {@link AdaptiveConcurrencyLimiter} detects
+ * sustained overload. It is part of the readiness health group, which maps OUT_OF_SERVICE to HTTP 503.
+ *
+ * @author bruno.gil
+ */
+@Component("overloadHealthIndicator")
+public class OverloadHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = limiter.isOutOfService() ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("concurrencyLimit", Math.round(limiter.getLimit()))
+                .withDetail("inFlight", limiter.getInFlight())
+                .build();
+    }
+}
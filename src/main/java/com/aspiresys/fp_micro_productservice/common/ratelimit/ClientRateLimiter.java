@@ -0,0 +1,203 @@
+package com.aspiresys.fp_micro_productservice.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client rate limiter with one {@link TokenBucket} per client and {@link RateLimitRoute}.
+ * <p>
+ * Clients are spread over {@value #STRIPES} stripes by the hash of their key, so tracking a
+ * new client or evicting idle ones only touches one stripe. A stripe holds at most
+ * {@code ratelimit.max-clients / STRIPES} clients: when it is full, clients whose buckets
+ * have refilled completely are evicted (at most once per second per stripe), and if it is
+ * still full the oldest client of the stripe is evicted to make room, so a burst of new
+ * clients only costs the oldest ones their history instead of throttling every new client.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>ratelimit.enabled</b>: whether requests are rate limited (default true)</li>
+ *   <li><b>ratelimit.max-clients</b>: maximum number of tracked clients (default 100000)</li>
+ *   <li><b>ratelimit.&lt;route&gt;.capacity</b>, <b>ratelimit.&lt;route&gt;.per-minute</b>: limits
+ *       of each {@link RateLimitRoute}</li>
+ * </ul>
+ *
+ * Metrics: {@code http.ratelimit.rejected} (rejected requests, tagged by route) and
+ * {@code http.ratelimit.clients} (tracked clients).
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class ClientRateLimiter {
+
+    static final int STRIPES = 16;
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final RateLimitRoute[] ROUTES = RateLimitRoute.values();
+
+    /**
+     * Limits of one route.
+     */
+    public record Limit(int capacity, int perMinute) {
+    }
+
+    /**
+     * Clients of one stripe, and their keys in the order they were added.
+     */
+    private static final class Stripe {
+        final Map<String, TokenBucket[]> clients = new ConcurrentHashMap<>();
+        final ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+        final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime() - SWEEP_INTERVAL_NANOS);
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${ratelimit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ratelimit.max-clients:100000}")
+    private int maxClients;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final Map<RateLimitRoute, Limit> limits = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, Counter> rejected = new EnumMap<>(RateLimitRoute.class);
+    private int maxClientsPerStripe;
+
+    @PostConstruct
+    void init() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        for (RateLimitRoute route : ROUTES) {
+            String prefix = "ratelimit." + route.getKey() + ".";
+            limits.put(route, new Limit(
+                    environment.getProperty(prefix + "capacity", Integer.class, route.getDefaultCapacity()),
+                    environment.getProperty(prefix + "per-minute", Integer.class, route.getDefaultPerMinute())));
+            rejected.put(route, Counter.builder("http.ratelimit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("route", route.name())
+                    .register(meterRegistry));
+        }
+        maxClientsPerStripe = Math.max(1, maxClients / STRIPES);
+        Gauge.builder("http.ratelimit.clients", this, ClientRateLimiter::trackedClients)
+                .description("Clients tracked by the rate limiter")
+                .register(meterRegistry);
+        log.info("Rate limiter " + (enabled ? "enabled" : "disabled") + " with limits " + limits);
+    }
+
+    /**
+     * Takes a token from the client's bucket for the route.
+     *
+     * @param client client key (JWT subject or IP address)
+     * @param route  route of the request
+     * @return 0 if the request is admitted, otherwise the nanoseconds until the client may retry
+     */
+    public long tryAcquire(String client, RateLimitRoute route) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long retryAfterNanos = buckets(client, now)[route.ordinal()].tryAcquire(now);
+        if (retryAfterNanos > 0) {
+            rejected.get(route).increment();
+        }
+        return retryAfterNanos;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the limits of every route.
+     */
+    public Map<RateLimitRoute, Limit> getLimits() {
+        return Map.copyOf(limits);
+    }
+
+    int trackedClients() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.clients.size();
+        }
+        return total;
+    }
+
+    private TokenBucket[] buckets(String client, long now) {
+        Stripe stripe = stripes[(client.hashCode() & 0x7fffffff) % STRIPES];
+        TokenBucket[] buckets = stripe.clients.get(client);
+        if (buckets != null) {
+            return buckets;
+        }
+        if (stripe.clients.size() >= maxClientsPerStripe && !sweep(stripe, now)) {
+            evictOldest(stripe);
+        }
+        TokenBucket[] created = newBuckets(now);
+        buckets = stripe.clients.putIfAbsent(client, created);
+        if (buckets != null) {
+            return buckets;
+        }
+        stripe.order.add(client);
+        return created;
+    }
+
+    /**
+     * Evicts the idle clients of a full stripe.
+     *
+     * @return true if there is room for a new client
+     */
+    private boolean sweep(Stripe stripe, long now) {
+        long last = stripe.lastSweepNanos.get();
+        if (now - last >= SWEEP_INTERVAL_NANOS && stripe.lastSweepNanos.compareAndSet(last, now)) {
+            if (stripe.clients.values().removeIf(buckets -> isIdle(buckets, now))) {
+                stripe.order.removeIf(client -> !stripe.clients.containsKey(client));
+            }
+        }
+        return stripe.clients.size() < maxClientsPerStripe;
+    }
+
+    private static void evictOldest(Stripe stripe) {
+        String oldest;
+        while ((oldest = stripe.order.poll()) != null) {
+            if (stripe.clients.remove(oldest) != null) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isIdle(TokenBucket[] buckets, long now) {
+        for (TokenBucket bucket : buckets) {
+            if (!bucket.isFull(now)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TokenBucket[] newBuckets(long now) {
+        TokenBucket[] buckets = new TokenBucket[ROUTES.length];
+        for (RateLimitRoute route : ROUTES) {
+            Limit limit = limits.get(route);
+            buckets[route.ordinal()] = new TokenBucket(limit.capacity(), limit.perMinute(), now);
+        }
+        return buckets;
+    }
+}
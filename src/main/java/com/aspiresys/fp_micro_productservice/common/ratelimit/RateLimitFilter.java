@@ -0,0 +1,76 @@
+package com.aspiresys.fp_micro_productservice.common.ratelimit;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter that applies the {@link ClientRateLimiter} before a request reaches a controller.
+ * <p>
+ * It runs in the security filter chain right after bearer token authentication, so requests
+ * with a valid JWT are limited by the token subject and anonymous requests by the client IP
+ * address. Behind the gateway that address comes from {@code X-Forwarded-For}, which Tomcat
+ * applies for trusted proxies ({@code server.forward-headers-strategy=native}); without it
+ * every anonymous client would share the gateway's bucket. A rejected request gets
+ * {@code 429 Too Many Requests} with a {@code Retry-After} header in seconds.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final ClientRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(ClientRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitRoute route = RateLimitRoute.classify(request.getMethod(), request.getServletPath());
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long retryAfterNanos = rateLimiter.tryAcquire(clientKey(request), route);
+        if (retryAfterNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new AppResponse<>("Too many requests, retry after " + retryAfterSeconds + " seconds", null));
+    }
+
+    static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthenticationToken jwt) {
+            return "sub:" + jwt.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
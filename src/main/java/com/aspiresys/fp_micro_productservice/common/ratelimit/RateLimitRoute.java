@@ -0,0 +1,101 @@
+package com.aspiresys.fp_micro_productservice.common.ratelimit;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Groups of endpoints that share a rate limit budget.
+ * <p>
+ * Every client has one token bucket per route. The defaults can be overridden with
+ * {@code ratelimit.<key>.capacity} (burst size) and {@code ratelimit.<key>.per-minute}
+ * (tokens added per minute).
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public enum RateLimitRoute {
+
+    /**
+     * List endpoints ({@code GET /products}, {@code GET /products/{type}}, categories),
+     * each of which reads a whole table.
+     */
+    LIST("list", 20, 300),
+
+    /**
+     * Single product reads ({@code GET /products/{type}/{id}}).
+     */
+    SINGLE("single", 100, 3000),
+
+    /**
+     * Product creates, updates and deletes.
+     */
+    WRITE("write", 30, 600),
+
+    /**
+     * Admin endpoints ({@code /products/admin/**}).
+     */
+    ADMIN("admin", 30, 300),
+
+    /**
+     * Kafka synchronization ({@code /products/kafka/sync/**}), which republishes the catalog.
+     */
+    ADMIN_SYNC("admin-sync", 2, 2);
+
+    private static final String PRODUCTS = "/products";
+    private static final String ADMIN_PREFIX = "/products/admin/";
+    private static final String SYNC_PREFIX = "/products/kafka/sync/";
+
+    private final String key;
+    private final int defaultCapacity;
+    private final int defaultPerMinute;
+
+    RateLimitRoute(String key, int defaultCapacity, int defaultPerMinute) {
+        this.key = key;
+        this.defaultCapacity = defaultCapacity;
+        this.defaultPerMinute = defaultPerMinute;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public int getDefaultPerMinute() {
+        return defaultPerMinute;
+    }
+
+    /**
+     * Returns the route of a request, or null if the request is not rate limited
+     * (actuator, error pages).
+     *
+     * @param method HTTP method
+     * @param path   request path without the context path
+     */
+    public static RateLimitRoute classify(String method, String path) {
+        if (path == null || !path.startsWith(PRODUCTS)) {
+            return null;
+        }
+        if (path.startsWith(SYNC_PREFIX)) {
+            return ADMIN_SYNC;
+        }
+        if (path.startsWith(ADMIN_PREFIX)) {
+            return ADMIN;
+        }
+        if (path.length() > PRODUCTS.length() && path.charAt(PRODUCTS.length()) != '/') {
+            return null;
+        }
+        if (!HttpMethod.GET.matches(method)) {
+            return WRITE;
+        }
+        // GET /products, /products/{type} and /products/categories list, /products/{type}/{id} is a single read
+        int segments = 0;
+        for (String segment : path.substring(PRODUCTS.length()).split("/")) {
+            if (!segment.isEmpty()) {
+                segments++;
+            }
+        }
+        return segments >= 2 ? SINGLE : LIST;
+    }
+}
@@ -0,0 +1,59 @@
+package com.aspiresys.fp_micro_productservice.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * Instead of a token count and a refill timestamp, the bucket keeps a single value: the
+ * time at which it will be full again (the generic cell rate algorithm). Taking a token
+ * pushes that time forward by one refill interval, and is allowed as long as it stays
+ * within {@code capacity} intervals of now. Acquiring is one compare-and-set, with no
+ * background refill.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param capacity   maximum number of tokens (burst size)
+     * @param perMinute  tokens added per minute
+     * @param nowNanos   current {@link System#nanoTime()}; the bucket starts full
+     */
+    TokenBucket(int capacity, int perMinute, long nowNanos) {
+        this.intervalNanos = 60_000_000_000L / Math.max(1, perMinute);
+        this.burstNanos = intervalNanos * Math.max(1, capacity);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token.
+     *
+     * @param nowNanos current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current - nowNanos, 0) + intervalNanos;
+            if (next > burstNanos) {
+                return next - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, nowNanos + next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the bucket has refilled completely (the client has been idle).
+     */
+    boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.aspiresys.fp_micro_productservice.common.readiness;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator reporting STARTING until every startup task tracked by
+ * {@link StartupReadinessTracker} has finished. It is part of the readiness
+ * health group, which maps STARTING to HTTP 503.
+ *
+ * @author bruno.gil
+ */
+@Component("catalogStartupHealthIndicator")
+public class CatalogStartupHealthIndicator implements HealthIndicator {
+
+    public static final Status STARTING = new Status("STARTING", "Startup tasks are still running");
+
+    @Autowired
+    private StartupReadinessTracker readinessTracker;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = readinessTracker.isReady() ? Health.up() : Health.status(STARTING);
+        return builder
+                .withDetail("pendingTasks", readinessTracker.getPendingTasks().keySet())
+                .withDetail("completedTasks", readinessTracker.getCompletedTasks())
+                .build();
+    }
+}
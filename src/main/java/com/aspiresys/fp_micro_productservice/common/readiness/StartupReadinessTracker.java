@@ -0,0 +1,133 @@
+package com.aspiresys.fp_micro_productservice.common.readiness;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the asynchronous startup tasks (initial catalog publication, cache warm-up)
+ * that must finish before the instance is reported ready.
+ * <p>
+ * The application starts serving reads as soon as the context is up; meanwhile the
+ * readiness health group reports STARTING (see {@link CatalogStartupHealthIndicator})
+ * and the Eureka instance status is kept at STARTING so the gateway does not route
+ * to this instance yet. Once every registered task has completed (or failed) the
+ * Eureka status is switched to UP.
+ * </p>
+ * <p>
+ * A started instance can also be taken out of service (for example under sustained
+ * overload) with {@link #setOutOfService(boolean)}; the Eureka status is then
+ * OUT_OF_SERVICE until it is put back. STARTING takes precedence over OUT_OF_SERVICE.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class StartupReadinessTracker {
+
+    @Autowired
+    private ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    private final Map<String, Long> pendingTasks = new ConcurrentHashMap<>();
+    private final Map<String, String> completedTasks = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile boolean outOfService;
+
+    /**
+     * Registers a startup task that must complete before the instance is ready.
+     *
+     * @param task Name of the task
+     */
+    public void register(String task) {
+        pendingTasks.put(task, System.currentTimeMillis());
+        log.info("Startup task registered: " + task);
+        applyEurekaStatus();
+    }
+
+    /**
+     * Marks a startup task as completed successfully.
+     *
+     * @param task Name of the task
+     */
+    public void complete(String task) {
+        finish(task, "COMPLETED");
+    }
+
+    /**
+     * Marks a startup task as failed. A failed task no longer blocks readiness;
+     * its failure is reported in the health details.
+     *
+     * @param task Name of the task
+     * @param error The failure
+     */
+    public void fail(String task, Throwable error) {
+        finish(task, "FAILED: " + error.getMessage());
+    }
+
+    /**
+     * Takes the instance out of service, or puts it back.
+     *
+     * @param outOfService true to report OUT_OF_SERVICE to Eureka
+     */
+    public void setOutOfService(boolean outOfService) {
+        this.outOfService = outOfService;
+        applyEurekaStatus();
+    }
+
+    public boolean isOutOfService() {
+        return outOfService;
+    }
+
+    public boolean isReady() {
+        return pendingTasks.isEmpty();
+    }
+
+    public Map<String, Long> getPendingTasks() {
+        return Map.copyOf(pendingTasks);
+    }
+
+    public Map<String, String> getCompletedTasks() {
+        synchronized (completedTasks) {
+            return new LinkedHashMap<>(completedTasks);
+        }
+    }
+
+    /**
+     * Re-applies the Eureka status once the instance has been registered,
+     * since registration resets it to the configured initial status.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        applyEurekaStatus();
+    }
+
+    private void finish(String task, String outcome) {
+        Long startedAt = pendingTasks.remove(task);
+        long duration = startedAt == null ? 0 : System.currentTimeMillis() - startedAt;
+        completedTasks.put(task, outcome + " in " + duration + " ms");
+        log.info("Startup task " + task + " " + outcome + " in " + duration + " ms");
+        applyEurekaStatus();
+    }
+
+    private void applyEurekaStatus() {
+        InstanceStatus status = !isReady() ? InstanceStatus.STARTING
+                : outOfService ? InstanceStatus.OUT_OF_SERVICE
+                : InstanceStatus.UP;
+        applicationInfoManager.ifAvailable(manager -> {
+            if (manager.getInfo().getStatus() != status) {
+                manager.setInstanceStatus(status);
+                log.info("Eureka instance status set to " + status);
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.aspiresys.fp_micro_productservice.common.sql;
+
+/**
+ * Aggregated SQL statistics of one controller method.
+ *
+ * @param handler               controller method ({@code Controller.method})
+ * @param requests              requests handled
+ * @param statements            statements executed by those requests
+ * @param avgStatements         statements per request
+ * @param maxStatements         most statements issued by a single request
+ * @param dbTimeMillis          time spent executing statements
+ * @param avgDbTimeMillis       database time per request
+ * @param overBudget            requests that exceeded the statement budget
+ * @param repeatedStatements    requests that repeated one identical statement past the threshold (possible N+1)
+ * @author bruno.gil
+ */
+public record SqlHandlerStats(String handler,
+                              long requests,
+                              long statements,
+                              double avgStatements,
+                              int maxStatements,
+                              double dbTimeMillis,
+                              double avgDbTimeMillis,
+                              long overBudget,
+                              long repeatedStatements) {
+}
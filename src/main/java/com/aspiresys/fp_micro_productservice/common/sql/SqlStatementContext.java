@@ -0,0 +1,133 @@
+package com.aspiresys.fp_micro_productservice.common.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements executed by the current thread within one unit of work (usually an HTTP request).
+ * <p>
+ * {@link StatementCountingDataSource} reports every executed statement here; statements run
+ * while no context is active on the thread are ignored. Besides the totals, the context keeps
+ * how many times each distinct SQL string ran, so repeated identical queries (the N+1 pattern)
+ * can be flagged.
+ * </p>
+ * <p>
+ * Tests can lock in query counts with the same mechanism:
+ * <pre>
+ * SqlStatementContext.begin("test");
+ * service.call();
+ * assertThat(SqlStatementContext.end().statements()).isEqualTo(1);
+ * </pre>
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public final class SqlStatementContext {
+
+    private static final ThreadLocal<SqlStatementContext> CURRENT = new ThreadLocal<>();
+
+    private final String handler;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statements;
+    private long nanos;
+    private int maxRepeated;
+    private String mostRepeatedSql;
+
+    private SqlStatementContext(String handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     *
+     * @param handler name the statements are attributed to (e.g. the controller method)
+     * @return the new context, or null if a context is already active on this thread
+     */
+    public static SqlStatementContext begin(String handler) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        SqlStatementContext context = new SqlStatementContext(handler);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Continues counting into a context begun on another thread (e.g. by the dispatch of an
+     * async request); it is stopped with {@link #end()} as usual.
+     *
+     * @return false if a context is already active on this thread
+     */
+    public static boolean resume(SqlStatementContext context) {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(context);
+        return true;
+    }
+
+    /**
+     * Stops counting and returns the context of the current thread, or null if none was active.
+     */
+    public static SqlStatementContext end() {
+        SqlStatementContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    /**
+     * Whether statements executed now by the current thread are counted.
+     */
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        SqlStatementContext context = CURRENT.get();
+        if (context != null) {
+            context.add(sql, elapsedNanos);
+        }
+    }
+
+    private void add(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        int executions = executionsBySql.merge(sql, 1, Integer::sum);
+        if (executions > maxRepeated) {
+            maxRepeated = executions;
+            mostRepeatedSql = sql;
+        }
+    }
+
+    public String handler() {
+        return handler;
+    }
+
+    /**
+     * Number of statements executed (a JDBC batch counts as one).
+     */
+    public int statements() {
+        return statements;
+    }
+
+    /**
+     * Time spent executing statements, in nanoseconds.
+     */
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * Highest number of executions of one identical SQL string.
+     */
+    public int maxRepeated() {
+        return maxRepeated;
+    }
+
+    /**
+     * The SQL string executed {@link #maxRepeated()} times, or null if no statement ran.
+     */
+    public String mostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+}
@@ -0,0 +1,67 @@
+package com.aspiresys.fp_micro_productservice.common.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Counts the SQL statements of each request handled by a controller method and hands
+ * them to the {@link SqlStatementMonitor} when the request completes.
+ * <p>
+ * Counting starts right before the controller runs and ends after the response is written,
+ * so lazy loading during JSON serialization (open session in view) is included.
+ * </p>
+ * <p>
+ * When a controller returns a future, the request thread is released as soon as async
+ * handling starts: counting stops on that thread and resumes into the same context when
+ * the result is dispatched, so the request is recorded once. Statements run by the thread
+ * that completes the future (e.g. a bulkhead worker) are not counted.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class SqlStatementInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String CONTEXT_ATTRIBUTE = SqlStatementInterceptor.class.getName() + ".context";
+
+    private final SqlStatementMonitor monitor;
+
+    public SqlStatementInterceptor(SqlStatementMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(CONTEXT_ATTRIBUTE) instanceof SqlStatementContext context) {
+            // Async dispatch of a request whose handler already ran
+            if (!SqlStatementContext.resume(context)) {
+                request.removeAttribute(CONTEXT_ATTRIBUTE);
+            }
+        } else if (handler instanceof HandlerMethod handlerMethod) {
+            SqlStatementContext context = SqlStatementContext.begin(
+                    handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+            if (context != null) {
+                request.setAttribute(CONTEXT_ATTRIBUTE, context);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(CONTEXT_ATTRIBUTE) instanceof SqlStatementContext) {
+            // The request thread goes back to the pool; the dispatch resumes the context
+            SqlStatementContext.end();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(CONTEXT_ATTRIBUTE) instanceof SqlStatementContext context) {
+            request.removeAttribute(CONTEXT_ATTRIBUTE);
+            SqlStatementContext.end();
+            monitor.record(context);
+        }
+    }
+}
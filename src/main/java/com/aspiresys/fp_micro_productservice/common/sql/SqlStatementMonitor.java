@@ -0,0 +1,116 @@
+package com.aspiresys.fp_micro_productservice.common.sql;
+
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the SQL statements of each request by controller method and flags the
+ * requests that issue too many of them.
+ * <p>
+ * A request is flagged when it exceeds the statement budget, or when it executes one
+ * identical SQL string repeatedly (typically a lazy association loaded once per row,
+ * the N+1 pattern). Flagged requests are logged with their handler.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>sql.monitor.statement-budget</b>: statements allowed per request (default 10)</li>
+ *   <li><b>sql.monitor.repeated-statement-threshold</b>: executions of one identical
+ *       statement in a request that flag a possible N+1 (default 5)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class SqlStatementMonitor {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+
+    @Value("${sql.monitor.statement-budget:10}")
+    private int statementBudget;
+
+    @Value("${sql.monitor.repeated-statement-threshold:5}")
+    private int repeatedStatementThreshold;
+
+    private final Map<String, HandlerCounters> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a finished request to the statistics of its handler.
+     */
+    public void record(SqlStatementContext context) {
+        HandlerCounters handler = counters.computeIfAbsent(context.handler(), name -> new HandlerCounters());
+        handler.requests.increment();
+        handler.statements.add(context.statements());
+        handler.nanos.add(context.nanos());
+        handler.maxStatements.accumulateAndGet(context.statements(), Math::max);
+
+        if (context.statements() > statementBudget) {
+            handler.overBudget.increment();
+            log.warning("SQL statement budget exceeded by " + context.handler() + ": " + context.statements()
+                    + " statements (budget " + statementBudget + "), " + context.nanos() / 1_000_000 + " ms in the database");
+        }
+        if (context.maxRepeated() >= repeatedStatementThreshold) {
+            handler.repeatedStatements.increment();
+            log.warning("Possible N+1 in " + context.handler() + ": same statement executed " + context.maxRepeated()
+                    + " times: " + abbreviate(context.mostRepeatedSql()));
+        }
+    }
+
+    /**
+     * Statistics of every handler seen since the last reset, most statements first.
+     */
+    public List<SqlHandlerStats> snapshot() {
+        return counters.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparingLong(SqlHandlerStats::statements).reversed())
+                .toList();
+    }
+
+    /**
+     * Statistics of one handler, or null if it has not handled any request.
+     */
+    public SqlHandlerStats snapshot(String handler) {
+        HandlerCounters handlerCounters = counters.get(handler);
+        return handlerCounters != null ? handlerCounters.toStats(handler) : null;
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private static final class HandlerCounters {
+        final LongAdder requests = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicInteger maxStatements = new AtomicInteger();
+        final LongAdder overBudget = new LongAdder();
+        final LongAdder repeatedStatements = new LongAdder();
+
+        SqlHandlerStats toStats(String handler) {
+            long requestCount = requests.sum();
+            long statementCount = statements.sum();
+            double dbMillis = nanos.sum() / 1_000_000.0;
+            return new SqlHandlerStats(handler, requestCount, statementCount,
+                    requestCount > 0 ? (double) statementCount / requestCount : 0,
+                    maxStatements.get(), dbMillis, requestCount > 0 ? dbMillis / requestCount : 0,
+                    overBudget.sum(), repeatedStatements.sum());
+        }
+    }
+}
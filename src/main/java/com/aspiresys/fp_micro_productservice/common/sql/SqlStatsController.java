@@ -0,0 +1,56 @@
+package com.aspiresys.fp_micro_productservice.common.sql;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for the per-endpoint SQL statement statistics.
+ *
+ * This controller is restricted to ADMIN users only and provides:
+ * - Statements and database time per controller method, with budget and N+1 flags
+ * - Resetting the statistics (e.g. before a load test)
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/sql-stats")
+@Log
+public class SqlStatsController {
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    /**
+     * Gets the SQL statistics of every controller method, most statements first.
+     *
+     * @return ResponseEntity with the statistics
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<List<SqlHandlerStats>>> getSqlStats() {
+        return ResponseEntity.ok(new AppResponse<>("SQL statistics retrieved successfully (statement budget: "
+                + sqlStatementMonitor.getStatementBudget() + " per request)", sqlStatementMonitor.snapshot()));
+    }
+
+    /**
+     * Clears the SQL statistics.
+     *
+     * @return ResponseEntity confirming the reset
+     */
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<Boolean>> resetSqlStats() {
+        sqlStatementMonitor.reset();
+        log.info("Admin reset the SQL statistics");
+        return ResponseEntity.ok(new AppResponse<>("SQL statistics reset", true));
+    }
+}
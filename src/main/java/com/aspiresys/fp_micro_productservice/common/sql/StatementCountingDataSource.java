@@ -0,0 +1,135 @@
+package com.aspiresys.fp_micro_productservice.common.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that reports every executed statement to the {@link SqlStatementContext}
+ * of the calling thread.
+ * <p>
+ * Connections and statements are wrapped in JDK proxies; each {@code execute*} call is timed
+ * and counted once, so a JDBC batch counts as a single statement (one round trip). Because it
+ * works at the JDBC level it sees the statements of Hibernate and of {@code JdbcTemplate} alike.
+ * When no context is active on the thread the statement runs without being timed.
+ * </p>
+ * <p>
+ * Closing the wrapper closes the target, so the connection pools of wrapped DataSource
+ * beans are still shut down with the application context.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class StatementCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final String BATCH = "<batch>";
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(), new ConnectionHandler());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, obtainTargetDataSource().getConnection(username, password), new ConnectionHandler());
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target, TargetHandler handler) {
+        handler.target = target;
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private abstract static class TargetHandler implements InvocationHandler {
+        Object target;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(method, args);
+            }
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends TargetHandler {
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = call(method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return wrap(CallableStatement.class, statement, new StatementHandler((String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return wrap(PreparedStatement.class, statement, new StatementHandler((String) args[0]));
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return wrap(Statement.class, statement, new StatementHandler(null));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends TargetHandler {
+        private final String preparedSql;
+
+        StatementHandler(String preparedSql) {
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute") || !SqlStatementContext.isActive()) {
+                return call(method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return call(method, args);
+            } finally {
+                SqlStatementContext.record(sql(args), System.nanoTime() - start);
+            }
+        }
+
+        private String sql(Object[] args) {
+            if (preparedSql != null) {
+                return preparedSql;
+            }
+            // Plain statements carry the SQL in execute(sql, ...); executeBatch() has none
+            return args != null && args.length > 0 && args[0] instanceof String sql ? sql : BATCH;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.aspiresys.fp_micro_productservice.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
+import com.aspiresys.fp_micro_productservice.aop.aspect.AuditAspect;
+
 import lombok.extern.java.Log;
 
 /**
@@ -12,6 +15,10 @@ import lombok.extern.java.Log;
  * @EnableAspectJAutoProxy enables AspectJ support in Spring
  * proxyTargetClass = true forces the use of CGLIB proxies instead of JDK proxies
  * 
+ * When the classes are built with the {@code aspectj} Maven profile, the aspects are woven
+ * at compile time instead and {@link WovenAspectsPostProcessor} wires the woven aspect
+ * instances; calls then skip proxy dispatch and self-invocations are advised too.
+ * 
  * @author bruno.gil
  */
 @Configuration
@@ -19,6 +26,17 @@ import lombok.extern.java.Log;
 @EnableConfigurationProperties(AopProperties.class)
 @Log
 public class AopConfig {
+
+    /**
+     * Aspect order, outermost first: auditing sees every call (including rejected ones),
+     * the tracing span covers the measured time, timing wraps the product operation
+     * logging, and validation runs closest to the method.
+     */
+    public static final int AUDIT_ORDER = 100;
+    public static final int TRACING_ORDER = 150;
+    public static final int EXECUTION_TIME_ORDER = 200;
+    public static final int PRODUCT_OPERATION_ORDER = 300;
+    public static final int VALIDATION_ORDER = 400;
     
     private final AopProperties aopProperties;
     
@@ -27,11 +45,21 @@ public class AopConfig {
         logAopConfiguration();
     }
     
+    /**
+     * Configures the compile-time woven aspects when the classes were built with the aspectj profile.
+     */
+    @Bean
+    public static WovenAspectsPostProcessor wovenAspectsPostProcessor() {
+        return new WovenAspectsPostProcessor();
+    }
+    
     /**
      * Registers AOP configuration upon initialization
      */
     private void logAopConfiguration() {
         log.info("=== PRODUCT SERVICE AOP Configuration ===");
+        log.info("Weaving mode: " + (WovenAspectsPostProcessor.isWoven(AuditAspect.class)
+                ? "compile-time (AspectJ)" : "proxy (Spring AOP / CGLIB)"));
         log.info("Audit enabled: " + aopProperties.getAudit().isEnabled());
         log.info("Performance monitoring enabled: " + aopProperties.getPerformance().isEnabled());
         log.info("Validation enabled: " + aopProperties.getValidation().isEnabled());
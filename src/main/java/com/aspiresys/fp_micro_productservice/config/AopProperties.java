@@ -3,6 +3,8 @@ package com.aspiresys.fp_micro_productservice.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import com.aspiresys.fp_micro_productservice.aop.audit.AuditOverflowPolicy;
+
 import lombok.Data;
 
 /**
@@ -29,6 +31,11 @@ public class AopProperties {
      * Configuration for validation
      */
     private Validation validation = new Validation();
+
+    /**
+     * Configuration for product operation logging
+     */
+    private ProductOperation productOperation = new ProductOperation();
     
     @Data
     public static class Audit {
@@ -36,6 +43,11 @@ public class AopProperties {
          * Whether auditing is enabled
          */
         private boolean enabled = true;
+
+        /**
+         * Fraction of audited calls that are recorded (0.0 - 1.0)
+         */
+        private double sampleRate = 1.0;
         
         /**
          * Whether parameters should be logged by default
@@ -46,6 +58,55 @@ public class AopProperties {
          * Whether results should be logged by default
          */
         private boolean logResults = false;
+
+        /**
+         * Capacity of the in-memory audit event buffer (rounded up to a power of two)
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * Maximum number of events handed to the audit sinks in one batch
+         */
+        private int batchSize = 256;
+
+        /**
+         * How long the audit writer waits for new events when the buffer is empty (in milliseconds)
+         */
+        private long flushIntervalMs = 200;
+
+        /**
+         * What to do when the audit buffer is full: DROP (discard the new event)
+         * or BLOCK (wait up to blockTimeoutMs for space, then discard)
+         */
+        private AuditOverflowPolicy overflowPolicy = AuditOverflowPolicy.DROP;
+
+        /**
+         * Maximum time a request thread waits for buffer space with the BLOCK policy (in milliseconds)
+         */
+        private long blockTimeoutMs = 5;
+
+        /**
+         * Configuration for the persistent audit store
+         */
+        private Store store = new Store();
+    }
+
+    @Data
+    public static class Store {
+        /**
+         * Whether audit events are persisted to the audit_record table
+         */
+        private boolean enabled = true;
+
+        /**
+         * Days of audit history to keep
+         */
+        private int retentionDays = 90;
+
+        /**
+         * How often expired audit records are removed (in minutes)
+         */
+        private long retentionIntervalMinutes = 60;
     }
     
     @Data
@@ -54,6 +115,11 @@ public class AopProperties {
          * Whether performance metrics are enabled
          */
         private boolean enabled = true;
+
+        /**
+         * Fraction of measured calls that are recorded (0.0 - 1.0)
+         */
+        private double sampleRate = 1.0;
         
         /**
          * Default threshold for warnings (in milliseconds)
@@ -64,6 +130,29 @@ public class AopProperties {
          * Whether detailed logging should be used by default
          */
         private boolean detailedLogging = false;
+
+        /**
+         * Configuration for the live performance dashboard
+         */
+        private Dashboard dashboard = new Dashboard();
+    }
+
+    @Data
+    public static class Dashboard {
+        /**
+         * Length of the rolling window the dashboard reports on (in seconds)
+         */
+        private int windowSeconds = 60;
+
+        /**
+         * Number of slices the window is divided into; the window advances one slice at a time
+         */
+        private int windowSlices = 12;
+
+        /**
+         * Number of slowest invocations kept per operation
+         */
+        private int slowestInvocations = 5;
     }
     
     @Data
@@ -78,4 +167,17 @@ public class AopProperties {
          */
         private boolean failFast = true;
     }
+
+    @Data
+    public static class ProductOperation {
+        /**
+         * Whether product controller/service operations are logged
+         */
+        private boolean enabled = true;
+
+        /**
+         * Fraction of product operations that are logged (0.0 - 1.0)
+         */
+        private double sampleRate = 1.0;
+    }
 }
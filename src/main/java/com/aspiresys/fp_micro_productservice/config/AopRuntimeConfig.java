@@ -0,0 +1,139 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import lombok.With;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runtime view of {@link AopProperties} read by the aspects on every call.
+ * <p>
+ * The settings are held in an immutable {@link Snapshot} behind an
+ * {@link AtomicReference}, so reading them costs a single volatile read and a
+ * change is seen atomically by all aspects. The snapshot is rebuilt whenever the
+ * {@code aop.*} properties change (e.g. {@code /actuator/refresh} after a config
+ * server update) and can be overridden through the admin endpoint until the next
+ * refresh.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class AopRuntimeConfig {
+
+    /**
+     * Enablement and sampling of one aspect.
+     */
+    public record AspectSettings(boolean enabled, double sampleRate) {
+
+        public AspectSettings {
+            sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+        }
+
+        /**
+         * Decides whether the current call is instrumented.
+         */
+        public boolean shouldApply() {
+            if (!enabled || sampleRate <= 0.0) {
+                return false;
+            }
+            return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+    }
+
+    /**
+     * Immutable AOP settings.
+     */
+    @With
+    public record Snapshot(AspectSettings audit,
+                           AspectSettings performance,
+                           AspectSettings productOperation,
+                           boolean validationEnabled,
+                           boolean validationFailFast,
+                           boolean logParameters,
+                           boolean logResults,
+                           long defaultWarningThreshold,
+                           boolean detailedLogging) {
+
+        static Snapshot of(AopProperties properties) {
+            return new Snapshot(
+                    new AspectSettings(properties.getAudit().isEnabled(), properties.getAudit().getSampleRate()),
+                    new AspectSettings(properties.getPerformance().isEnabled(), properties.getPerformance().getSampleRate()),
+                    new AspectSettings(properties.getProductOperation().isEnabled(), properties.getProductOperation().getSampleRate()),
+                    properties.getValidation().isEnabled(),
+                    properties.getValidation().isFailFast(),
+                    properties.getAudit().isLogParameters(),
+                    properties.getAudit().isLogResults(),
+                    properties.getPerformance().getDefaultWarningThreshold(),
+                    properties.getPerformance().isDetailedLogging());
+        }
+    }
+
+    @Autowired
+    private AopProperties aopProperties;
+
+    @Autowired
+    private Environment environment;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.of(new AopProperties()));
+
+    @PostConstruct
+    void init() {
+        snapshot.set(Snapshot.of(aopProperties));
+    }
+
+    /**
+     * Returns the current settings.
+     */
+    public Snapshot get() {
+        return snapshot.get();
+    }
+
+    /**
+     * Replaces the current settings.
+     */
+    public void set(Snapshot newSnapshot) {
+        snapshot.set(newSnapshot);
+        log.info("AOP runtime configuration updated: " + newSnapshot);
+    }
+
+    /**
+     * Atomically changes part of the current settings. The function may be
+     * called more than once if another change lands concurrently, so it must
+     * not have side effects.
+     *
+     * @param change derives the new settings from the current ones
+     * @return the settings after the change
+     */
+    public Snapshot update(UnaryOperator<Snapshot> change) {
+        Snapshot updated = snapshot.updateAndGet(change);
+        log.info("AOP runtime configuration updated: " + updated);
+        return updated;
+    }
+
+    /**
+     * Rebinds the {@code aop.*} properties when the environment changes and
+     * publishes a new snapshot.
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith("aop."))) {
+            return;
+        }
+        AopProperties refreshed = Binder.get(environment)
+                .bind("aop", AopProperties.class)
+                .orElseGet(AopProperties::new);
+        set(Snapshot.of(refreshed));
+    }
+}
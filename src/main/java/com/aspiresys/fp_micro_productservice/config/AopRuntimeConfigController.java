@@ -0,0 +1,86 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * REST Controller for inspecting and changing the AOP runtime configuration.
+ * 
+ * This controller is restricted to ADMIN users only and provides:
+ * - The current AOP settings
+ * - Hot toggles for enablement and sampling rate of each aspect
+ * 
+ * Changes made here last until the next configuration refresh.
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/aop")
+@Log
+public class AopRuntimeConfigController {
+
+    @Autowired
+    private AopRuntimeConfig aopRuntimeConfig;
+
+    /**
+     * Gets the current AOP runtime settings.
+     *
+     * @return ResponseEntity with the current snapshot
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<AopRuntimeConfig.Snapshot>> getAopConfig() {
+        return ResponseEntity.ok(new AppResponse<>("AOP configuration retrieved successfully", aopRuntimeConfig.get()));
+    }
+
+    /**
+     * Enables/disables an aspect or changes its sampling rate.
+     *
+     * @param aspect     one of audit, performance, productOperation, validation
+     * @param enabled    new enablement (unchanged if absent)
+     * @param sampleRate new sampling rate between 0.0 and 1.0 (unchanged if absent; ignored for validation)
+     * @return ResponseEntity with the updated snapshot
+     */
+    @PutMapping("/{aspect}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<AopRuntimeConfig.Snapshot>> updateAspect(
+            @PathVariable String aspect,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) Double sampleRate) {
+        if (sampleRate != null && (sampleRate < 0.0 || sampleRate > 1.0)) {
+            return ResponseEntity.badRequest()
+                    .body(new AppResponse<>("sampleRate must be between 0.0 and 1.0", aopRuntimeConfig.get()));
+        }
+
+        UnaryOperator<AopRuntimeConfig.Snapshot> change = switch (aspect) {
+            case "audit" -> current -> current.withAudit(update(current.audit(), enabled, sampleRate));
+            case "performance" -> current -> current.withPerformance(update(current.performance(), enabled, sampleRate));
+            case "productOperation" -> current -> current.withProductOperation(update(current.productOperation(), enabled, sampleRate));
+            case "validation" -> current -> current.withValidationEnabled(enabled != null ? enabled : current.validationEnabled());
+            default -> null;
+        };
+
+        if (change == null) {
+            return ResponseEntity.badRequest()
+                    .body(new AppResponse<>("Unknown aspect: " + aspect, aopRuntimeConfig.get()));
+        }
+
+        // Applied to the latest settings, so concurrent changes to other aspects are kept
+        AopRuntimeConfig.Snapshot updated = aopRuntimeConfig.update(change);
+        log.info("Admin updated AOP aspect '" + aspect + "' (enabled: " + enabled + ", sampleRate: " + sampleRate + ")");
+        return ResponseEntity.ok(new AppResponse<>("AOP configuration updated successfully", updated));
+    }
+
+    private AopRuntimeConfig.AspectSettings update(AopRuntimeConfig.AspectSettings settings,
+                                                   Boolean enabled, Double sampleRate) {
+        return new AopRuntimeConfig.AspectSettings(
+                enabled != null ? enabled : settings.enabled(),
+                sampleRate != null ? sampleRate : settings.sampleRate());
+    }
+}
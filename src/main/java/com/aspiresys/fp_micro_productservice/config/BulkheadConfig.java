@@ -0,0 +1,115 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import com.aspiresys.fp_micro_productservice.common.bulkhead.Bulkhead;
+import com.aspiresys.fp_micro_productservice.common.bulkhead.DataSourcePartition;
+import com.aspiresys.fp_micro_productservice.common.bulkhead.PartitionedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Bulkheads that keep admin and bulk operations from starving public reads.
+ * <p>
+ * Admin operations (Kafka sync, sync status) run on the {@code admin} {@link Bulkhead}
+ * instead of Tomcat request threads, and their database work, like catalog generation,
+ * uses a separate connection pool: the application DataSource is a {@link PartitionedDataSource}
+ * with the default pool (configured with {@code spring.datasource.hikari.*} as usual) and a
+ * small admin pool. The {@code listing} bulkhead bounds the threads that run the
+ * per-subtype product queries.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>bulkhead.admin.threads</b>: threads running admin operations (default 2)</li>
+ *   <li><b>bulkhead.admin.queue-capacity</b>: admin operations that may wait for a thread (default 4)</li>
+ *   <li><b>bulkhead.admin.pool-size</b>: connections of the admin pool (default 2)</li>
+ *   <li><b>bulkhead.admin.retry-after-seconds</b>: Retry-After sent when the admin bulkhead
+ *   rejects an operation (default 5)</li>
+ *   <li><b>bulkhead.listing.threads</b>: threads running per-subtype listing queries (default 4)</li>
+ *   <li><b>bulkhead.listing.queue-capacity</b>: listing queries that may wait for a thread (default 32)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Configuration
+@Log
+public class BulkheadConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Value("${bulkhead.admin.threads:2}")
+    private int adminThreads;
+
+    @Value("${bulkhead.admin.queue-capacity:4}")
+    private int adminQueueCapacity;
+
+    @Value("${bulkhead.admin.pool-size:2}")
+    private int adminPoolSize;
+
+    @Value("${bulkhead.listing.threads:4}")
+    private int listingThreads;
+
+    @Value("${bulkhead.listing.queue-capacity:32}")
+    private int listingQueueCapacity;
+
+    /**
+     * Executor of admin operations.
+     */
+    @Bean
+    public Bulkhead adminBulkhead(MeterRegistry meterRegistry) {
+        return new Bulkhead("admin", DataSourcePartition.ADMIN, adminThreads, adminQueueCapacity, meterRegistry);
+    }
+
+    /**
+     * Executor of the per-subtype product listing queries, which use the default pool.
+     */
+    @Bean
+    public Bulkhead listingBulkhead(MeterRegistry meterRegistry) {
+        return new Bulkhead("listing", DataSourcePartition.DEFAULT, listingThreads, listingQueueCapacity, meterRegistry);
+    }
+
+    /**
+     * Application DataSource, with one connection pool per {@link DataSourcePartition}.
+     * Both pools publish the {@code hikaricp.*} metrics under their pool names.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource defaultPool = createPool(properties, environment, meterRegistry);
+        if (defaultPool.getPoolName() == null) {
+            defaultPool.setPoolName("product-pool");
+        }
+
+        HikariDataSource adminPool = createPool(properties, environment, meterRegistry);
+        adminPool.setPoolName(defaultPool.getPoolName() + "-admin");
+        adminPool.setMaximumPoolSize(Math.max(1, adminPoolSize));
+        // Admin work is occasional, do not keep idle connections for it
+        adminPool.setMinimumIdle(0);
+
+        log.info("Connection pools: " + defaultPool.getPoolName() + " (" + defaultPool.getMaximumPoolSize()
+                + " connections) and " + adminPool.getPoolName() + " (" + adminPool.getMaximumPoolSize() + " connections)");
+        return new PartitionedDataSource(Map.of(
+                DataSourcePartition.DEFAULT, defaultPool,
+                DataSourcePartition.ADMIN, adminPool));
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties properties, Environment environment,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,50 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Scheduler shared by the periodic background tasks of the service: category refresh,
+ * product event coalescing, spool replay, audit retention, performance dashboard rotation
+ * and the concurrency limit windows.
+ * <p>
+ * Each component schedules its task on this {@link TaskScheduler} when it starts and cancels
+ * it when it is destroyed; the context shuts the scheduler down after them. Tasks run with a
+ * fixed delay or rate, so each occupies at most one thread at a time: with one thread per task
+ * a slow spool replay or retention purge never delays the others.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>scheduling.pool-size</b>: threads of the shared scheduler (default 6)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Value("${scheduling.pool-size:6}")
+    private int poolSize;
+
+    /**
+     * Scheduler of the periodic background tasks. Its threads are daemons, like the
+     * dedicated scheduler threads it replaces.
+     * <p>
+     * Declared as a {@link TaskScheduler}: a bean declared as an {@code Executor} would make
+     * Spring Boot back off from the {@code applicationTaskExecutor} used for startup work.
+     * </p>
+     */
+    @Bean
+    public TaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, poolSize));
+        scheduler.setThreadNamePrefix("background-");
+        scheduler.setDaemon(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -1,9 +1,27 @@
 package com.aspiresys.fp_micro_productservice.config;
 
+import com.aspiresys.fp_micro_productservice.common.overload.AdaptiveConcurrencyLimiter;
+import com.aspiresys.fp_micro_productservice.common.overload.ConcurrencyLimitFilter;
+import com.aspiresys.fp_micro_productservice.common.ratelimit.ClientRateLimiter;
+import com.aspiresys.fp_micro_productservice.common.ratelimit.RateLimitFilter;
+import com.aspiresys.fp_micro_productservice.security.CachingJwtAuthenticationProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.aspiresys.fp_micro_productservice.tracing.Spans;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.tracing.Tracer;
+import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -11,13 +29,18 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.net.MalformedURLException;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -28,12 +51,18 @@ import java.util.stream.Collectors;
  * - Defines authorization rules for the endpoints
  * - Configures CORS to allow access from the frontend
  * - Converts JWT claims into Spring Security authorities
+ * - Caches verified tokens with their authorities ({@link CachingJwtAuthenticationProvider})
+ *   and the JWK set, which is refreshed in the background before it expires
+ * - Rate limits requests per client and route ({@link RateLimitFilter}), answering 429 when
+ *   a client exceeds its budget
+ * - Sheds product requests above the adaptive concurrency limit ({@link ConcurrencyLimitFilter})
  * - Restricts create, update, and delete operations to ADMIN role
  * - Allows public access to product read endpoints
  */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
+@Log
 public class SecurityConfig {
 
     @Value("${service.env.frontend.server}")
@@ -45,8 +74,24 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
     private String jwkSetUri;
 
+    @Value("${security.jwks.cache-ttl-seconds:300}")
+    private long jwksCacheTtlSeconds;
+
+    @Value("${security.jwks.refresh-ahead-seconds:30}")
+    private long jwksRefreshAheadSeconds;
+
+    @Value("${security.jwks.refresh-timeout-seconds:15}")
+    private long jwksRefreshTimeoutSeconds;
+
+    @Value("${security.jwks.warm-up:true}")
+    private boolean jwksWarmUp;
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   CachingJwtAuthenticationProvider jwtAuthenticationProvider,
+                                                   ClientRateLimiter rateLimiter,
+                                                   AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                                   ObjectMapper objectMapper) throws Exception {
         return http
                 .csrf(csrf -> csrf.disable()) // Disable CSRF for REST APIs
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -54,9 +99,10 @@ public class SecurityConfig {
                         // Public endpoints
                         .requestMatchers(HttpMethod.GET, "/products").permitAll()
                         .requestMatchers(HttpMethod.GET, "/products/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
 
                         // Endpoints requiring ADMIN role
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // metrics and prometheus
                         .requestMatchers(HttpMethod.POST, "/products").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/products/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/products/**").hasRole("ADMIN")
@@ -65,8 +111,11 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter()))
+                        .jwt(jwt -> jwt.authenticationManager(new ProviderManager(jwtAuthenticationProvider)))
                 )
+                // After authentication so that clients with a token are limited by subject
+                .addFilterAfter(new RateLimitFilter(rateLimiter, objectMapper), BearerTokenAuthenticationFilter.class)
+                .addFilterAfter(new ConcurrencyLimitFilter(concurrencyLimiter, objectMapper), RateLimitFilter.class)
                 .build();
     }
 
@@ -128,10 +177,48 @@ public class SecurityConfig {
     }
 
     /**
-     * JwtDecoder bean to decode and validate JWT tokens.
+     * JWK set of the authorization server.
+     * <p>
+     * The set is cached for {@code security.jwks.cache-ttl-seconds} and refreshed by a background
+     * task {@code security.jwks.refresh-ahead-seconds} before it expires, so requests never wait
+     * for a scheduled refresh; a token signed with an unknown key still triggers an immediate
+     * (rate-limited) reload. Unless {@code security.jwks.warm-up} is false, the set is loaded
+     * in the background at startup instead of on the first authenticated request.
+     * </p>
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    public JWKSource<SecurityContext> jwkSource() throws MalformedURLException {
+        JWKSource<SecurityContext> jwkSource = JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(TimeUnit.SECONDS.toMillis(jwksCacheTtlSeconds), TimeUnit.SECONDS.toMillis(jwksRefreshTimeoutSeconds))
+                .refreshAheadCache(TimeUnit.SECONDS.toMillis(jwksRefreshAheadSeconds), true)
+                .retrying(true)
+                .build();
+        if (jwksWarmUp) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    int keys = jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null).size();
+                    log.info("JWK set loaded with " + keys + " keys from " + jwkSetUri);
+                } catch (Exception e) {
+                    log.warning("JWK set warm-up failed, it will be loaded on the first request: " + e.getMessage());
+                }
+            });
+        }
+        return jwkSource;
+    }
+
+    /**
+     * JwtDecoder bean to decode and validate JWT tokens (RS256, keys from {@link #jwkSource()}).
+     * Decoding runs in its own tracing span; it is only called for tokens that are not
+     * in the verified token cache.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(Tracer tracer, JWKSource<SecurityContext> jwkSource) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are validated by the decoder's JwtValidators (expiry and not-before)
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        JwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        return token -> Spans.supplyInChildSpan(tracer, "jwt.decode", () -> decoder.decode(token));
     }
 }
@@ -0,0 +1,53 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import com.aspiresys.fp_micro_productservice.common.sql.SqlStatementInterceptor;
+import com.aspiresys.fp_micro_productservice.common.sql.SqlStatementMonitor;
+import com.aspiresys.fp_micro_productservice.common.sql.StatementCountingDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration of the per-request SQL statement counting.
+ * <p>
+ * Every DataSource bean is wrapped in a {@link StatementCountingDataSource} and the
+ * {@link SqlStatementInterceptor} attributes the statements of each request to its
+ * controller method. Disable with {@code sql.monitor.enabled=false}.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitorConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    /**
+     * Wraps the DataSource beans so the statements they execute are counted.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementInterceptor(sqlStatementMonitor));
+    }
+}
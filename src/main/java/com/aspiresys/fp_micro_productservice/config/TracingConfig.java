@@ -0,0 +1,63 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import com.aspiresys.fp_micro_productservice.tracing.Spans;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracing configuration for the Product Service.
+ * <p>
+ * Spring Boot traces incoming HTTP requests, and the Kafka templates are observed (see
+ * {@link com.aspiresys.fp_micro_productservice.kafka.config.KafkaProducerConfig}). This
+ * configuration adds a span around every Spring Data repository call, named
+ * {@code Repository.method}, so the database time of a request shows up in its trace.
+ * Finished traces are kept by the
+ * {@link com.aspiresys.fp_micro_productservice.tracing.InMemorySpanCollector}.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Adds the tracing interceptor to every repository proxy.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTracingPostProcessor(ObjectProvider<Tracer> tracerProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(repositoryTracingInterceptor(
+                                    tracerProvider, repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor repositoryTracingInterceptor(ObjectProvider<Tracer> tracerProvider, String repositoryName) {
+        SingletonSupplier<Tracer> tracer = SingletonSupplier.of(tracerProvider::getObject);
+        Map<Method, String> spanNames = new ConcurrentHashMap<>();
+        return invocation -> {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            String spanName = spanNames.computeIfAbsent(method, m -> repositoryName + "." + m.getName());
+            return Spans.inChildSpan(tracer.obtain(), spanName, invocation::proceed);
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import lombok.extern.java.Log;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Supports running the aspects woven at compile time by the {@code aspectj} build profile.
+ * <p>
+ * A woven aspect is an AspectJ singleton: the advice in the woven classes always uses the
+ * instance returned by its static {@code aspectOf()} method. This post-processor makes the
+ * Spring bean of every woven aspect that same instance (by using {@code aspectOf} as its
+ * factory method), so its {@code @Autowired} dependencies are injected into the instance
+ * the advice actually runs on. Spring AOP already ignores aspects compiled by ajc, so woven
+ * aspects are never applied twice through proxies.
+ * </p>
+ * <p>
+ * Every other bean whose class ajc wove advice into is made to depend on the woven aspect
+ * beans, so the aspects are configured before any advised bean exists and the advice never
+ * runs on an unconfigured instance. For {@code @Bean} methods and other factory methods the
+ * declared return type is checked, so a woven class returned through an interface type is
+ * not seen. Woven classes are therefore meant to be created by the context; one constructed
+ * directly (e.g. in a plain unit test) runs the advice without its dependencies.
+ * </p>
+ * <p>
+ * A woven aspect must be registered by its class (e.g. component scanning or
+ * {@code @Import}): one created by a factory method cannot be switched to
+ * {@code aspectOf()}, so it fails the startup.
+ * </p>
+ * <p>
+ * Without the profile the aspects are plain classes and Spring AOP applies them through
+ * CGLIB proxies as before.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Log
+public class WovenAspectsPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final String ASPECT_OF = "aspectOf";
+    private static final String WOVEN_JOIN_POINT_PREFIX = "ajc$tjp_";
+
+    /**
+     * Whether the given aspect class was woven by ajc.
+     */
+    public static boolean isWoven(Class<?> aspectClass) {
+        try {
+            Method aspectOf = aspectClass.getMethod(ASPECT_OF);
+            return Modifier.isStatic(aspectOf.getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether ajc wove advice into the given class. Woven join points keep their static
+     * parts in synthetic {@code ajc$tjp_} fields.
+     */
+    static boolean isAdvisedByWeaving(Class<?> beanClass) {
+        for (Field field : beanClass.getDeclaredFields()) {
+            if (field.getName().startsWith(WOVEN_JOIN_POINT_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        List<String> wovenAspects = new ArrayList<>();
+        List<AbstractBeanDefinition> advisedBeans = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (!(definition instanceof AbstractBeanDefinition beanDefinition) || definition.isAbstract()) {
+                continue;
+            }
+            Class<?> beanClass = beanClass(beanName, beanDefinition, beanFactory);
+            if (beanClass == null) {
+                continue;
+            }
+            if (beanClass.isAnnotationPresent(Aspect.class) && isWoven(beanClass)) {
+                if (definition.getFactoryMethodName() != null) {
+                    throw new IllegalStateException("Woven aspect " + beanClass.getName() + " (bean '" + beanName
+                            + "') is created by factory method '" + definition.getFactoryMethodName()
+                            + "'; register the aspect class itself so its bean is the instance returned by aspectOf()");
+                }
+                beanDefinition.setFactoryMethodName(ASPECT_OF);
+                wovenAspects.add(beanName);
+                log.info("Using compile-time woven aspect " + beanClass.getSimpleName() + " (bean '" + beanName + "')");
+            } else if (isAdvisedByWeaving(beanClass)) {
+                advisedBeans.add(beanDefinition);
+            }
+        }
+        if (wovenAspects.isEmpty()) {
+            return;
+        }
+        for (AbstractBeanDefinition advised : advisedBeans) {
+            Set<String> dependsOn = new LinkedHashSet<>();
+            if (advised.getDependsOn() != null) {
+                dependsOn.addAll(Arrays.asList(advised.getDependsOn()));
+            }
+            dependsOn.addAll(wovenAspects);
+            advised.setDependsOn(dependsOn.toArray(String[]::new));
+        }
+    }
+
+    /**
+     * The class of the bean, or the declared return type of its factory method.
+     */
+    private static Class<?> beanClass(String beanName, AbstractBeanDefinition definition,
+                                      ConfigurableListableBeanFactory beanFactory) {
+        if (definition.getFactoryMethodName() == null && definition.getBeanClassName() != null) {
+            return ClassUtils.resolveClassName(definition.getBeanClassName(), beanFactory.getBeanClassLoader());
+        }
+        return beanFactory.getType(beanName, false);
+    }
+}
@@ -0,0 +1,66 @@
+package com.aspiresys.fp_micro_productservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a lookup in one of the service's in-memory caches.
+ * Instant event; disabled unless a recording enables it.
+ *
+ * @author bruno.gil
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("Cache Lookup")
+@Category({"Product Service", "Caches"})
+@Description("Hit or miss in an in-memory cache of the product service")
+@Enabled(false)
+@StackTrace(false)
+public class CacheLookupEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.aspiresys.product.CacheLookup";
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Hit")
+    public boolean hit;
+
+    /**
+     * Records a lookup if the event is enabled in a running recording.
+     */
+    public static void record(String cache, String key, boolean hit) {
+        if (!isActive()) {
+            return;
+        }
+        CacheLookupEvent event = new CacheLookupEvent();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.key = key;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+
+    /**
+     * Whether a running recording enables this event. Checked before an event is
+     * allocated, so the call sites cost nothing while no recording is running.
+     */
+    public static boolean isActive() {
+        return Type.EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Resolved on first use rather than while the event class itself is initialised.
+     */
+    private static final class Type {
+        private static final EventType EVENT_TYPE = EventType.getEventType(CacheLookupEvent.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.aspiresys.fp_micro_productservice.jfr;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.text.ParseException;
+
+/**
+ * REST Controller for on-demand Java Flight Recorder recordings.
+ *
+ * This controller is restricted to ADMIN users only and provides:
+ * - Starting a recording with the product events enabled
+ * - Dumping the data recorded so far, or stopping the recording, to a file
+ * - The recording status
+ * - Downloading a written recording file (open it with JDK Mission Control or {@code jfr print})
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/jfr")
+@Log
+public class FlightRecordingController {
+
+    @Autowired
+    private FlightRecordingService flightRecordingService;
+
+    /**
+     * Starts a recording.
+     *
+     * @param settings JDK configuration to start from: {@code default} (low overhead) or {@code profile}
+     * @return 200 with the recording status, 409 if a recording is running, 400 for unknown settings
+     */
+    @PostMapping("/start")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<RecordingStatus>> startRecording(@RequestParam(defaultValue = "profile") String settings) {
+        try {
+            if (!flightRecordingService.start(settings)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new AppResponse<>("A flight recording is already running", flightRecordingService.status()));
+            }
+            return ResponseEntity.ok(new AppResponse<>("Flight recording started", flightRecordingService.status()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new AppResponse<>(e.getMessage(), flightRecordingService.status()));
+        } catch (IOException | ParseException e) {
+            log.severe("Failed to start flight recording: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(new AppResponse<>("Failed to start flight recording: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Writes the data recorded so far to a file, leaving the recording running.
+     *
+     * @return ResponseEntity with the file name, or 409 if no recording is running
+     */
+    @PostMapping("/dump")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<String>> dumpRecording() {
+        try {
+            return ResponseEntity.ok(new AppResponse<>("Flight recording dumped", flightRecordingService.dump()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new AppResponse<>(e.getMessage(), null));
+        } catch (IOException e) {
+            log.severe("Failed to dump flight recording: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(new AppResponse<>("Failed to dump flight recording: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Stops the recording and writes it to a file.
+     *
+     * @return ResponseEntity with the file name, or 409 if no recording is running
+     */
+    @PostMapping("/stop")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<String>> stopRecording() {
+        try {
+            return ResponseEntity.ok(new AppResponse<>("Flight recording stopped", flightRecordingService.stop()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new AppResponse<>(e.getMessage(), null));
+        } catch (IOException e) {
+            log.severe("Failed to stop flight recording: " + e.getMessage());
+            return ResponseEntity.internalServerError()
+                    .body(new AppResponse<>("Failed to stop flight recording: " + e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Gets the status of the recording.
+     *
+     * @return ResponseEntity with the recording status
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<RecordingStatus>> getRecordingStatus() {
+        return ResponseEntity.ok(new AppResponse<>("Flight recording status retrieved successfully", flightRecordingService.status()));
+    }
+
+    /**
+     * Downloads a recording file written by a dump or stop.
+     *
+     * @param fileName the file name returned by dump or stop
+     * @return the .jfr file, or 404 if it does not exist
+     */
+    @GetMapping("/files/{fileName:.+}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable String fileName) {
+        try {
+            Resource file = new FileSystemResource(flightRecordingService.recordingFile(fileName));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                    .body(file);
+        } catch (NoSuchFileException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
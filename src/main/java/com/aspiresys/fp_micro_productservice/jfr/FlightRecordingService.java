@@ -0,0 +1,184 @@
+package com.aspiresys.fp_micro_productservice.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Starts, dumps and stops a Java Flight Recorder recording on demand.
+ * <p>
+ * A recording uses a JDK configuration ({@code default}, low overhead, or {@code profile},
+ * more detail) with the product events of {@code jfr/product-service.jfc} enabled on top.
+ * Only one on-demand recording runs at a time; it keeps at most
+ * {@code jfr.recording.max-age-minutes} and {@code jfr.recording.max-size-mb} of data.
+ * Dumps and stopped recordings are written to {@code jfr.recording.directory}.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Service
+@Log
+public class FlightRecordingService {
+
+    static final String PRODUCT_SETTINGS = "jfr/product-service.jfc";
+    static final String RECORDING_NAME = "product-service";
+    private static final Set<String> JDK_SETTINGS = Set.of("default", "profile");
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    @Value("${jfr.recording.directory:recordings}")
+    private String recordingDirectory;
+
+    @Value("${jfr.recording.max-age-minutes:30}")
+    private long maxAgeMinutes;
+
+    @Value("${jfr.recording.max-size-mb:250}")
+    private long maxSizeMb;
+
+    private Path directory;
+    private Recording recording;
+    private String settingsName;
+    private Instant startedAt;
+    private String lastFile;
+
+    @PostConstruct
+    void init() {
+        directory = Path.of(recordingDirectory).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Starts a recording.
+     *
+     * @param settings JDK configuration to start from: {@code default} or {@code profile}
+     * @return false if a recording is already running
+     * @throws IllegalArgumentException if the settings name is unknown
+     */
+    public synchronized boolean start(String settings) throws IOException, ParseException {
+        if (!JDK_SETTINGS.contains(settings)) {
+            throw new IllegalArgumentException("Unknown settings '" + settings + "', expected one of " + JDK_SETTINGS);
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return false;
+        }
+        closeRecording();
+
+        Map<String, String> recordingSettings = new HashMap<>(Configuration.getConfiguration(settings).getSettings());
+        recordingSettings.putAll(productSettings());
+        Recording newRecording = new Recording(recordingSettings);
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+        newRecording.setMaxSize(maxSizeMb * 1024 * 1024);
+        newRecording.start();
+
+        recording = newRecording;
+        settingsName = settings;
+        startedAt = Instant.now();
+        log.info("Flight recording started with '" + settings + "' settings and the product events");
+        return true;
+    }
+
+    /**
+     * Writes the data recorded so far to a file, leaving the recording running.
+     *
+     * @return the file name
+     * @throws IllegalStateException if no recording is running
+     */
+    public synchronized String dump() throws IOException {
+        requireRunning();
+        String fileName = writeRecording();
+        log.info("Flight recording dumped to " + directory.resolve(fileName));
+        return fileName;
+    }
+
+    /**
+     * Stops the recording and writes it to a file.
+     *
+     * @return the file name
+     * @throws IllegalStateException if no recording is running
+     */
+    public synchronized String stop() throws IOException {
+        requireRunning();
+        recording.stop();
+        String fileName = writeRecording();
+        closeRecording();
+        log.info("Flight recording stopped and written to " + directory.resolve(fileName));
+        return fileName;
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus("NONE", null, null, 0, 0, 0, lastFile);
+        }
+        return new RecordingStatus(recording.getState().name(), settingsName, startedAt,
+                recording.getMaxAge().toSeconds(), recording.getMaxSize(), recording.getSize(), lastFile);
+    }
+
+    /**
+     * Resolves a file written by {@link #dump()} or {@link #stop()}.
+     *
+     * @throws NoSuchFileException if the name is not a recording file in the recording directory
+     */
+    public Path recordingFile(String fileName) throws NoSuchFileException {
+        Path file = directory.resolve(fileName).normalize();
+        if (!directory.equals(file.getParent()) || !fileName.endsWith(".jfr") || !Files.isRegularFile(file)) {
+            throw new NoSuchFileException(fileName);
+        }
+        return file;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        closeRecording();
+    }
+
+    private void requireRunning() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+    }
+
+    private String writeRecording() throws IOException {
+        Files.createDirectories(directory);
+        String fileName = RECORDING_NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr";
+        recording.dump(directory.resolve(fileName));
+        lastFile = fileName;
+        return fileName;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Map<String, String> productSettings() throws IOException, ParseException {
+        try (Reader reader = new InputStreamReader(new ClassPathResource(PRODUCT_SETTINGS).getInputStream(),
+                StandardCharsets.UTF_8)) {
+            return Configuration.create(reader).getSettings();
+        }
+    }
+}
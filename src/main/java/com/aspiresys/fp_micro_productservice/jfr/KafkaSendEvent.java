@@ -0,0 +1,78 @@
+package com.aspiresys.fp_micro_productservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a product event sent to Kafka by the
+ * {@link com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService}.
+ * <p>
+ * The event duration is the latency from the send to the broker acknowledgment, and
+ * the event is committed by the thread that completes the send (the producer network
+ * thread), not by the caller.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Name(KafkaSendEvent.NAME)
+@Label("Kafka Send")
+@Category({"Product Service", "Kafka"})
+@Description("Product event sent to Kafka, from send to acknowledgment")
+@Enabled(false)
+@StackTrace(false)
+public class KafkaSendEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.aspiresys.product.KafkaSend";
+
+    @Label("Topic")
+    public String topic;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Producer Profile")
+    public String profile;
+
+    @Label("Success")
+    public boolean success;
+
+    @Label("Error")
+    public String error;
+
+    /**
+     * Begins a new event if a running recording enables it.
+     *
+     * @return The begun event, or {@code null} when the event is not recorded
+     */
+    public static KafkaSendEvent beginIfActive() {
+        if (!isActive()) {
+            return null;
+        }
+        KafkaSendEvent event = new KafkaSendEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Whether a running recording enables this event. Checked before an event is
+     * allocated, so the call sites cost nothing while no recording is running.
+     */
+    public static boolean isActive() {
+        return Type.EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Resolved on first use rather than while the event class itself is initialised.
+     */
+    private static final class Type {
+        private static final EventType EVENT_TYPE = EventType.getEventType(KafkaSendEvent.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.aspiresys.fp_micro_productservice.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for an {@code @ExecutionTime} operation, emitted by the
+ * {@link com.aspiresys.fp_micro_productservice.aop.aspect.ExecutionTimeAspect}.
+ * The event duration is the execution time of the method.
+ *
+ * @author bruno.gil
+ */
+@Name(ProductOperationEvent.NAME)
+@Label("Product Operation")
+@Category({"Product Service", "Operations"})
+@Description("Execution of an @ExecutionTime product operation")
+@Enabled(false)
+@StackTrace(false)
+public class ProductOperationEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "com.aspiresys.product.Operation";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Class")
+    public String className;
+
+    @Label("Method")
+    public String methodName;
+
+    @Label("Success")
+    public boolean success;
+
+    /**
+     * Begins a new event if a running recording enables it.
+     *
+     * @return The begun event, or {@code null} when the event is not recorded
+     */
+    public static ProductOperationEvent beginIfActive() {
+        if (!isActive()) {
+            return null;
+        }
+        ProductOperationEvent event = new ProductOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Whether a running recording enables this event. Checked before an event is
+     * allocated, so the call sites cost nothing while no recording is running.
+     */
+    public static boolean isActive() {
+        return Type.EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * Resolved on first use rather than while the event class itself is initialised.
+     */
+    private static final class Type {
+        private static final EventType EVENT_TYPE = EventType.getEventType(ProductOperationEvent.class);
+    }
+}
@@ -0,0 +1,24 @@
+package com.aspiresys.fp_micro_productservice.jfr;
+
+import java.time.Instant;
+
+/**
+ * State of the on-demand Flight Recorder recording.
+ *
+ * @param state         NEW, RUNNING, STOPPED or CLOSED, or NONE if no recording was started
+ * @param settings      JDK configuration the product events were added to (default or profile)
+ * @param startedAt     start of the recording
+ * @param maxAgeSeconds age after which recorded data is discarded
+ * @param maxSizeBytes  size after which the oldest recorded data is discarded
+ * @param recordedBytes data recorded so far
+ * @param lastFile      name of the last file written by a dump or stop, or null
+ * @author bruno.gil
+ */
+public record RecordingStatus(String state,
+                              String settings,
+                              Instant startedAt,
+                              long maxAgeSeconds,
+                              long maxSizeBytes,
+                              long recordedBytes,
+                              String lastFile) {
+}
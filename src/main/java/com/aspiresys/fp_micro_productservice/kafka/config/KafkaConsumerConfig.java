@@ -0,0 +1,90 @@
+package com.aspiresys.fp_micro_productservice.kafka.config;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.OrderMessage;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for Kafka Consumer setup.
+ * <p>
+ * This class configures the batch consumer that receives order events
+ * and applies the resulting stock changes. Offsets are committed manually
+ * once a batch has been applied.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>kafka.consumer.order.enabled</b>: enables the order consumer (default true)</li>
+ *   <li><b>kafka.consumer.order.max-poll-records</b>: maximum records per batch (default 500)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Configuration
+@ConditionalOnProperty(name = "kafka.consumer.order.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaConsumerConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.consumer.group-id:product-service}")
+    private String groupId;
+
+    @Value("${kafka.consumer.order.max-poll-records:500}")
+    private int maxPollRecords;
+
+    /**
+     * Consumer factory configuration for reading order events.
+     * Deserialization failures are wrapped so a single bad record cannot block the partition.
+     *
+     * @return ConsumerFactory configured for String keys and OrderMessage values
+     */
+    @Bean
+    public ConsumerFactory<String, OrderMessage> orderConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderMessage.class.getName());
+        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * Batch listener container factory for order events.
+     * A failed batch is retried a few times before its records are logged and skipped;
+     * reprocessing is safe because stock changes are applied idempotently per order.
+     *
+     * @return Listener container factory with batch delivery and manual acknowledgment
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderMessage> orderBatchListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, OrderMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderConsumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 3)));
+        return factory;
+    }
+}
@@ -6,6 +6,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -18,9 +19,18 @@ import java.util.Map;
 /**
  * Configuration class for Kafka Producer setup.
  * <p>
- * This class configures the Kafka producer for sending product messages
- * to Kafka topics.
+ * This class configures the Kafka producers for sending product messages
+ * to Kafka topics. Two producer profiles are available, each with its own
+ * producer factory and template (see
+ * {@link com.aspiresys.fp_micro_productservice.kafka.producer.ProducerProfile}):
  * </p>
+ * <ul>
+ *   <li><b>Low latency</b> ({@code kafkaTemplate}, primary): interactive writes</li>
+ *   <li><b>High throughput</b> ({@code highThroughputKafkaTemplate}): full catalog syncs,
+ *       and every other product event while a sync is running so they stay ordered</li>
+ * </ul>
+ * Both templates have observation enabled, so every send gets a producer span and the
+ * trace context of the caller is propagated in the record headers.
  *
  * @author bruno.gil
  */
@@ -31,28 +41,91 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${kafka.producer.max-block-ms:5000}")
+    private long maxBlockMs;
+
+    @Value("${kafka.producer.high-throughput.linger-ms:20}")
+    private int highThroughputLingerMs;
+
+    @Value("${kafka.producer.high-throughput.batch-size:262144}")
+    private int highThroughputBatchSize;
+
+    @Value("${kafka.producer.high-throughput.compression-type:lz4}")
+    private String highThroughputCompressionType;
+
+    @Value("${kafka.producer.high-throughput.max-block-ms:30000}")
+    private long highThroughputMaxBlockMs;
+
     /**
-     * Producer factory configuration for creating Kafka producers.
+     * Low-latency producer factory used for interactive writes.
+     * Sends immediately (no linger), without compression, and only waits for the
+     * partition leader to acknowledge.
      *
      * @return ProducerFactory configured for String keys and ProductMessage values
      */
     @Bean
     public ProducerFactory<String, ProductMessage> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        Map<String, Object> configProps = baseProducerProps();
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "1");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "none");
+        // Bound how long send() may block on metadata when the broker is unreachable
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
     /**
-     * Kafka template for sending ProductMessage objects to Kafka topics.
+     * High-throughput producer factory used for full catalog syncs.
+     * Batches records with linger and compression, and uses an idempotent producer
+     * acknowledged by all in-sync replicas so retries cannot duplicate or reorder events.
      *
-     * @return KafkaTemplate configured with producer factory
+     * @return ProducerFactory configured for String keys and ProductMessage values
      */
     @Bean
+    public ProducerFactory<String, ProductMessage> highThroughputProducerFactory() {
+        Map<String, Object> configProps = baseProducerProps();
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, highThroughputLingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, highThroughputBatchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, highThroughputCompressionType);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, highThroughputMaxBlockMs);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    /**
+     * Kafka template for sending ProductMessage objects with the low-latency profile.
+     *
+     * @return KafkaTemplate configured with the low-latency producer factory
+     */
+    @Bean
+    @Primary
     public KafkaTemplate<String, ProductMessage> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<String, ProductMessage> template = new KafkaTemplate<>(producerFactory());
+        template.setObservationEnabled(true);
+        return template;
+    }
+
+    /**
+     * Kafka template for sending ProductMessage objects with the high-throughput profile.
+     *
+     * @return KafkaTemplate configured with the high-throughput producer factory
+     */
+    @Bean
+    public KafkaTemplate<String, ProductMessage> highThroughputKafkaTemplate() {
+        KafkaTemplate<String, ProductMessage> template = new KafkaTemplate<>(highThroughputProducerFactory());
+        template.setObservationEnabled(true);
+        return template;
+    }
+
+    private Map<String, Object> baseProducerProps() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        return configProps;
     }
 }
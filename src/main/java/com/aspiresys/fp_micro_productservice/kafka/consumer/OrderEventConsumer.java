@@ -0,0 +1,88 @@
+package com.aspiresys.fp_micro_productservice.kafka.consumer;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.OrderMessage;
+import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
+import com.aspiresys.fp_micro_productservice.product.ProductRepository;
+import lombok.extern.java.Log;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch consumer for order events.
+ * <p>
+ * Each poll batch of ORDER_CREATED / ORDER_CANCELLED events is applied to stock
+ * through {@link OrderStockService}, then the offsets are committed. If applying
+ * the batch fails the offsets are not committed and the batch is redelivered.
+ * Products whose stock changed are published as PRODUCT_UPDATED events.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.order.enabled", havingValue = "true", matchIfMissing = true)
+@Log
+public class OrderEventConsumer {
+
+    @Autowired
+    private OrderStockService orderStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductProducerService productProducerService;
+
+    /**
+     * Receives a batch of order events and applies the resulting stock changes.
+     *
+     * @param records The records received in one poll
+     * @param acknowledgment Used to commit the batch offsets once applied
+     */
+    @KafkaListener(
+            topics = "${kafka.topic.order:order}",
+            containerFactory = "orderBatchListenerContainerFactory")
+    public void onOrderEvents(List<ConsumerRecord<String, OrderMessage>> records, Acknowledgment acknowledgment) {
+        List<OrderMessage> orders = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, OrderMessage> record : records) {
+            OrderMessage order = record.value();
+            if (order == null || order.getOrderId() == null || !isStockEvent(order.getEventType())) {
+                log.warning("Ignoring unsupported order record at offset " + record.offset() +
+                        " of partition " + record.partition());
+                continue;
+            }
+            orders.add(order);
+        }
+
+        Map<Long, Integer> deltas = orders.isEmpty() ? Map.of() : orderStockService.applyOrderEvents(orders);
+        acknowledgment.acknowledge();
+
+        if (!deltas.isEmpty()) {
+            publishStockChanges(deltas);
+        }
+    }
+
+    /**
+     * Publishes the new state of products whose stock changed.
+     * Failures are logged only: stock was already committed.
+     */
+    private void publishStockChanges(Map<Long, Integer> deltas) {
+        try {
+            productRepository.findAllById(deltas.keySet())
+                    .forEach(productProducerService::sendProductUpdated);
+        } catch (Exception e) {
+            log.warning("Failed to publish stock changes to Kafka: " + e.getMessage());
+        }
+    }
+
+    private boolean isStockEvent(String eventType) {
+        return OrderMessage.ORDER_CREATED.equals(eventType) || OrderMessage.ORDER_CANCELLED.equals(eventType);
+    }
+}
@@ -0,0 +1,191 @@
+package com.aspiresys.fp_micro_productservice.kafka.consumer;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.OrderMessage;
+import com.aspiresys.fp_micro_productservice.product.ProductRepository;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies the stock changes carried by a batch of order events.
+ * <p>
+ * Quantities are aggregated per product across the whole batch, so each product
+ * receives a single UPDATE no matter how many order lines reference it.
+ * Processing is idempotent per order id and event type: events that were already
+ * applied (or appear twice in the same batch) are skipped.
+ * Stock never goes below zero: when the orders ask for more units than are left,
+ * the remaining stock is handed out to the created orders in arrival order and the
+ * shortfall is logged. The units each order actually took are stored on its
+ * {@link ProcessedOrderEvent}, and a cancellation gives back those units rather
+ * than the ordered quantities.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Service
+@Log
+public class OrderStockService {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProcessedOrderEventRepository processedOrderEventRepository;
+
+    /**
+     * Units of one product requested by one created order, in arrival order.
+     */
+    private record Claim(ProcessedOrderEvent marker, int quantity) {
+    }
+
+    /**
+     * Applies a batch of order events in a single transaction.
+     *
+     * @param orders The order events received in one poll
+     * @return The stock delta applied per product ID (products left unchanged are omitted)
+     */
+    @Transactional
+    public Map<Long, Integer> applyOrderEvents(List<OrderMessage> orders) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (OrderMessage order : orders) {
+            keys.add(ProcessedOrderEvent.keyOf(order.getOrderId(), order.getEventType()));
+        }
+
+        Set<String> alreadyProcessed = new HashSet<>();
+        processedOrderEventRepository.findAllById(keys)
+                .forEach(event -> alreadyProcessed.add(event.getId()));
+
+        List<OrderMessage> pending = new ArrayList<>();
+        Set<Long> cancelledInBatch = new HashSet<>();
+        for (OrderMessage order : orders) {
+            String key = ProcessedOrderEvent.keyOf(order.getOrderId(), order.getEventType());
+            if (!alreadyProcessed.add(key)) {
+                log.fine("Skipping already processed order event: " + key);
+                continue;
+            }
+            pending.add(order);
+            if (OrderMessage.ORDER_CANCELLED.equals(order.getEventType())) {
+                cancelledInBatch.add(order.getOrderId());
+            }
+        }
+
+        // Created events of earlier batches, for the units their cancellations give back
+        Map<Long, ProcessedOrderEvent> earlierCreates = new HashMap<>();
+        processedOrderEventRepository.findAllById(cancelledInBatch.stream()
+                        .map(orderId -> ProcessedOrderEvent.keyOf(orderId, OrderMessage.ORDER_CREATED))
+                        .toList())
+                .forEach(event -> earlierCreates.put(event.getOrderId(), event));
+
+        Map<Long, Integer> credits = new LinkedHashMap<>();
+        Map<Long, List<Claim>> claims = new LinkedHashMap<>();
+        Set<Long> createdInBatch = new HashSet<>();
+        List<ProcessedOrderEvent> markers = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (OrderMessage order : pending) {
+            String key = ProcessedOrderEvent.keyOf(order.getOrderId(), order.getEventType());
+            ProcessedOrderEvent marker = new ProcessedOrderEvent(key, order.getOrderId(), order.getEventType(), now);
+            markers.add(marker);
+            if (OrderMessage.ORDER_CREATED.equals(order.getEventType())) {
+                createdInBatch.add(order.getOrderId());
+                // An order created and cancelled in the same batch never touches stock
+                boolean reversed = cancelledInBatch.contains(order.getOrderId());
+                for (OrderMessage.Item item : order.getItems()) {
+                    if (item.getProductId() == null || item.getQuantity() == null) {
+                        continue;
+                    }
+                    marker.getStockTaken().putIfAbsent(item.getProductId(), 0);
+                    if (!reversed) {
+                        claims.computeIfAbsent(item.getProductId(), id -> new ArrayList<>())
+                                .add(new Claim(marker, item.getQuantity()));
+                    }
+                }
+            } else if (!createdInBatch.contains(order.getOrderId())) {
+                creditCancellation(order, earlierCreates.get(order.getOrderId()), credits);
+            }
+        }
+
+        Set<Long> productIds = new LinkedHashSet<>(claims.keySet());
+        productIds.addAll(credits.keySet());
+        Map<Long, Integer> applied = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            List<Claim> productClaims = claims.getOrDefault(productId, List.of());
+            int credit = credits.getOrDefault(productId, 0);
+            int requested = productClaims.stream().mapToInt(Claim::quantity).sum();
+            int taken = requested;
+            if (credit != requested) {
+                Integer appliedDelta = applyDelta(productId, credit - requested);
+                if (appliedDelta != null && appliedDelta != 0) {
+                    applied.put(productId, appliedDelta);
+                }
+                // What the created orders got: the credits plus the stock left, at most what they asked for
+                taken = appliedDelta == null ? 0 : Math.min(requested, credit - appliedDelta);
+            }
+            for (Claim claim : productClaims) {
+                int units = Math.min(claim.quantity(), taken);
+                taken -= units;
+                claim.marker().getStockTaken().merge(productId, units, Integer::sum);
+            }
+        }
+        processedOrderEventRepository.saveAll(markers);
+
+        log.info("Applied " + markers.size() + " order events as " + applied.size() + " stock updates");
+        return applied;
+    }
+
+    /**
+     * Adds the units a cancelled order took back to the credits of its products.
+     *
+     * @param created The marker of the order's created event, or null if it was never applied
+     */
+    private void creditCancellation(OrderMessage order, ProcessedOrderEvent created, Map<Long, Integer> credits) {
+        if (created == null) {
+            log.warning("Order " + order.getOrderId() + " cancelled before its creation was applied; stock unchanged");
+            return;
+        }
+        if (!created.getStockTaken().isEmpty()) {
+            created.getStockTaken().forEach((productId, units) -> credits.merge(productId, units, Integer::sum));
+            return;
+        }
+        // Created before the units taken were recorded: give back the ordered quantities
+        for (OrderMessage.Item item : order.getItems()) {
+            if (item.getProductId() != null && item.getQuantity() != null) {
+                credits.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Applies a stock delta, taking whatever stock is left when a decrement exceeds it.
+     *
+     * @return The delta actually applied (0 if the product has no stock left), or null if the product does not exist
+     */
+    private Integer applyDelta(Long productId, int delta) {
+        if (productRepository.adjustStock(productId, delta) > 0) {
+            return delta;
+        }
+        Integer stock = productRepository.findStockById(productId).orElse(null);
+        if (stock == null) {
+            log.warning("Order event references unknown product ID: " + productId);
+            return null;
+        }
+        int available = Math.max(stock, 0);
+        log.warning("Insufficient stock for product ID " + productId + ": orders require " + -delta +
+                " units but only " + available + " are left. Stock set to 0, shortfall of " + (-delta - available));
+        if (available == 0 || productRepository.adjustStock(productId, -available) == 0) {
+            return 0;
+        }
+        return -available;
+    }
+}
@@ -0,0 +1,77 @@
+package com.aspiresys.fp_micro_productservice.kafka.consumer;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Marker entity recording that an order event has already been applied to stock.
+ * <p>
+ * The id is the order id combined with the event type, so a created and a
+ * cancelled event for the same order are tracked independently. Redelivered
+ * events are skipped by checking for an existing marker.
+ * </p>
+ * <p>
+ * A created event also records the units it actually took from each product, which
+ * can be less than ordered when the stock ran out; cancelling the order gives back
+ * exactly those units.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Entity
+@Table(name = "processed_order_event")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class ProcessedOrderEvent implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    private Long orderId;
+    private String eventType;
+    private LocalDateTime processedAt;
+
+    /**
+     * Units taken per product ID by an ORDER_CREATED event (empty for other events).
+     */
+    @ElementCollection
+    @CollectionTable(name = "processed_order_event_stock", joinColumns = @JoinColumn(name = "event_id"))
+    @MapKeyColumn(name = "product_id")
+    @Column(name = "quantity")
+    @ToString.Exclude
+    private Map<Long, Integer> stockTaken = new HashMap<>();
+
+    public ProcessedOrderEvent(String id, Long orderId, String eventType, LocalDateTime processedAt) {
+        this(id, orderId, eventType, processedAt, new HashMap<>());
+    }
+
+    public static String keyOf(Long orderId, String eventType) {
+        return orderId + ":" + eventType;
+    }
+
+    /**
+     * Markers are only ever inserted, which lets Spring Data persist them
+     * directly instead of issuing a select before each insert.
+     */
+    @Override
+    @Transient
+    public boolean isNew() {
+        return true;
+    }
+}
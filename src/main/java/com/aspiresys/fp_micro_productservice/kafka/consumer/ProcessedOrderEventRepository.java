@@ -0,0 +1,8 @@
+package com.aspiresys.fp_micro_productservice.kafka.consumer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedOrderEventRepository extends JpaRepository<ProcessedOrderEvent, String> {
+}
@@ -1,16 +1,24 @@
 package com.aspiresys.fp_micro_productservice.kafka.controller;
 
+import com.aspiresys.fp_micro_productservice.common.bulkhead.Bulkhead;
+import com.aspiresys.fp_micro_productservice.common.bulkhead.BulkheadFullException;
 import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
 import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
-import com.aspiresys.fp_micro_productservice.product.Product;
 import com.aspiresys.fp_micro_productservice.product.ProductService;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST Controller for managing Kafka synchronization operations.
@@ -20,6 +28,17 @@ import java.util.List;
  * - Force full product synchronization to Kafka
  * - Sync status information
  * 
+ * Both operations run on the admin {@link Bulkhead} (and its connection pool), not on
+ * request threads; when the bulkhead is full they are rejected with 503.
+ * 
+ * Configuration:
+ * <ul>
+ *   <li><b>kafka.sync.full-sync-timeout-ms</b>: how long a full sync request waits for the
+ *   result before answering 202 while the sync goes on (default 600000)</li>
+ *   <li><b>bulkhead.admin.retry-after-seconds</b>: Retry-After of the 503 sent when the
+ *   admin bulkhead is full (default 5)</li>
+ * </ul>
+ * 
  * @author bruno.gil
  */
 @RestController
@@ -33,6 +52,19 @@ public class KafkaSyncController {
     @Autowired
     private ProductProducerService productProducerService;
 
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    @Qualifier("adminBulkhead")
+    private Bulkhead adminBulkhead;
+
+    @Value("${kafka.sync.full-sync-timeout-ms:600000}")
+    private long fullSyncTimeoutMs;
+
+    @Value("${bulkhead.admin.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
     /**
      * Forces a full synchronization of all products to Kafka.
      * This endpoint should be used when:
@@ -42,28 +74,46 @@ public class KafkaSyncController {
      * 
      * ⚠️ Warning: This will send ALL products to Kafka. Use with caution to avoid message flooding.
      * 
+     * A large catalog may take longer than the MVC async timeout, so the request waits for
+     * {@code kafka.sync.full-sync-timeout-ms} and then answers 202 with a link to the sync
+     * status while the synchronization goes on in the bulkhead.
+     * 
      * @return ResponseEntity with sync results
      */
     @PostMapping("/force-full-sync")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<AppResponse<String>> forceFullProductSync() {
+    public DeferredResult<ResponseEntity<AppResponse<String>>> forceFullProductSync() {
+        DeferredResult<ResponseEntity<AppResponse<String>>> result = new DeferredResult<>(fullSyncTimeoutMs,
+                () -> ResponseEntity.accepted()
+                        .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                                .path("/products/kafka/sync/status").build().toUri())
+                        .body(new AppResponse<>("Full product synchronization is still running",
+                                "Check the sync status for its progress")));
+        adminBulkhead.submit(this::synchronizeAllProducts).whenComplete((response, exception) -> {
+            if (exception != null) {
+                result.setErrorResult(exception);
+            } else {
+                result.setResult(response);
+            }
+        });
+        return result;
+    }
+
+    private ResponseEntity<AppResponse<String>> synchronizeAllProducts() {
         try {
             log.info("Admin initiated full product synchronization to Kafka");
             
-            // Get all existing products
-            List<Product> allProducts = productService.getAllProducts();
+            // Send all products to Kafka with INITIAL_LOAD event type
+            int productCount = productProducerService.sendInitialProductList(productService::getAllProducts);
             
-            if (allProducts.isEmpty()) {
+            if (productCount == 0) {
                 String message = "No products found in database. Nothing to synchronize.";
                 log.info(message);
                 return ResponseEntity.ok(new AppResponse<>(message, "0 products synchronized"));
             }
             
-            // Send all products to Kafka with INITIAL_LOAD event type
-            productProducerService.sendInitialProductList(allProducts);
-            
             String successMessage = "Full product synchronization completed successfully";
-            String details = allProducts.size() + " products sent to Kafka topic";
+            String details = productCount + " products sent to Kafka topic";
             
             log.info(successMessage + ". " + details);
             
@@ -87,20 +137,27 @@ public class KafkaSyncController {
      */
     @GetMapping("/status")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<AppResponse<String>> getSyncStatus() {
+    public CompletableFuture<ResponseEntity<AppResponse<String>>> getSyncStatus() {
+        return adminBulkhead.submit(this::syncStatus);
+    }
+
+    private ResponseEntity<AppResponse<String>> syncStatus() {
         try {
-            List<Product> allProducts = productService.getAllProducts();
+            long totalProducts = productService.countProducts();
             
             String status = String.format(
                 "Product synchronization status:\n" +
                 "Total products available: %d\n" +
-                "Categories: clothes, smartphone\n" +
+                "Categories: %s\n" +
                 "Kafka topic: product\n" +
+                "Full synchronization running: %s\n" +
                 "Use /force-full-sync to synchronize all products",
-                allProducts.size()
+                totalProducts,
+                String.join(", ", categoryRegistry.names()),
+                productProducerService.isBulkLoadRunning() ? "yes" : "no"
             );
             
-            log.info("Admin requested sync status. Total products: " + allProducts.size());
+            log.info("Admin requested sync status. Total products: " + totalProducts);
             
             return ResponseEntity.ok(new AppResponse<>("Sync status retrieved successfully", status));
             
@@ -112,4 +169,17 @@ public class KafkaSyncController {
                     .body(new AppResponse<>(errorMessage, "Status check failed"));
         }
     }
+
+    /**
+     * Rejects an operation when the admin bulkhead is full.
+     *
+     * @return 503 with a Retry-After header
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<AppResponse<String>> handleBulkheadFull(BulkheadFullException e) {
+        log.warning(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new AppResponse<>(e.getMessage(), "Admin operations are busy"));
+    }
 }
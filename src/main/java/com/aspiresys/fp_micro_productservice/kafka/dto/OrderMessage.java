@@ -0,0 +1,55 @@
+package com.aspiresys.fp_micro_productservice.kafka.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for order messages received via Kafka.
+ * Contains the order lines needed to adjust product stock.
+ * 
+ * @author bruno.gil
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderMessage {
+
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+    public static final String ORDER_CANCELLED = "ORDER_CANCELLED";
+
+    @JsonProperty("orderId")
+    private Long orderId;
+
+    @JsonProperty("eventType")
+    private String eventType; // "ORDER_CREATED", "ORDER_CANCELLED"
+
+    @JsonProperty("items")
+    private List<Item> items = new ArrayList<>();
+
+    @JsonProperty("timestamp")
+    private LocalDateTime timestamp;
+
+    /**
+     * A single order line.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Item {
+
+        @JsonProperty("productId")
+        private Long productId;
+
+        @JsonProperty("quantity")
+        private Integer quantity;
+    }
+}
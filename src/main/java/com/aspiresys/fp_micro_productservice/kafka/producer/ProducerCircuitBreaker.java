@@ -0,0 +1,92 @@
+package com.aspiresys.fp_micro_productservice.kafka.producer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker guarding Kafka sends.
+ * <p>
+ * After a number of consecutive send failures the circuit opens and callers stop
+ * calling the broker (so request threads are not blocked for max.block.ms).
+ * Once the open duration elapses a single probe is let through (half-open);
+ * its outcome closes the circuit again or re-opens it.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>kafka.circuit-breaker.failure-threshold</b>: consecutive failures that open the circuit (default 3)</li>
+ *   <li><b>kafka.circuit-breaker.open-duration-ms</b>: time the circuit stays open before probing (default 30000)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class ProducerCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    @Value("${kafka.circuit-breaker.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${kafka.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("product.kafka.circuit.state", state, s -> s.get().ordinal());
+    }
+
+    /**
+     * Whether a send may be attempted now.
+     * In the open state this returns true exactly once after the open duration (the probe).
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt.get() >= openDurationMs) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Kafka circuit breaker closed. Broker is reachable again.");
+        }
+    }
+
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+            openedAt.set(System.currentTimeMillis());
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warning("Kafka circuit breaker opened after " + failures +
+                        " consecutive failures. Events will be spooled to disk.");
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,20 @@
+package com.aspiresys.fp_micro_productservice.kafka.producer;
+
+/**
+ * Named Kafka producer profiles, each backed by its own producer and KafkaTemplate.
+ * <ul>
+ *   <li><b>LOW_LATENCY</b>: interactive writes (create, update, delete). No linger, no compression,
+ *       leader-only acknowledgment and a short max block time.</li>
+ *   <li><b>HIGH_THROUGHPUT</b>: full catalog syncs. Batching with linger, compression and an
+ *       idempotent producer acknowledged by all in-sync replicas.</li>
+ * </ul>
+ * Both producers write to the same topic and keys, and Kafka only orders records sent by
+ * the same producer. While a full sync is running, every product event is therefore sent
+ * with HIGH_THROUGHPUT (see {@link ProductProducerService#sendInitialProductList}).
+ *
+ * @author bruno.gil
+ */
+public enum ProducerProfile {
+    LOW_LATENCY,
+    HIGH_THROUGHPUT
+}
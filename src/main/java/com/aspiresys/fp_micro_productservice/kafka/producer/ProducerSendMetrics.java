@@ -0,0 +1,97 @@
+package com.aspiresys.fp_micro_productservice.kafka.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer instrumentation for Kafka sends, broken down by event type.
+ * <ul>
+ *   <li><b>product.kafka.send.latency</b>: timer from send() to broker acknowledgment,
+ *       tagged by eventType, profile and outcome, with a percentile histogram</li>
+ *   <li><b>product.kafka.send.inflight</b>: gauge of sends awaiting acknowledgment, by eventType</li>
+ *   <li><b>product.kafka.send.errors</b>: counter of failed sends, by eventType and exception</li>
+ * </ul>
+ * Meters are created once per tag combination and cached, so recording a send
+ * does not go through the meter builders.
+ *
+ * @author bruno.gil
+ */
+@Component
+public class ProducerSendMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Marks the start of a send.
+     *
+     * @param eventType The event type being sent
+     * @return The start time to pass back to {@link #sendCompleted}
+     */
+    public long sendStarted(String eventType) {
+        inFlightFor(eventType).incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the outcome of a send started with {@link #sendStarted}.
+     *
+     * @param eventType The event type that was sent
+     * @param profile The producer profile used
+     * @param startNanos The value returned by {@link #sendStarted}
+     * @param exception The failure, or null if the send succeeded
+     */
+    public void sendCompleted(String eventType, ProducerProfile profile, long startNanos, Throwable exception) {
+        long elapsed = System.nanoTime() - startNanos;
+        inFlightFor(eventType).decrementAndGet();
+        String outcome = exception == null ? "success" : "error";
+        timerFor(eventType, profile, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+        if (exception != null) {
+            errorCounterFor(eventType, exception).increment();
+        }
+    }
+
+    private Timer timerFor(String eventType, ProducerProfile profile, String outcome) {
+        String key = eventType + '|' + profile + '|' + outcome;
+        return timers.computeIfAbsent(key, k -> Timer.builder("product.kafka.send.latency")
+                .description("Latency from Kafka send to broker acknowledgment")
+                .tag("eventType", String.valueOf(eventType))
+                .tag("profile", profile.name())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private AtomicInteger inFlightFor(String eventType) {
+        return inFlight.computeIfAbsent(String.valueOf(eventType), type -> {
+            AtomicInteger gauge = new AtomicInteger();
+            meterRegistry.gauge("product.kafka.send.inflight",
+                    Tags.of("eventType", type), gauge);
+            return gauge;
+        });
+    }
+
+    private Counter errorCounterFor(String eventType, Throwable exception) {
+        Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+        String exceptionName = cause.getClass().getSimpleName();
+        return errors.computeIfAbsent(eventType + '|' + exceptionName, k -> Counter.builder("product.kafka.send.errors")
+                .description("Failed Kafka sends")
+                .tag("eventType", String.valueOf(eventType))
+                .tag("exception", exceptionName)
+                .register(meterRegistry));
+    }
+}
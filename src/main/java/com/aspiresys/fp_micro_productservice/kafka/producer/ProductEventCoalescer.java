@@ -0,0 +1,167 @@
+package com.aspiresys.fp_micro_productservice.kafka.producer;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+/**
+ * Optional coalescing stage placed in front of the Kafka send.
+ * <p>
+ * Bulk price edits and stock adjustments produce bursts of PRODUCT_UPDATED events
+ * for the same product within milliseconds. When enabled, updates are buffered per
+ * product id for at most one window and only the latest state is emitted.
+ * Any other event type (created, deleted, initial load) acts as a barrier for its key:
+ * the buffered update is emitted first, so a delete is never published ahead of an
+ * earlier update.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>kafka.coalescing.enabled</b>: enables the stage (default false)</li>
+ *   <li><b>kafka.coalescing.window-ms</b>: flush window in milliseconds (default 200)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class ProductEventCoalescer {
+
+    private static final String PRODUCT_UPDATED = "PRODUCT_UPDATED";
+    private static final int LOCK_STRIPES = 64;
+
+    @Value("${kafka.coalescing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${kafka.coalescing.window-ms:200}")
+    private long windowMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private final Map<Long, PendingEvent> pending = new ConcurrentHashMap<>();
+    private final Object[] keyLocks = new Object[LOCK_STRIPES];
+
+    private ScheduledFuture<?> flushTask;
+    private Counter eventsIn;
+    private Counter eventsOut;
+    private Counter eventsCoalesced;
+
+    public ProductEventCoalescer() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            keyLocks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        eventsIn = Counter.builder("product.kafka.coalescer.events.in")
+                .description("Product events received by the coalescing stage")
+                .register(meterRegistry);
+        eventsOut = Counter.builder("product.kafka.coalescer.events.out")
+                .description("Product events emitted to Kafka by the coalescing stage")
+                .register(meterRegistry);
+        eventsCoalesced = Counter.builder("product.kafka.coalescer.events.coalesced")
+                .description("Product updates superseded by a newer update for the same product")
+                .register(meterRegistry);
+        meterRegistry.gauge("product.kafka.coalescer.pending", pending, Map::size);
+
+        if (enabled) {
+            Duration window = Duration.ofMillis(windowMs);
+            flushTask = taskScheduler.scheduleWithFixedDelay(this::flush, Instant.now().plus(window), window);
+            log.info("Product event coalescing enabled with a window of " + windowMs + " ms");
+        }
+    }
+
+    /**
+     * Routes a message through the coalescing stage.
+     * When coalescing is disabled the message is handed to the sink immediately.
+     *
+     * @param message The product message to send
+     * @param sink The action that actually publishes the message
+     */
+    public void submit(ProductMessage message, Consumer<ProductMessage> sink) {
+        eventsIn.increment();
+        Long key = message.getId();
+        if (!enabled || key == null) {
+            emit(message, sink);
+            return;
+        }
+
+        synchronized (lockFor(key)) {
+            if (PRODUCT_UPDATED.equals(message.getEventType())) {
+                PendingEvent previous = pending.put(key, new PendingEvent(message, sink));
+                if (previous != null) {
+                    eventsCoalesced.increment();
+                }
+                return;
+            }
+
+            PendingEvent previous = pending.remove(key);
+            if (previous != null) {
+                emitQuietly(previous);
+            }
+            emit(message, sink);
+        }
+    }
+
+    /**
+     * Emits every buffered update. Runs once per window on the shared task scheduler.
+     */
+    void flush() {
+        for (Long key : pending.keySet()) {
+            synchronized (lockFor(key)) {
+                PendingEvent event = pending.remove(key);
+                if (event != null) {
+                    emitQuietly(event);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        flush();
+    }
+
+    private void emit(ProductMessage message, Consumer<ProductMessage> sink) {
+        sink.accept(message);
+        eventsOut.increment();
+    }
+
+    private void emitQuietly(PendingEvent event) {
+        try {
+            emit(event.message(), event.sink());
+        } catch (Exception e) {
+            log.severe("Failed to emit coalesced product event. Key: " + event.message().getId() +
+                    ", Error: " + e.getMessage());
+        }
+    }
+
+    private Object lockFor(Long key) {
+        return keyLocks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    private record PendingEvent(ProductMessage message, Consumer<ProductMessage> sink) {
+    }
+}
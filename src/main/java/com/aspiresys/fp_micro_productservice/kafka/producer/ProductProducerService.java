@@ -1,18 +1,27 @@
 package com.aspiresys.fp_micro_productservice.kafka.producer;
 
+import com.aspiresys.fp_micro_productservice.jfr.KafkaSendEvent;
 import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import com.aspiresys.fp_micro_productservice.kafka.spool.KafkaSendSpool;
 import com.aspiresys.fp_micro_productservice.product.Product;
 import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
 import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.Electronics;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
 /**
  * Producer service for sending product messages to Kafka topics.
@@ -27,24 +36,111 @@ public class ProductProducerService {
     @Autowired
     private KafkaTemplate<String, ProductMessage> kafkaTemplate;
 
+    @Autowired
+    @Qualifier("highThroughputKafkaTemplate")
+    private KafkaTemplate<String, ProductMessage> highThroughputKafkaTemplate;
+
+    @Autowired
+    private ProducerSendMetrics sendMetrics;
+
+    @Autowired
+    private ProductEventCoalescer productEventCoalescer;
+
+    @Autowired
+    private ProducerCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private KafkaSendSpool kafkaSendSpool;
+
     @Value("${kafka.topic.product:product}")
     private String productTopic;
 
     /**
-     * Sends initial product list to Kafka topic.
-     * This is called on application startup or when requested.
+     * Products with sends still in flight, so a send that fails after a newer event
+     * for the same product was published can be recognized as superseded.
+     */
+    private final Map<Long, KeyState> inFlightKeys = new ConcurrentHashMap<>();
+    private final AtomicLong publishSequence = new AtomicLong();
+
+    /**
+     * Guards {@code activeBulkLoads}: sends read it under the read lock, switching every
+     * send to the high-throughput producer for a bulk load, and back, takes the write lock.
+     * Producers are never flushed while it is held, so a slow broker does not block sends.
+     */
+    private final ReentrantReadWriteLock producerSwitch = new ReentrantReadWriteLock();
+    private int activeBulkLoads;
+
+    /** Products that got a single-product event while a bulk load was running. */
+    private final Set<Long> publishedDuringBulkLoad = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Sends the initial product list to Kafka topic.
+     * This is called on application startup or when requested,
+     * and uses the {@link ProducerProfile#HIGH_THROUGHPUT} producer.
+     * <p>
+     * Kafka only orders records sent by the same producer, so while the list is being
+     * sent every other product event goes through the high-throughput producer as well,
+     * except for products that still have a send in flight on the other producer, whose
+     * events stay on it. The producer being switched away from is flushed, outside the
+     * switch lock, before the catalog is read; a product that gets its own event after
+     * the switch is left out of the list, since the snapshot read earlier may be older
+     * than that event.
+     * </p>
      * 
-     * @param products List of all products to send
+     * @param catalogReader Reads all products to send
+     * @return The number of products read
      */
-    public void sendInitialProductList(List<Product> products) {
-        log.info("Sending initial product list to Kafka. Total products: " + products.size());
-        
-        for (Product product : products) {
-            ProductMessage message = createProductMessage(product, "INITIAL_LOAD");
-            sendProductMessage(message);
+    public int sendInitialProductList(Supplier<List<Product>> catalogReader) {
+        beginBulkLoad();
+        try {
+            List<Product> products = catalogReader.get();
+            log.info("Sending initial product list to Kafka. Total products: " + products.size());
+
+            int superseded = 0;
+            for (Product product : products) {
+                if (publishedDuringBulkLoad.contains(product.getId())) {
+                    superseded++;
+                    continue;
+                }
+                ProductMessage message = createProductMessage(product, "INITIAL_LOAD");
+                sendProductMessage(message, ProducerProfile.HIGH_THROUGHPUT);
+            }
+
+            log.info("Initial product list sent successfully to topic: " + productTopic +
+                    (superseded > 0 ? ". Skipped " + superseded + " products with newer events" : ""));
+            return products.size();
+        } finally {
+            endBulkLoad();
+        }
+    }
+
+    private void beginBulkLoad() {
+        boolean switched;
+        producerSwitch.writeLock().lock();
+        try {
+            switched = activeBulkLoads++ == 0;
+        } finally {
+            producerSwitch.writeLock().unlock();
+        }
+        if (switched) {
+            kafkaTemplate.flush();
+        }
+    }
+
+    private void endBulkLoad() {
+        boolean switched;
+        producerSwitch.writeLock().lock();
+        try {
+            switched = --activeBulkLoads == 0;
+            if (switched) {
+                publishedDuringBulkLoad.clear();
+            }
+        } finally {
+            producerSwitch.writeLock().unlock();
+        }
+        if (switched) {
+            highThroughputKafkaTemplate.flush();
         }
-        
-        log.info("Initial product list sent successfully to topic: " + productTopic);
     }
 
     /**
@@ -55,7 +151,7 @@ public class ProductProducerService {
     public void sendProductCreated(Product product) {
         log.info("Sending product created event for product ID: " + product.getId());
         ProductMessage message = createProductMessage(product, "PRODUCT_CREATED");
-        sendProductMessage(message);
+        sendProductMessage(message, ProducerProfile.LOW_LATENCY);
     }
 
     /**
@@ -66,7 +162,7 @@ public class ProductProducerService {
     public void sendProductUpdated(Product product) {
         log.info("Sending product updated event for product ID: " + product.getId());
         ProductMessage message = createProductMessage(product, "PRODUCT_UPDATED");
-        sendProductMessage(message);
+        sendProductMessage(message, ProducerProfile.LOW_LATENCY);
     }
 
     /**
@@ -80,7 +176,7 @@ public class ProductProducerService {
         message.setId(productId);
         message.setEventType("PRODUCT_DELETED");
         message.setTimestamp(java.time.LocalDateTime.now());
-        sendProductMessage(message);
+        sendProductMessage(message, ProducerProfile.LOW_LATENCY);
     }
 
     /**
@@ -90,7 +186,7 @@ public class ProductProducerService {
      * @param eventType The type of event
      * @return ProductMessage for Kafka
      */
-    private ProductMessage createProductMessage(Product product, String eventType) {
+    static ProductMessage createProductMessage(Product product, String eventType) {
         String brand = null;
         
         // Extract brand if product is a subclass that has it
@@ -114,26 +210,209 @@ public class ProductProducerService {
 
     /**
      * Sends a product message to the Kafka topic.
+     * Messages pass through the {@link ProductEventCoalescer}, which may merge
+     * rapid successive updates of the same product into a single event.
      * 
      * @param message The product message to send
+     * @param profile The producer profile to send with
+     */
+    private void sendProductMessage(ProductMessage message, ProducerProfile profile) {
+        productEventCoalescer.submit(message, coalesced -> publish(coalesced, profile));
+    }
+
+    /**
+     * Publishes a product message to the Kafka topic.
+     * <p>
+     * While the {@link ProducerCircuitBreaker} is open, or while older events are still
+     * waiting in the {@link KafkaSendSpool}, the message is appended to the spool instead
+     * so request threads never block on an unavailable broker and ordering is preserved.
+     * Sends that fail asynchronously are spooled as well, unless a newer event for the same
+     * product was published in the meantime: every event carries the full product state
+     * (or its deletion), so replaying the older one after it would only revert the product.
+     * </p>
+     * 
+     * @param message The product message to publish
+     * @param profile The producer profile requested by the caller
+     */
+    private void publish(ProductMessage message, ProducerProfile profile) {
+        if (!"INITIAL_LOAD".equals(message.getEventType())) {
+            recordSingleProductEvent(message.getId());
+        }
+        boolean direct = kafkaSendSpool.isEmpty() && circuitBreaker.allowRequest();
+        ProducerProfile[] routed = {activeProfile(profile)};
+        long sequence = registerPublish(message.getId(), direct, routed);
+        if (!direct) {
+            spool(message);
+            return;
+        }
+        send(message, sequence, routed[0]);
+    }
+
+    /**
+     * Whether a bulk load, such as a full synchronization, is being sent.
+     */
+    public boolean isBulkLoadRunning() {
+        producerSwitch.readLock().lock();
+        try {
+            return activeBulkLoads > 0;
+        } finally {
+            producerSwitch.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the profile a send uses: the high-throughput one while a bulk load runs.
      */
-    private void sendProductMessage(ProductMessage message) {
+    private ProducerProfile activeProfile(ProducerProfile requested) {
+        producerSwitch.readLock().lock();
+        try {
+            return activeBulkLoads > 0 ? ProducerProfile.HIGH_THROUGHPUT : requested;
+        } finally {
+            producerSwitch.readLock().unlock();
+        }
+    }
+
+    private void recordSingleProductEvent(Long productId) {
+        producerSwitch.readLock().lock();
+        try {
+            if (activeBulkLoads > 0) {
+                publishedDuringBulkLoad.add(productId);
+            }
+        } finally {
+            producerSwitch.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sends a product message with the given producer profile.
+     */
+    private void send(ProductMessage message, long sequence, ProducerProfile profile) {
+        String eventType = message.getEventType();
+        long startNanos = sendMetrics.sendStarted(eventType);
+        KafkaSendEvent sendEvent = KafkaSendEvent.beginIfActive();
         try {
             CompletableFuture<SendResult<String, ProductMessage>> future = 
-                kafkaTemplate.send(productTopic, message.getId().toString(), message);
+                templateFor(profile).send(productTopic, message.getId().toString(), message);
             
             future.whenComplete((result, exception) -> {
+                sendMetrics.sendCompleted(eventType, profile, startNanos, exception);
+                commitSendEvent(sendEvent, message, profile, exception);
                 if (exception == null) {
-                    log.info("Product message sent successfully. Topic: " + productTopic + 
-                            ", Key: " + message.getId() + ", Event: " + message.getEventType());
+                    circuitBreaker.recordSuccess();
+                    log.fine("Product message sent successfully. Topic: " + productTopic + 
+                            ", Key: " + message.getId() + ", Event: " + eventType);
                 } else {
+                    circuitBreaker.recordFailure();
                     log.severe("Failed to send product message. Topic: " + productTopic + 
                               ", Key: " + message.getId() + ", Error: " + exception.getMessage());
                 }
+                sendCompleted(message, sequence, exception);
             });
         } catch (Exception e) {
+            sendMetrics.sendCompleted(eventType, profile, startNanos, e);
+            commitSendEvent(sendEvent, message, profile, e);
+            circuitBreaker.recordFailure();
             log.severe("Error sending product message to Kafka: " + e.getMessage());
-            throw new RuntimeException("Failed to send product message", e);
+            sendCompleted(message, sequence, e);
         }
     }
+
+    /**
+     * Records that an event for a product is being published, either sent or spooled.
+     *
+     * @param key The product ID
+     * @param direct Whether the event is sent to Kafka rather than spooled
+     * @param profile The profile to send with; replaced by the profile of the product's
+     *                sends still in flight, so its events stay on one producer and in order
+     * @return The publish sequence of the event
+     */
+    private long registerPublish(Long key, boolean direct, ProducerProfile[] profile) {
+        long[] sequence = new long[1];
+        inFlightKeys.compute(key, (k, state) -> {
+            sequence[0] = publishSequence.incrementAndGet();
+            if (state == null) {
+                if (!direct) {
+                    // Nothing older is in flight for this product, so there is nothing to supersede
+                    return null;
+                }
+                state = new KeyState();
+            }
+            if (direct) {
+                if (state.inFlight++ > 0) {
+                    profile[0] = state.profile;
+                }
+                state.profile = profile[0];
+            }
+            state.latestSequence = sequence[0];
+            return state;
+        });
+        return sequence[0];
+    }
+
+    /**
+     * Completes a direct send. A failed send is spooled, unless a newer event for the
+     * same product was published after it.
+     */
+    private void sendCompleted(ProductMessage message, long sequence, Throwable exception) {
+        boolean[] superseded = new boolean[1];
+        inFlightKeys.computeIfPresent(message.getId(), (k, state) -> {
+            superseded[0] = state.latestSequence > sequence;
+            state.inFlight--;
+            return state.inFlight == 0 ? null : state;
+        });
+        if (exception == null) {
+            return;
+        }
+        if (superseded[0]) {
+            log.warning("Dropping failed event " + message.getEventType() + " for product ID: " +
+                    message.getId() + ", a newer event for the product was already published");
+        } else {
+            spool(message);
+        }
+    }
+
+    /**
+     * Commits the Flight Recorder event of a completed send, if a recording enables it.
+     */
+    private void commitSendEvent(KafkaSendEvent sendEvent, ProductMessage message, ProducerProfile profile, Throwable exception) {
+        if (sendEvent == null) {
+            return;
+        }
+        sendEvent.end();
+        if (sendEvent.shouldCommit()) {
+            sendEvent.topic = productTopic;
+            sendEvent.key = String.valueOf(message.getId());
+            sendEvent.eventType = message.getEventType();
+            sendEvent.profile = profile.name();
+            sendEvent.success = exception == null;
+            sendEvent.error = exception != null ? exception.getClass().getSimpleName() + ": " + exception.getMessage() : null;
+            sendEvent.commit();
+        }
+    }
+
+    private KafkaTemplate<String, ProductMessage> templateFor(ProducerProfile profile) {
+        return profile == ProducerProfile.HIGH_THROUGHPUT ? highThroughputKafkaTemplate : kafkaTemplate;
+    }
+
+    /**
+     * Appends a message to the disk spool so it is replayed once the broker recovers.
+     * 
+     * @param message The product message to spool
+     */
+    private void spool(ProductMessage message) {
+        if (kafkaSendSpool.append(message)) {
+            log.warning("Kafka unavailable. Spooled event " + message.getEventType() + 
+                    " for product ID: " + message.getId());
+        }
+    }
+
+    /**
+     * Send state of one product while it has sends in flight.
+     * Only mutated inside {@code inFlightKeys.compute}, which holds the entry's lock.
+     */
+    private static final class KeyState {
+        private int inFlight;
+        private long latestSequence;
+        private ProducerProfile profile;
+    }
 }
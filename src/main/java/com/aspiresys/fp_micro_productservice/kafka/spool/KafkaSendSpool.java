@@ -0,0 +1,288 @@
+package com.aspiresys.fp_micro_productservice.kafka.spool;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Disk-backed, append-only spool for product events that could not be sent to Kafka.
+ * <p>
+ * The spool is a single memory-mapped file. Appends and reads are sequential, so
+ * events are replayed in the order they were spooled. Because the file is mapped,
+ * spooled events survive a restart of the service.
+ * </p>
+ *
+ * File layout:
+ * <pre>
+ *   header : magic(int) version(int) readPosition(long) writePosition(long)
+ *   record : length(int) spooledAtMillis(long) payload(JSON bytes)
+ * </pre>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>kafka.spool.path</b>: location of the spool file (default ./data/product-kafka-spool.dat)</li>
+ *   <li><b>kafka.spool.capacity-mb</b>: size of the mapped file in megabytes, at most 2047 (default 64)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class KafkaSendSpool {
+
+    private static final int MAGIC = 0x50534B31; // "PSK1"
+    private static final int VERSION = 1;
+    private static final int READ_POSITION_OFFSET = 8;
+    private static final int WRITE_POSITION_OFFSET = 16;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    /** A single mapping is at most {@code Integer.MAX_VALUE} bytes. */
+    private static final int MAX_CAPACITY_MB = (int) (Integer.MAX_VALUE / BYTES_PER_MB);
+
+    @Value("${kafka.spool.path:./data/product-kafka-spool.dat}")
+    private String spoolPath;
+
+    @Value("${kafka.spool.capacity-mb:64}")
+    private int capacityMb;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int readPosition;
+    private int writePosition;
+    private long pendingRecords;
+    private long oldestSpooledAt;
+
+    private Counter appended;
+    private Counter replayed;
+    private Counter dropped;
+
+    /**
+     * A record read from the spool. Passed back to {@link #commit(SpooledRecord)}
+     * once the message has been delivered.
+     */
+    public record SpooledRecord(ProductMessage message, long spooledAtMillis, int nextPosition) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        if (capacityMb < 1 || capacityMb > MAX_CAPACITY_MB) {
+            throw new IllegalStateException("kafka.spool.capacity-mb must be between 1 and " + MAX_CAPACITY_MB
+                    + ", was " + capacityMb);
+        }
+        open(Paths.get(spoolPath), (int) (capacityMb * BYTES_PER_MB));
+
+        appended = meterRegistry.counter("product.kafka.spool.appended");
+        replayed = meterRegistry.counter("product.kafka.spool.replayed");
+        dropped = meterRegistry.counter("product.kafka.spool.dropped");
+        meterRegistry.gauge("product.kafka.spool.size.bytes", this, KafkaSendSpool::sizeBytes);
+        meterRegistry.gauge("product.kafka.spool.records", this, KafkaSendSpool::pendingRecords);
+        meterRegistry.gauge("product.kafka.spool.oldest.age.seconds", this, spool -> spool.oldestAgeMillis() / 1000.0);
+    }
+
+    synchronized void open(Path path, int capacityBytes) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            capacity = (int) Math.max(capacityBytes, channel.size());
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            reset();
+        } else {
+            readPosition = (int) buffer.getLong(READ_POSITION_OFFSET);
+            writePosition = (int) buffer.getLong(WRITE_POSITION_OFFSET);
+            recount();
+        }
+
+        if (pendingRecords > 0) {
+            log.warning("Kafka spool opened with " + pendingRecords + " pending events at " + path);
+        }
+    }
+
+    /**
+     * Appends a message to the spool.
+     *
+     * @param message The product message to spool
+     * @return false if the spool is full and the message was dropped
+     */
+    public synchronized boolean append(ProductMessage message) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            log.severe("Failed to serialize product message for spooling: " + e.getMessage());
+            countDropped();
+            return false;
+        }
+
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (writePosition + recordSize > capacity) {
+            compact();
+        }
+        if (writePosition + recordSize > capacity) {
+            log.severe("Kafka spool is full. Dropping event " + message.getEventType() +
+                    " for product ID: " + message.getId());
+            countDropped();
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        buffer.putInt(writePosition, payload.length);
+        buffer.putLong(writePosition + Integer.BYTES, now);
+        buffer.put(writePosition + RECORD_HEADER_SIZE, payload);
+        writePosition += recordSize;
+        buffer.putLong(WRITE_POSITION_OFFSET, writePosition);
+
+        if (pendingRecords++ == 0) {
+            oldestSpooledAt = now;
+        }
+        if (appended != null) {
+            appended.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Reads the oldest pending record without removing it.
+     *
+     * @return The oldest record, or null if the spool is empty
+     */
+    public synchronized SpooledRecord peek() {
+        while (readPosition < writePosition) {
+            int length = buffer.getInt(readPosition);
+            if (length <= 0 || readPosition + RECORD_HEADER_SIZE + length > writePosition) {
+                log.severe("Corrupted Kafka spool record at position " + readPosition + ". Discarding spool.");
+                reset();
+                return null;
+            }
+            long spooledAt = buffer.getLong(readPosition + Integer.BYTES);
+            int nextPosition = readPosition + RECORD_HEADER_SIZE + length;
+            byte[] payload = new byte[length];
+            buffer.get(readPosition + RECORD_HEADER_SIZE, payload);
+            try {
+                return new SpooledRecord(objectMapper.readValue(payload, ProductMessage.class), spooledAt, nextPosition);
+            } catch (IOException e) {
+                log.severe("Skipping unreadable Kafka spool record: " + e.getMessage());
+                advanceTo(nextPosition);
+                countDropped();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes a record returned by {@link #peek()} after it has been delivered.
+     */
+    public synchronized void commit(SpooledRecord record) {
+        advanceTo(record.nextPosition());
+        if (replayed != null) {
+            replayed.increment();
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return readPosition >= writePosition;
+    }
+
+    public synchronized long pendingRecords() {
+        return pendingRecords;
+    }
+
+    public synchronized long sizeBytes() {
+        return writePosition - readPosition;
+    }
+
+    public synchronized long oldestAgeMillis() {
+        return pendingRecords == 0 ? 0 : System.currentTimeMillis() - oldestSpooledAt;
+    }
+
+    private void advanceTo(int position) {
+        readPosition = position;
+        pendingRecords--;
+        if (readPosition >= writePosition) {
+            reset();
+            return;
+        }
+        buffer.putLong(READ_POSITION_OFFSET, readPosition);
+        oldestSpooledAt = buffer.getLong(readPosition + Integer.BYTES);
+    }
+
+    /**
+     * Moves the pending records to the start of the file to reclaim replayed space.
+     */
+    private void compact() {
+        if (readPosition == HEADER_SIZE) {
+            return;
+        }
+        int pendingBytes = writePosition - readPosition;
+        byte[] pending = new byte[pendingBytes];
+        buffer.get(readPosition, pending);
+        buffer.put(HEADER_SIZE, pending);
+        readPosition = HEADER_SIZE;
+        writePosition = HEADER_SIZE + pendingBytes;
+        buffer.putLong(READ_POSITION_OFFSET, readPosition);
+        buffer.putLong(WRITE_POSITION_OFFSET, writePosition);
+    }
+
+    private void reset() {
+        readPosition = HEADER_SIZE;
+        writePosition = HEADER_SIZE;
+        pendingRecords = 0;
+        oldestSpooledAt = 0;
+        buffer.putLong(READ_POSITION_OFFSET, readPosition);
+        buffer.putLong(WRITE_POSITION_OFFSET, writePosition);
+    }
+
+    private void recount() {
+        if (readPosition < HEADER_SIZE || writePosition > capacity || readPosition > writePosition) {
+            log.severe("Kafka spool header is inconsistent. Discarding spool.");
+            reset();
+            return;
+        }
+        pendingRecords = 0;
+        int position = readPosition;
+        while (position < writePosition) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > writePosition) {
+                break;
+            }
+            pendingRecords++;
+            position += RECORD_HEADER_SIZE + length;
+        }
+        writePosition = position;
+        buffer.putLong(WRITE_POSITION_OFFSET, writePosition);
+        oldestSpooledAt = pendingRecords > 0 ? buffer.getLong(readPosition + Integer.BYTES) : 0;
+    }
+
+    private void countDropped() {
+        if (dropped != null) {
+            dropped.increment();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.aspiresys.fp_micro_productservice.kafka.spool;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import com.aspiresys.fp_micro_productservice.kafka.producer.ProducerCircuitBreaker;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the {@link KafkaSendSpool} once the broker is reachable again.
+ * <p>
+ * Records are sent one at a time, in spool order, and only removed from the spool
+ * after Kafka acknowledges them. Each attempt goes through the
+ * {@link ProducerCircuitBreaker}, so while the circuit is open the replayer only
+ * probes the broker once per open period.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>kafka.spool.replay-interval-ms</b>: how often the spool is checked (default 5000)</li>
+ *   <li><b>kafka.spool.send-timeout-ms</b>: how long to wait for each replayed send (default 10000)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class SpoolReplayer {
+
+    @Autowired
+    private KafkaSendSpool spool;
+
+    @Autowired
+    private ProducerCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private KafkaTemplate<String, ProductMessage> kafkaTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${kafka.topic.product:product}")
+    private String productTopic;
+
+    @Value("${kafka.spool.replay-interval-ms:5000}")
+    private long replayIntervalMs;
+
+    @Value("${kafka.spool.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private ScheduledFuture<?> replayTask;
+
+    @PostConstruct
+    void start() {
+        Duration interval = Duration.ofMillis(replayIntervalMs);
+        replayTask = taskScheduler.scheduleWithFixedDelay(this::drain, Instant.now().plus(interval), interval);
+    }
+
+    @PreDestroy
+    void stop() {
+        replayTask.cancel(true);
+    }
+
+    /**
+     * Replays spooled records until the spool is empty or a send fails.
+     */
+    void drain() {
+        int replayedCount = 0;
+        try {
+            while (!spool.isEmpty() && circuitBreaker.allowRequest()) {
+                KafkaSendSpool.SpooledRecord record = spool.peek();
+                if (record == null) {
+                    break;
+                }
+                ProductMessage message = record.message();
+                try {
+                    kafkaTemplate.send(productTopic, String.valueOf(message.getId()), message)
+                            .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    circuitBreaker.recordFailure();
+                    log.warning("Kafka spool replay failed, will retry later: " + e.getMessage());
+                    break;
+                }
+                circuitBreaker.recordSuccess();
+                spool.commit(record);
+                replayedCount++;
+            }
+        } catch (Exception e) {
+            log.severe("Unexpected error while replaying Kafka spool: " + e.getMessage());
+        }
+        if (replayedCount > 0) {
+            log.info("Replayed " + replayedCount + " spooled product events to topic: " + productTopic +
+                    ". Remaining: " + spool.pendingRecords());
+        }
+    }
+}
@@ -1,59 +1,78 @@
 package com.aspiresys.fp_micro_productservice.kafka.startup;
 
+import com.aspiresys.fp_micro_productservice.common.readiness.StartupReadinessTracker;
 import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
-import com.aspiresys.fp_micro_productservice.product.Product;
 import com.aspiresys.fp_micro_productservice.product.ProductService;
 import lombok.extern.java.Log;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 /**
  * Startup component that sends initial product data to Kafka when the application starts.
  * This ensures that the order service has all existing product information.
- * 
+ * <p>
+ * The publication runs asynchronously so the application becomes usable for reads
+ * without waiting for the full catalog to be loaded and sent. Until it finishes, the
+ * {@link StartupReadinessTracker} keeps the instance reported as STARTING.
+ * </p>
+ *
  * @author bruno.gil
  */
 @Component
 @Log
 public class ProductKafkaInitializer implements ApplicationRunner {
 
+    static final String TASK_NAME = "initialCatalogPublication";
+
     @Autowired
     private ProductService productService;
 
     @Autowired
     private ProductProducerService productProducerService;
 
+    @Autowired
+    private StartupReadinessTracker readinessTracker;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
     /**
-     * Runs when the application starts and sends all existing products to Kafka.
-     * 
+     * Runs when the application starts and schedules the publication of all existing products.
+     *
      * @param args Application arguments
      */
     @Override
     public void run(ApplicationArguments args) {
+        readinessTracker.register(TASK_NAME);
+        taskExecutor.execute(this::publishInitialCatalog);
+    }
+
+    /**
+     * Sends all existing products to Kafka and reports the outcome to the readiness tracker.
+     */
+    void publishInitialCatalog() {
         try {
             log.info("Starting Kafka initialization - sending existing products...");
-            
-            // Get all existing products
-            List<Product> allProducts = productService.getAllProducts();
-            
-            if (allProducts.isEmpty()) {
-                log.info("No existing products found. Skipping initial Kafka load.");
-                return;
+
+            // Send all existing products to Kafka
+            int productCount = productProducerService.sendInitialProductList(productService::getAllProducts);
+
+            if (productCount == 0) {
+                log.info("No existing products found. Nothing was sent to Kafka.");
+            } else {
+                log.info("Kafka initialization completed successfully. Sent " +
+                         productCount + " products to Kafka topic.");
             }
-            
-            // Send all products to Kafka
-            productProducerService.sendInitialProductList(allProducts);
-            
-            log.info("Kafka initialization completed successfully. Sent " + 
-                     allProducts.size() + " products to Kafka topic.");
-            
+            readinessTracker.complete(TASK_NAME);
+
         } catch (Exception e) {
             log.severe("Error during Kafka initialization: " + e.getMessage());
-            e.printStackTrace();
+            readinessTracker.fail(TASK_NAME, e);
         }
     }
 }
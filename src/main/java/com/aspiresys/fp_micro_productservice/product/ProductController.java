@@ -4,9 +4,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
-import java.util.Arrays;
 
 import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.category.CategorySummary;
+import com.aspiresys.fp_micro_productservice.product.listing.ProductListingStrategy;
 
 import lombok.extern.java.Log;
 
@@ -27,7 +29,7 @@ import com.aspiresys.fp_micro_productservice.aop.annotation.ExecutionTime;
  * <ul>
  *   <li><b>General:</b>
  *     <ul>
- *       <li>GET /products - Retrieve all products (any category)</li>
+ *       <li>GET /products[?strategy=polymorphic|per-subtype] - Retrieve all products (any category)</li>
  *       <li>GET /products/categories - Retrieve available product categories</li>
  *     </ul>
  *   </li>
@@ -45,24 +47,36 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
     /**
      * This endpoint retrieves all products available in the system.
      * <p>
      * This endpoint must be public and accessible without authentication. When auth is implemented for this application,
      * it should be accessible to all users, including unauthenticated ones.
-     * @return ResponseEntity containing a list of all products wrapped in AppResponse.
+     * @param strategy how the products are read: {@code polymorphic} (one query) or {@code per-subtype}
+     *                 (one query per product type, in parallel, ordered by id); the configured default if absent
+     * @return ResponseEntity containing a list of all products wrapped in AppResponse, 400 for an unknown strategy.
      * </p>
      */
     @GetMapping("")
     @Auditable(operation = "GET_ALL_PRODUCTS", entityType = "Product", logResult = true)
     @ExecutionTime(operation = "Retrieve All Products", warningThreshold = 800)
-    public ResponseEntity<AppResponse<List<Product>>> getAllProducts() {
-        List<Product> products = productService.getAllProducts();
+    public ResponseEntity<AppResponse<List<Product>>> getAllProducts(@RequestParam(required = false) String strategy) {
+        ProductListingStrategy listingStrategy;
+        try {
+            listingStrategy = ProductListingStrategy.fromParameter(strategy, null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new AppResponse<>(e.getMessage(), null));
+        }
+        List<Product> products = productService.getAllProducts(listingStrategy);
         return ResponseEntity.ok(new AppResponse<>("Product list retrieved successfully", products));
     }
 
     /**
-     * This endpoint retrieves all available product categories.
+     * This endpoint retrieves all available product categories with their number of products,
+     * from the {@link CategoryRegistry}.
      * 
      * <p>
      * This endpoint must be public and accessible without authentication. When auth is implemented for this application,
@@ -73,8 +87,8 @@ public class ProductController {
     @GetMapping("/categories")
     @Auditable(operation = "GET_PRODUCT_CATEGORIES", entityType = "Category", logResult = true)
     @ExecutionTime(operation = "Retrieve Product Categories", warningThreshold = 200)
-    public ResponseEntity<AppResponse<List<String>>> getCategories() {
-        List<String> categories = Arrays.asList("clothes", "electronics", "smartphone");
+    public ResponseEntity<AppResponse<List<CategorySummary>>> getCategories() {
+        List<CategorySummary> categories = categoryRegistry.categories();
         return ResponseEntity.ok(new AppResponse<>("Categories retrieved successfully", categories));
     }
 
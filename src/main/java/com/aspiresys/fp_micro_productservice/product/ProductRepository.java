@@ -1,8 +1,37 @@
 package com.aspiresys.fp_micro_productservice.product;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    /**
+     * Adds a (possibly negative) delta to the stock of a product with a single UPDATE.
+     * A native statement is used so only the base product table is touched,
+     * regardless of the product's subtype. A decrement is skipped if it would leave
+     * the stock negative, since such a product no longer passes validation.
+     *
+     * @param id the ID of the product
+     * @param delta the quantity to add to the current stock
+     * @return the number of rows updated (0 if the product does not exist or a decrement exceeds the stock)
+     */
+    @Modifying
+    @Query(value = "UPDATE product SET stock = stock + :delta"
+            + " WHERE id = :id AND (:delta >= 0 OR stock + :delta >= 0)", nativeQuery = true)
+    int adjustStock(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Reads only the current stock of a product.
+     *
+     * @param id the ID of the product
+     * @return the stock, or empty if the product does not exist
+     */
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
 }
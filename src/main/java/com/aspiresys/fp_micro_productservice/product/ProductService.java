@@ -1,5 +1,7 @@
 package com.aspiresys.fp_micro_productservice.product;
 
+import com.aspiresys.fp_micro_productservice.product.listing.ProductListingStrategy;
+
 import java.util.List;
 
 /**
@@ -9,6 +11,8 @@ import java.util.List;
 public interface ProductService {
     Product saveProduct(Product product);
     List<Product> getAllProducts();
+    List<Product> getAllProducts(ProductListingStrategy strategy);
+    long countProducts();
     Product getProductById(Long id);
     void deleteProduct(Long id);
 }
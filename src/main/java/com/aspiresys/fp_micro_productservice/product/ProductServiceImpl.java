@@ -1,6 +1,9 @@
 package com.aspiresys.fp_micro_productservice.product;
 
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +12,8 @@ import java.util.Optional;
 import com.aspiresys.fp_micro_productservice.aop.annotation.Auditable;
 import com.aspiresys.fp_micro_productservice.aop.annotation.ExecutionTime;
 import com.aspiresys.fp_micro_productservice.aop.annotation.ValidateParameters;
+import com.aspiresys.fp_micro_productservice.product.listing.PerSubtypeProductFetcher;
+import com.aspiresys.fp_micro_productservice.product.listing.ProductListingStrategy;
 
 /**
  * Service implementation for managing products.
@@ -21,7 +26,9 @@ import com.aspiresys.fp_micro_productservice.aop.annotation.ValidateParameters;
  * The following operations are supported:
  * <ul>
  *   <li>Save a new product</li>
- *   <li>Retrieve all products</li>
+ *   <li>Retrieve all products, with one polymorphic query or one query per subtype
+ *       ({@code product.listing.default-strategy} when no strategy is given; parsed at
+ *       startup, so an unknown value fails the context)</li>
  *   <li>Retrieve a product by its ID</li>
  *   <li>Delete a product by its ID</li>
  * </ul>
@@ -36,6 +43,20 @@ public class ProductServiceImpl implements ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    // Looked up on use, so contexts without JPA (benchmarks) only need the repository
+    @Autowired
+    private ObjectProvider<PerSubtypeProductFetcher> perSubtypeProductFetcher;
+
+    @Value("${product.listing.default-strategy:polymorphic}")
+    private String defaultListingStrategy;
+
+    private ProductListingStrategy defaultStrategy;
+
+    @PostConstruct
+    void init() {
+        defaultStrategy = ProductListingStrategy.fromParameter(defaultListingStrategy, ProductListingStrategy.POLYMORPHIC);
+    }
+
     @Override
     @Auditable(operation = "SAVE_PRODUCT", entityType = "Product", logParameters = true, logResult = true)
     @ExecutionTime(operation = "Save Product", warningThreshold = 500, detailed = true)
@@ -50,6 +71,21 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.findAll();
     }
 
+    @Override
+    @ExecutionTime(operation = "Get All Products", warningThreshold = 1000)
+    public List<Product> getAllProducts(ProductListingStrategy strategy) {
+        ProductListingStrategy resolved = strategy != null ? strategy : defaultStrategy;
+        return resolved == ProductListingStrategy.PER_SUBTYPE
+                ? perSubtypeProductFetcher.getObject().findAll()
+                : productRepository.findAll();
+    }
+
+    @Override
+    @ExecutionTime(operation = "Count Products")
+    public long countProducts() {
+        return productRepository.count();
+    }
+
     @Override
     @ExecutionTime(operation = "Get Product by ID")
     @ValidateParameters(notNull = true, message = "Product ID cannot be null")
@@ -1,15 +1,22 @@
 package com.aspiresys.fp_micro_productservice.product;
 
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
+import com.aspiresys.fp_micro_productservice.product.validation.Violation;
+
 public class ProductUtils {
 
+    private static final TupleResponse<Boolean, String> VALID = new TupleResponse<>(true, "Product is valid");
+
     /**
-     * Validates the product category.
+     * Validates the product category against the {@link CategoryRegistry}.
      *
      * @param category the category to validate
+     * @param categories the registered categories
      * @return true if the category is valid, false otherwise
      */
-    public static boolean isValidCategory(String category) {
-        return "smartphone".equalsIgnoreCase(category) || "clothes".equalsIgnoreCase(category);
+    public static boolean isValidCategory(String category, CategoryRegistry categories) {
+        return categories.isRegistered(category);
     }
 
     /**
@@ -50,36 +57,21 @@ public class ProductUtils {
     }
     
     /**
-     * Validates the entire product object.
+     * Validates the entire product object against the rules of its type
+     * ({@link ProductValidators}), stopping at the first violation.
      *
      * @param product the product to validate
-     * @return true if the product is valid, false otherwise
+     * @param validators the compiled product rules
+     * @return true if the product is valid, false with the violation otherwise
      */
-    public static TupleResponse<Boolean,String>   isAValidProduct(Product product) {
-        if (product == null) {
-            return new TupleResponse<>(false, "Product cannot be null");
-        }
-        if (!isValidCategory(product.getCategory())) {
-            return new TupleResponse<>(false, "Invalid category: " + product.getCategory());
-        }
-        if (!isValidStock(product.getStock())) {
-            return new TupleResponse<>(false, "Invalid stock: " + product.getStock());
-        }
-        if (!isValidPrice(product.getPrice())) {
-            return new TupleResponse<>(false, "Invalid price: " + product.getPrice());
-        }
-        if (!isValidName(product.getName())) {
-            return new TupleResponse<>(false, "Invalid name: " + product.getName());
-        }
-        if (!isValidImageUrl(product.getImageUrl())) {
-            return new TupleResponse<>(false, "Invalid image URL: " + product.getImageUrl());
-        }
-        return new TupleResponse<>(true, "Product is valid");
+    public static TupleResponse<Boolean,String>   isAValidProduct(Product product, ProductValidators validators) {
+        Violation violation = validators.firstViolation(product);
+        return violation == null ? VALID : new TupleResponse<>(false, violation.message());
     }
 
     public static class TupleResponse<T, U> {
-        private T first;
-        private U second;
+        private final T first;
+        private final U second;
 
         public TupleResponse(T first, U second) {
             this.first = first;
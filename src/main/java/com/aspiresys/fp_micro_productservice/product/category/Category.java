@@ -0,0 +1,38 @@
+package com.aspiresys.fp_micro_productservice.product.category;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * A product category accepted by the service.
+ * <p>
+ * Categories are loaded by {@link CategoryRegistry}; adding a row (through
+ * {@code /products/admin/categories}) makes the category valid without a deploy.
+ * </p>
+ *
+ * Fields:
+ * <ul>
+ *   <li><b>name</b>: Lower-case category name, as stored in {@code product.category}.</li>
+ *   <li><b>description</b>: Human readable description.</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Entity
+@Table(name = "product_category")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class Category {
+    @Id
+    private String name;
+    private String description;
+}
@@ -0,0 +1,87 @@
+package com.aspiresys.fp_micro_productservice.product.category;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for managing the product categories.
+ *
+ * This controller is restricted to ADMIN users only and provides:
+ * - Registering a category (it becomes valid for new products immediately)
+ * - Removing a category without products
+ * - Reloading the registry and recounting the products per category
+ *
+ * The public list of categories is {@code GET /products/categories}.
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/categories")
+@Log
+public class CategoryController {
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    /**
+     * Registers a category.
+     *
+     * @param name        category name (stored in lower case)
+     * @param description human readable description
+     * @return 200 with the categories, 409 if it already exists, 400 for an empty name
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<List<CategorySummary>>> addCategory(@RequestParam String name,
+                                                                         @RequestParam(required = false) String description) {
+        try {
+            if (!categoryRegistry.add(name, description)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new AppResponse<>("Category already exists: " + name, categoryRegistry.categories()));
+            }
+            return ResponseEntity.ok(new AppResponse<>("Category registered successfully", categoryRegistry.categories()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new AppResponse<>(e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Removes a category that no product uses.
+     *
+     * @param name category name
+     * @return 200 with the categories, 404 if it does not exist, 409 if products still use it
+     */
+    @DeleteMapping("/{name}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<List<CategorySummary>>> removeCategory(@PathVariable String name) {
+        try {
+            if (!categoryRegistry.remove(name)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new AppResponse<>("Category not found: " + name, null));
+            }
+            return ResponseEntity.ok(new AppResponse<>("Category removed successfully", categoryRegistry.categories()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new AppResponse<>(e.getMessage(), null));
+        }
+    }
+
+    /**
+     * Reloads the categories and recounts their products (e.g. after a bulk import).
+     *
+     * @return ResponseEntity with the categories
+     */
+    @PostMapping("/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<List<CategorySummary>>> refreshCategories() {
+        categoryRegistry.refresh();
+        log.info("Admin refreshed the category registry");
+        return ResponseEntity.ok(new AppResponse<>("Category registry refreshed", categoryRegistry.categories()));
+    }
+}
@@ -0,0 +1,90 @@
+package com.aspiresys.fp_micro_productservice.product.category;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.Objects;
+
+/**
+ * Keeps the per-category product counts of {@link CategoryRegistry} up to date as
+ * products are inserted, re-categorized and deleted through JPA.
+ * <p>
+ * The listener runs after the transaction commits, so rolled back writes are not counted.
+ * Writes that bypass Hibernate (JDBC batch inserts, bulk deletes) are picked up by the
+ * next {@link CategoryRegistry#refresh()}.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+class CategoryCountListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private static final String CATEGORY_PROPERTY = "category";
+
+    private final CategoryRegistry categoryRegistry;
+
+    CategoryCountListener(CategoryRegistry categoryRegistry) {
+        this.categoryRegistry = categoryRegistry;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            categoryRegistry.productAdded(product.getCategory());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Product) || event.getOldState() == null) {
+            return;
+        }
+        int index = categoryIndex(event.getPersister());
+        Object before = event.getOldState()[index];
+        Object after = event.getState()[index];
+        if (!Objects.equals(before, after)) {
+            categoryRegistry.productRemoved((String) before);
+            categoryRegistry.productAdded((String) after);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            categoryRegistry.productRemoved(product.getCategory());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Product.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private static int categoryIndex(EntityPersister persister) {
+        String[] propertyNames = persister.getPropertyNames();
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (CATEGORY_PROPERTY.equals(propertyNames[i])) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No category property on " + persister.getEntityName());
+    }
+}
@@ -0,0 +1,261 @@
+package com.aspiresys.fp_micro_productservice.product.category;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.java.Log;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory registry of the product categories stored in the {@code product_category} table.
+ * <p>
+ * The categories are held in an immutable map that is replaced as a whole on every
+ * {@link #refresh()} (after a change through the admin endpoints, and every
+ * {@code category.registry.refresh-interval-seconds} to pick up changes made by other
+ * instances). Lookups are a volatile read plus a hash lookup; until the registry is
+ * loaded, the built-in categories (clothes, smartphone) apply.
+ * </p>
+ * <p>
+ * Each category carries its product count. Counts are recomputed with one grouped
+ * query on refresh and kept current in between by {@link CategoryCountListener}.
+ * Changes reported while the query runs are recorded and applied to the new map
+ * when it is swapped in, so they are not lost with the old one (a change committed
+ * just before the query started can be counted twice until the next refresh).
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>category.registry.refresh-interval-seconds</b>: how often the registry is reloaded (default 300)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class CategoryRegistry {
+
+    static final String COUNT_SQL = "SELECT LOWER(category), COUNT(*) FROM product GROUP BY LOWER(category)";
+
+    /**
+     * Categories created when the table is empty.
+     */
+    static final List<Category> DEFAULT_CATEGORIES = List.of(
+            new Category("clothes", "Garments and apparel"),
+            new Category("smartphone", "Smartphones"));
+
+    /**
+     * A loaded category and its running product count.
+     */
+    private record Entry(String name, String description, AtomicLong productCount) {
+
+        CategorySummary toSummary() {
+            return new CategorySummary(name, description, productCount.get());
+        }
+    }
+
+    private volatile Map<String, Entry> categories = load(DEFAULT_CATEGORIES, Map.of());
+
+    /**
+     * Count changes seen while a refresh is counting; null when no refresh is running.
+     */
+    private Map<String, Long> pendingCounts;
+    private final Object countLock = new Object();
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${category.registry.refresh-interval-seconds:300}")
+    private long refreshIntervalSeconds;
+
+    private ScheduledFuture<?> refreshTask;
+
+    @PostConstruct
+    void init() {
+        if (categoryRepository.count() == 0) {
+            categoryRepository.saveAll(DEFAULT_CATEGORIES);
+            log.info("Category registry seeded with " + DEFAULT_CATEGORIES.size() + " default categories");
+        }
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        CategoryCountListener countListener = new CategoryCountListener(this);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, countListener);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, countListener);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, countListener);
+        refresh();
+
+        Duration interval = Duration.ofSeconds(Math.max(1, refreshIntervalSeconds));
+        refreshTask = taskScheduler.scheduleWithFixedDelay(this::refreshQuietly, Instant.now().plus(interval), interval);
+    }
+
+    /**
+     * Returns true if the category is registered (case-insensitive).
+     */
+    public boolean isRegistered(String category) {
+        if (category == null) {
+            return false;
+        }
+        Map<String, Entry> current = categories;
+        return current.containsKey(category) || current.containsKey(category.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the registered category names, sorted.
+     */
+    public List<String> names() {
+        return categories.keySet().stream().sorted().toList();
+    }
+
+    /**
+     * Returns the registered categories with their product counts, sorted by name.
+     */
+    public List<CategorySummary> categories() {
+        return categories.values().stream()
+                .map(Entry::toSummary)
+                .sorted(Comparator.comparing(CategorySummary::name))
+                .toList();
+    }
+
+    void productAdded(String category) {
+        adjustCount(category, 1);
+    }
+
+    void productRemoved(String category) {
+        adjustCount(category, -1);
+    }
+
+    /**
+     * Reloads the categories and recounts their products.
+     */
+    public synchronized void refresh() {
+        List<Category> loaded = categoryRepository.findAll();
+        Map<String, Long> counts = new HashMap<>();
+        synchronized (countLock) {
+            pendingCounts = new HashMap<>();
+        }
+        try {
+            jdbcTemplate.query(COUNT_SQL, row -> {
+                counts.put(row.getString(1), row.getLong(2));
+            });
+            // Swap under the lock so no change lands on the old map after it is merged
+            synchronized (countLock) {
+                pendingCounts.forEach((name, delta) -> counts.merge(name, delta, Long::sum));
+                categories = load(loaded, counts);
+            }
+        } finally {
+            synchronized (countLock) {
+                pendingCounts = null;
+            }
+        }
+    }
+
+    /**
+     * Registers a category.
+     *
+     * @return false if it already exists
+     */
+    public synchronized boolean add(String name, String description) {
+        String key = normalize(name);
+        if (categoryRepository.existsById(key)) {
+            return false;
+        }
+        categoryRepository.save(new Category(key, description));
+        refresh();
+        log.info("Category registered: " + key);
+        return true;
+    }
+
+    /**
+     * Removes a category that has no products.
+     *
+     * @return false if it does not exist
+     * @throws IllegalStateException if products still use the category
+     */
+    public synchronized boolean remove(String name) {
+        String key = normalize(name);
+        if (!categoryRepository.existsById(key)) {
+            return false;
+        }
+        refresh();
+        Entry entry = categories.get(key);
+        if (entry != null && entry.productCount().get() > 0) {
+            throw new IllegalStateException("Category '" + key + "' still has " + entry.productCount().get() + " products");
+        }
+        categoryRepository.deleteById(key);
+        refresh();
+        log.info("Category removed: " + key);
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshTask != null) {
+            refreshTask.cancel(true);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warning("Category registry refresh failed: " + e.getMessage());
+        }
+    }
+
+    private void adjustCount(String category, long delta) {
+        if (category == null) {
+            return;
+        }
+        String name = category.toLowerCase(Locale.ROOT);
+        synchronized (countLock) {
+            if (pendingCounts != null) {
+                pendingCounts.merge(name, delta, Long::sum);
+            }
+            Entry entry = categories.get(name);
+            if (entry != null) {
+                entry.productCount().addAndGet(delta);
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Category name cannot be empty");
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Entry> load(List<Category> loaded, Map<String, Long> counts) {
+        Map<String, Entry> entries = new HashMap<>();
+        for (Category category : loaded) {
+            String name = category.getName().toLowerCase(Locale.ROOT);
+            entries.put(name, new Entry(name, category.getDescription(), new AtomicLong(counts.getOrDefault(name, 0L))));
+        }
+        return Map.copyOf(entries);
+    }
+}
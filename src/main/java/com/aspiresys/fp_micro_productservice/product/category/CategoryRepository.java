@@ -0,0 +1,13 @@
+package com.aspiresys.fp_micro_productservice.product.category;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the product categories.
+ *
+ * @author bruno.gil
+ */
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, String> {
+}
@@ -0,0 +1,12 @@
+package com.aspiresys.fp_micro_productservice.product.category;
+
+/**
+ * A registered category with its number of products.
+ *
+ * @param name         lower-case category name
+ * @param description  human readable description
+ * @param productCount products in the category
+ * @author bruno.gil
+ */
+public record CategorySummary(String name, String description, long productCount) {
+}
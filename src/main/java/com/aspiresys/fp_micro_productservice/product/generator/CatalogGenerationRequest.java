@@ -0,0 +1,36 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+/**
+ * Parameters of a synthetic catalog generation run.
+ *
+ * @param count        number of products to insert
+ * @param clothesRatio fraction of the products that are clothes; the rest are smartphones
+ * @param batchSize    products inserted per JDBC batch (and per transaction)
+ * @param workers      number of parallel insert workers
+ * @param seed         random seed; the same seed generates the same products
+ * @author bruno.gil
+ */
+public record CatalogGenerationRequest(long count, double clothesRatio, int batchSize, int workers, long seed) {
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final int MAX_WORKERS = 32;
+
+    /**
+     * Returns a description of the first invalid parameter, or null when the request is valid.
+     */
+    public String validate() {
+        if (count <= 0) {
+            return "count must be greater than 0";
+        }
+        if (clothesRatio < 0 || clothesRatio > 1) {
+            return "clothesRatio must be between 0.0 and 1.0";
+        }
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            return "batchSize must be between 1 and " + MAX_BATCH_SIZE;
+        }
+        if (workers <= 0 || workers > MAX_WORKERS) {
+            return "workers must be between 1 and " + MAX_WORKERS;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+import java.time.Instant;
+
+/**
+ * Progress of the current (or last) catalog generation run.
+ *
+ * @param state         IDLE, RUNNING, COMPLETED or FAILED
+ * @param runTag        tag embedded in the names and image URLs of the generated products
+ * @param requested     products requested
+ * @param clothes       clothes inserted so far
+ * @param smartphones   smartphones inserted so far
+ * @param startedAt     start of the run
+ * @param finishedAt    end of the run (null while running)
+ * @param rowsPerSecond products inserted per second so far
+ * @param error         failure message of a FAILED run
+ * @author bruno.gil
+ */
+public record CatalogGenerationStatus(State state,
+                                      String runTag,
+                                      long requested,
+                                      long clothes,
+                                      long smartphones,
+                                      Instant startedAt,
+                                      Instant finishedAt,
+                                      double rowsPerSecond,
+                                      String error) {
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    static final CatalogGenerationStatus IDLE = new CatalogGenerationStatus(State.IDLE, null, 0, 0, 0, null, null, 0, null);
+
+    public long inserted() {
+        return clothes + smartphones;
+    }
+}
@@ -0,0 +1,340 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+import com.aspiresys.fp_micro_productservice.common.bulkhead.DataSourcePartition;
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import com.aspiresys.fp_micro_productservice.product.validation.BatchValidationResult;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Generates large synthetic catalogs of clothes and smartphones directly in the database.
+ * <p>
+ * Products are built by {@link SyntheticProductFactory} and written with JDBC batch inserts:
+ * one batch into {@code product} (returning the generated ids), then one into each subtype
+ * table of the joined inheritance, all in one transaction per batch. The batches are split
+ * among parallel workers. Each batch draws from its own random stream derived from the seed
+ * and the batch number, so a seed always produces the same catalog regardless of the number
+ * of workers. Every batch is checked against the product rules ({@link ProductValidators})
+ * before it is written, since the inserts bypass the API validation. The workers use the
+ * admin connection pool ({@link DataSourcePartition#ADMIN}), leaving the default pool to
+ * regular traffic.
+ * </p>
+ * <p>
+ * Only one run can be active at a time. Generated products are not published to Kafka;
+ * use the full sync endpoint afterwards if other services need them.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Service
+@Log
+public class CatalogGenerator {
+
+    static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO product (name, category, price, image_url, stock) VALUES (?, ?, ?, ?, ?)";
+    static final String INSERT_CLOTHES_SQL =
+            "INSERT INTO clothes (id, brand, size, color, fabric_type) VALUES (?, ?, ?, ?, ?)";
+    static final String INSERT_ELECTRONICS_SQL =
+            "INSERT INTO electronics (id, brand, model, warranty_period, specifications) VALUES (?, ?, ?, ?, ?)";
+    static final String INSERT_SMARTPHONE_SQL =
+            "INSERT INTO smartphone (id, operating_system, storage_capacity, ram, processor, screen_size) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private ProductValidators productValidators;
+
+    private final AtomicReference<Run> currentRun = new AtomicReference<>();
+
+    // Last run tag timestamp; strictly increasing so two runs never share a tag
+    private final AtomicLong lastRunMillis = new AtomicLong();
+
+    /**
+     * Generates a catalog and waits for it to complete.
+     *
+     * @return the final status of the run
+     * @throws IllegalStateException if another run is in progress
+     */
+    public CatalogGenerationStatus generate(CatalogGenerationRequest request) {
+        Run run = begin(request);
+        if (run == null) {
+            throw new IllegalStateException("A catalog generation run is already in progress");
+        }
+        execute(run);
+        return run.toStatus();
+    }
+
+    /**
+     * Starts generating a catalog in the background.
+     *
+     * @return false if another run is in progress
+     */
+    public boolean start(CatalogGenerationRequest request) {
+        Run run = begin(request);
+        if (run == null) {
+            return false;
+        }
+        Thread thread = new Thread(DataSourcePartition.wrap(DataSourcePartition.ADMIN, () -> execute(run)),
+                "catalog-generator");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Status of the current run, or of the last one when none is running.
+     */
+    public CatalogGenerationStatus status() {
+        Run run = currentRun.get();
+        return run != null ? run.toStatus() : CatalogGenerationStatus.IDLE;
+    }
+
+    private Run begin(CatalogGenerationRequest request) {
+        String invalid = request.validate();
+        if (invalid != null) {
+            throw new IllegalArgumentException(invalid);
+        }
+        Run previous = currentRun.get();
+        if (previous != null && previous.state == CatalogGenerationStatus.State.RUNNING) {
+            return null;
+        }
+        long runMillis = lastRunMillis.accumulateAndGet(System.currentTimeMillis(), (last, now) -> Math.max(last + 1, now));
+        Run run = new Run(request, Long.toString(runMillis, 36));
+        return currentRun.compareAndSet(previous, run) ? run : null;
+    }
+
+    private void execute(Run run) {
+        CatalogGenerationRequest request = run.request;
+        long batches = (request.count() + request.batchSize() - 1) / request.batchSize();
+        AtomicLong nextBatch = new AtomicLong();
+        log.info("Generating synthetic catalog " + run.runTag + ": " + request.count() + " products, "
+                + request.workers() + " workers, batches of " + request.batchSize());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(request.workers(),
+                task -> new Thread(DataSourcePartition.wrap(DataSourcePartition.ADMIN, task),
+                        "catalog-generator-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < request.workers(); i++) {
+                futures.add(workers.submit(() -> {
+                    long batch;
+                    while ((batch = nextBatch.getAndIncrement()) < batches) {
+                        insertBatch(run, batch);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // Stop the other workers before they claim more batches
+                    nextBatch.set(batches);
+                    throw e.getCause();
+                }
+            }
+            run.finish(null);
+            CatalogGenerationStatus status = run.toStatus();
+            log.info("Synthetic catalog " + run.runTag + " completed: " + status.clothes() + " clothes and "
+                    + status.smartphones() + " smartphones (" + Math.round(status.rowsPerSecond()) + " products/s)");
+        } catch (Throwable e) {
+            run.finish(e);
+            log.severe("Synthetic catalog " + run.runTag + " failed after " + run.inserted() + " products: " + e.getMessage());
+        } finally {
+            workers.shutdownNow();
+            // The JDBC inserts bypass the per-category counters
+            try {
+                categoryRegistry.refresh();
+            } catch (Exception e) {
+                log.warning("Category registry refresh after catalog " + run.runTag + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void insertBatch(Run run, long batch) {
+        CatalogGenerationRequest request = run.request;
+        long first = batch * request.batchSize();
+        long last = Math.min(request.count(), first + request.batchSize());
+        SplittableRandom random = new SplittableRandom(request.seed() + batch * SEED_MIX);
+
+        List<Product> products = new ArrayList<>((int) (last - first));
+        for (long number = first; number < last; number++) {
+            products.add(random.nextDouble() < request.clothesRatio()
+                    ? run.factory.clothes(number, random)
+                    : run.factory.smartphone(number, random));
+        }
+        BatchValidationResult validation = productValidators.validateBatch(products);
+        if (!validation.isValid()) {
+            throw new IllegalStateException("Synthetic batch " + batch + " has " + validation.rejected().size()
+                    + " invalid products, first: " + validation.rejected().values().iterator().next());
+        }
+
+        List<Clothes> clothes = new ArrayList<>();
+        List<Smartphone> smartphones = new ArrayList<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+            insertProducts(products);
+            for (Product product : products) {
+                if (product instanceof Clothes item) {
+                    clothes.add(item);
+                } else {
+                    smartphones.add((Smartphone) product);
+                }
+            }
+            insertClothes(clothes);
+            insertSmartphones(smartphones);
+        });
+        long inserted = run.added(clothes.size(), smartphones.size());
+        long before = inserted - products.size();
+        if (before * 10 / request.count() != inserted * 10 / request.count()) {
+            log.info("Synthetic catalog " + run.runTag + ": " + inserted + "/" + request.count() + " products inserted");
+        }
+    }
+
+    /**
+     * Inserts the base rows and sets the generated ids on the products.
+     */
+    private void insertProducts(List<Product> products) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_PRODUCT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Product product = products.get(i);
+                        ps.setString(1, product.getName());
+                        ps.setString(2, product.getCategory());
+                        ps.setDouble(3, product.getPrice());
+                        ps.setString(4, product.getImageUrl());
+                        ps.setInt(5, product.getStock());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return products.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != products.size()) {
+            throw new IllegalStateException("Expected " + products.size() + " generated ids but got " + keys.size());
+        }
+        for (int i = 0; i < products.size(); i++) {
+            products.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private void insertClothes(List<Clothes> clothes) {
+        jdbcTemplate.batchUpdate(INSERT_CLOTHES_SQL, clothes, clothes.size(), (ps, item) -> {
+            ps.setLong(1, item.getId());
+            ps.setString(2, item.getBrand());
+            ps.setString(3, item.getSize());
+            ps.setString(4, item.getColor());
+            ps.setString(5, item.getFabricType());
+        });
+    }
+
+    private void insertSmartphones(List<Smartphone> smartphones) {
+        jdbcTemplate.batchUpdate(INSERT_ELECTRONICS_SQL, smartphones, smartphones.size(), (ps, item) -> {
+            ps.setLong(1, item.getId());
+            ps.setString(2, item.getBrand());
+            ps.setString(3, item.getModel());
+            ps.setString(4, item.getWarrantyPeriod());
+            ps.setString(5, item.getSpecifications());
+        });
+        jdbcTemplate.batchUpdate(INSERT_SMARTPHONE_SQL, smartphones, smartphones.size(), (ps, item) -> {
+            ps.setLong(1, item.getId());
+            ps.setString(2, item.getOperatingSystem());
+            ps.setInt(3, item.getStorageCapacity());
+            ps.setInt(4, item.getRam());
+            ps.setString(5, item.getProcessor());
+            ps.setDouble(6, item.getScreenSize());
+        });
+    }
+
+    /**
+     * State of one generation run.
+     */
+    private static final class Run {
+        final CatalogGenerationRequest request;
+        final String runTag;
+        final SyntheticProductFactory factory;
+        final Instant startedAt = Instant.now();
+        final long startNanos = System.nanoTime();
+        final AtomicLong clothes = new AtomicLong();
+        final AtomicLong smartphones = new AtomicLong();
+        final AtomicLong total = new AtomicLong();
+        volatile CatalogGenerationStatus.State state = CatalogGenerationStatus.State.RUNNING;
+        volatile Instant finishedAt;
+        volatile long elapsedNanos;
+        volatile String error;
+
+        Run(CatalogGenerationRequest request, String runTag) {
+            this.request = request;
+            this.runTag = runTag;
+            this.factory = new SyntheticProductFactory(runTag);
+        }
+
+        /**
+         * Counts an inserted batch and returns the total inserted so far.
+         */
+        long added(long clothesCount, long smartphoneCount) {
+            clothes.addAndGet(clothesCount);
+            smartphones.addAndGet(smartphoneCount);
+            return total.addAndGet(clothesCount + smartphoneCount);
+        }
+
+        long inserted() {
+            return total.get();
+        }
+
+        void finish(Throwable failure) {
+            elapsedNanos = System.nanoTime() - startNanos;
+            finishedAt = Instant.now();
+            error = failure != null ? failure.getClass().getSimpleName() + ": " + failure.getMessage() : null;
+            state = failure != null ? CatalogGenerationStatus.State.FAILED : CatalogGenerationStatus.State.COMPLETED;
+        }
+
+        CatalogGenerationStatus toStatus() {
+            long nanos = finishedAt != null ? elapsedNanos : System.nanoTime() - startNanos;
+            double seconds = Math.max(Duration.ofNanos(nanos).toMillis(), 1) / 1000.0;
+            return new CatalogGenerationStatus(state, runTag, request.count(), clothes.get(), smartphones.get(),
+                    startedAt, finishedAt, inserted() / seconds, error);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for generating large synthetic catalogs.
+ *
+ * This controller is restricted to ADMIN users only and provides:
+ * - Starting a background generation run
+ * - The progress of the current (or last) run
+ *
+ * Intended for load, index and sync testing; do not use against production data.
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/catalog/generate")
+@Log
+public class CatalogGeneratorController {
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    /**
+     * Starts generating synthetic products in the background.
+     *
+     * @param count        number of products to insert
+     * @param clothesRatio fraction of clothes; the rest are smartphones
+     * @param batchSize    products per JDBC batch
+     * @param workers      parallel insert workers
+     * @param seed         random seed (random if absent)
+     * @return 202 with the run status, 409 if a run is in progress, 400 for invalid parameters
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<CatalogGenerationStatus>> startGeneration(
+            @RequestParam long count,
+            @RequestParam(defaultValue = "0.6") double clothesRatio,
+            @RequestParam(defaultValue = "1000") int batchSize,
+            @RequestParam(defaultValue = "4") int workers,
+            @RequestParam(required = false) Long seed) {
+        CatalogGenerationRequest request = new CatalogGenerationRequest(count, clothesRatio, batchSize, workers,
+                seed != null ? seed : System.nanoTime());
+        String invalid = request.validate();
+        if (invalid != null) {
+            return ResponseEntity.badRequest().body(new AppResponse<>(invalid, catalogGenerator.status()));
+        }
+
+        if (!catalogGenerator.start(request)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new AppResponse<>("A catalog generation run is already in progress", catalogGenerator.status()));
+        }
+        log.info("Admin started synthetic catalog generation: " + request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new AppResponse<>("Catalog generation started", catalogGenerator.status()));
+    }
+
+    /**
+     * Gets the progress of the current (or last) generation run.
+     *
+     * @return ResponseEntity with the run status
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<CatalogGenerationStatus>> getGenerationStatus() {
+        return ResponseEntity.ok(new AppResponse<>("Catalog generation status retrieved successfully", catalogGenerator.status()));
+    }
+}
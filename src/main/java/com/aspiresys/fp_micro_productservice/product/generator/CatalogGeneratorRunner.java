@@ -0,0 +1,63 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds a synthetic catalog at startup when the {@code catalog-generator} profile is active.
+ * <p>
+ * Runs before the other startup runners, so the initial Kafka publication already includes
+ * the generated products. The hand-written sample data is not loaded with this profile.
+ * </p>
+ *
+ * Configuration:
+ * <ul>
+ *   <li><b>catalog.generator.count</b>: number of products to insert (default 100000)</li>
+ *   <li><b>catalog.generator.clothes-ratio</b>: fraction of clothes; the rest are smartphones (default 0.6)</li>
+ *   <li><b>catalog.generator.batch-size</b>: products per JDBC batch (default 1000)</li>
+ *   <li><b>catalog.generator.workers</b>: parallel insert workers (default 4)</li>
+ *   <li><b>catalog.generator.seed</b>: random seed (default 42)</li>
+ * </ul>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Profile("catalog-generator")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Log
+public class CatalogGeneratorRunner implements ApplicationRunner {
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Value("${catalog.generator.count:100000}")
+    private long count;
+
+    @Value("${catalog.generator.clothes-ratio:0.6}")
+    private double clothesRatio;
+
+    @Value("${catalog.generator.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${catalog.generator.workers:4}")
+    private int workers;
+
+    @Value("${catalog.generator.seed:42}")
+    private long seed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        CatalogGenerationStatus status = catalogGenerator.generate(
+                new CatalogGenerationRequest(count, clothesRatio, batchSize, workers, seed));
+        if (status.state() == CatalogGenerationStatus.State.FAILED) {
+            log.severe("Startup catalog generation failed: " + status.error());
+        }
+    }
+}
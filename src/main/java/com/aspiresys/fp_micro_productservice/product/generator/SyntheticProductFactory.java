@@ -0,0 +1,139 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds realistic-looking synthetic products.
+ * <p>
+ * Brands, garment types, colors, sizes and phone configurations follow skewed
+ * ({@link ZipfDistribution}) frequencies, prices are log-normally spread around a base
+ * price per type, and stock levels are skewed towards low values with a share of
+ * out-of-stock products. Names and image URLs carry the run tag and the product number,
+ * so they never collide with the unique (name, category, image URL) constraint.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public class SyntheticProductFactory {
+
+    private static final ZipfDistribution<String> CLOTHES_BRANDS = new ZipfDistribution<>(List.of(
+            "UrbanThread", "PremiumWear", "ActiveGear", "NorthLine", "Basics Co", "Denim Lab", "StreetForm",
+            "Coastal", "Heritage", "Loom & Co", "Everyday", "Alpine", "Metro", "Kindred", "Summit",
+            "Driftwood", "Ember", "Atlas", "Nomad", "Willow", "Granite", "Harbor", "Juniper", "Vela",
+            "Pioneer", "Sable", "Tundra", "Oakridge", "Mosaic", "Linen House"), 1.1);
+
+    private static final ZipfDistribution<String[]> GARMENTS = new ZipfDistribution<>(List.of(
+            new String[]{"T-Shirt", "15"}, new String[]{"Jeans", "45"}, new String[]{"Hoodie", "40"},
+            new String[]{"Sneakers", "70"}, new String[]{"Shirt", "30"}, new String[]{"Jacket", "90"},
+            new String[]{"Dress", "55"}, new String[]{"Shorts", "20"}, new String[]{"Sweater", "50"},
+            new String[]{"Coat", "140"}, new String[]{"Skirt", "35"}, new String[]{"Socks", "8"}), 0.9);
+
+    private static final ZipfDistribution<String> SIZES = new ZipfDistribution<>(
+            List.of("M", "L", "S", "XL", "XS", "XXL"), 1.0);
+
+    private static final ZipfDistribution<String> COLORS = new ZipfDistribution<>(List.of(
+            "Black", "Blue", "White", "Gray", "Navy", "Red", "Green", "Beige", "Brown", "Pink",
+            "Olive", "Burgundy", "Yellow", "Purple", "Orange"), 1.2);
+
+    private static final ZipfDistribution<String> FABRICS = new ZipfDistribution<>(List.of(
+            "Cotton", "Polyester", "Denim", "Wool", "Linen", "Nylon", "Leather", "Silk"), 1.3);
+
+    private static final ZipfDistribution<String> PHONE_BRANDS = new ZipfDistribution<>(List.of(
+            "Apple", "Samsung", "Xiaomi", "Oppo", "Vivo", "Motorola", "Google", "OnePlus", "Honor",
+            "Realme", "Nokia", "Sony", "Asus", "Nothing", "Fairphone"), 1.2);
+
+    private static final ZipfDistribution<Integer> STORAGE_GB = new ZipfDistribution<>(
+            List.of(128, 256, 64, 512, 1024), 1.1);
+
+    private static final ZipfDistribution<Integer> RAM_GB = new ZipfDistribution<>(
+            List.of(8, 6, 12, 4, 16), 1.0);
+
+    private static final ZipfDistribution<String> PROCESSORS = new ZipfDistribution<>(List.of(
+            "Snapdragon 8 Gen 2", "Dimensity 8200", "Snapdragon 7 Gen 1", "Exynos 2200", "Helio G99",
+            "Tensor G3", "Snapdragon 6 Gen 1"), 0.8);
+
+    private static final ZipfDistribution<String> WARRANTIES = new ZipfDistribution<>(
+            List.of("1 year", "2 years", "3 years"), 1.5);
+
+    private final String runTag;
+
+    public SyntheticProductFactory(String runTag) {
+        this.runTag = runTag;
+    }
+
+    public Clothes clothes(long number, SplittableRandom random) {
+        String[] garment = GARMENTS.sample(random);
+        String brand = CLOTHES_BRANDS.sample(random);
+        String color = COLORS.sample(random);
+
+        Clothes clothes = new Clothes();
+        clothes.setName(brand + " " + color + " " + garment[0] + " " + runTag + "-" + number);
+        clothes.setCategory("clothes");
+        clothes.setPrice(price(Double.parseDouble(garment[1]), random));
+        clothes.setImageUrl(imageUrl("clothes", number));
+        clothes.setStock(stock(random));
+        clothes.setBrand(brand);
+        clothes.setSize(SIZES.sample(random));
+        clothes.setColor(color);
+        clothes.setFabricType(FABRICS.sample(random));
+        return clothes;
+    }
+
+    public Smartphone smartphone(long number, SplittableRandom random) {
+        String brand = PHONE_BRANDS.sample(random);
+        int storage = STORAGE_GB.sample(random);
+        int ram = RAM_GB.sample(random);
+        String model = brand.substring(0, 1) + (10 + random.nextInt(90));
+        String processor = "Apple".equals(brand) ? "A" + (14 + random.nextInt(4)) + " Bionic" : PROCESSORS.sample(random);
+
+        Smartphone smartphone = new Smartphone();
+        smartphone.setName(brand + " " + model + " " + storage + "GB " + runTag + "-" + number);
+        smartphone.setCategory("smartphone");
+        smartphone.setPrice(price(150 + storage * 0.9 + ram * 25, random));
+        smartphone.setImageUrl(imageUrl("smartphones", number));
+        smartphone.setStock(stock(random));
+        smartphone.setBrand(brand);
+        smartphone.setModel(model);
+        smartphone.setWarrantyPeriod(WARRANTIES.sample(random));
+        smartphone.setSpecifications(processor + ", " + storage + "GB, " + ram + "GB RAM");
+        smartphone.setOperatingSystem("Apple".equals(brand) ? "iOS" : "Android");
+        smartphone.setStorageCapacity(storage);
+        smartphone.setRam(ram);
+        smartphone.setProcessor(processor);
+        smartphone.setScreenSize(Math.round((5.8 + random.nextDouble() * 1.1) * 10) / 10.0);
+        return smartphone;
+    }
+
+    /**
+     * Log-normal spread around the base price, rounded to .99.
+     */
+    private static double price(double base, SplittableRandom random) {
+        double factor = Math.exp(gaussian(random) * 0.35);
+        return Math.max(1, Math.floor(base * factor)) + 0.99;
+    }
+
+    /**
+     * About 5% out of stock; otherwise mostly low stock with a long tail.
+     */
+    private static int stock(SplittableRandom random) {
+        if (random.nextDouble() < 0.05) {
+            return 0;
+        }
+        return 1 + (int) Math.min(999, Math.floor(-Math.log(1 - random.nextDouble()) * 40));
+    }
+
+    private String imageUrl(String type, long number) {
+        return "https://cdn.example.com/catalog/" + runTag + "/" + type + "/" + number + ".jpg";
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller transform
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+}
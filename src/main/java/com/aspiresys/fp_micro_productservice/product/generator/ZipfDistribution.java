@@ -0,0 +1,47 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Picks values with Zipf-skewed frequencies: the value at rank {@code k} (1-based) is chosen
+ * with probability proportional to {@code 1 / k^exponent}, so the first values dominate
+ * and the tail is long, like brand or color popularity in a real catalog.
+ *
+ * @param <T> the type of the values
+ * @author bruno.gil
+ */
+public class ZipfDistribution<T> {
+
+    private final List<T> values;
+    private final double[] cumulative;
+
+    /**
+     * @param values   the values, most popular first
+     * @param exponent skew of the distribution (0 = uniform, around 1 = typical popularity skew)
+     */
+    public ZipfDistribution(List<T> values, double exponent) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("A distribution needs at least one value");
+        }
+        this.values = List.copyOf(values);
+        this.cumulative = new double[values.size()];
+        double total = 0;
+        for (int rank = 1; rank <= values.size(); rank++) {
+            total += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    public T sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return values.get(Math.min(index, values.size() - 1));
+    }
+}
@@ -0,0 +1,124 @@
+package com.aspiresys.fp_micro_productservice.product.listing;
+
+import com.aspiresys.fp_micro_productservice.common.bulkhead.Bulkhead;
+import com.aspiresys.fp_micro_productservice.common.bulkhead.BulkheadFullException;
+import com.aspiresys.fp_micro_productservice.product.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.java.Log;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Reads all products with one query per concrete subtype instead of one polymorphic query.
+ * <p>
+ * A query on the abstract {@link Product} outer-joins every subtype table, and its plan gets
+ * worse as those tables grow. Here each concrete subtype (discovered from the JPA metamodel,
+ * so new subtypes are picked up without changes) is read with a query that only inner-joins
+ * its own tables. The queries run in parallel on the {@code listing} {@link Bulkhead}; when
+ * it is full, the remaining queries run on the calling thread. Each query is ordered by id
+ * and the results are merged in id order.
+ * </p>
+ * <p>
+ * A listing uses up to one connection per subtype at the same time. Statements run on the
+ * listing threads are not attributed to the request by the SQL statement monitor.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class PerSubtypeProductFetcher {
+
+    private static final Comparator<Product> BY_ID = Comparator.comparing(Product::getId);
+
+    /**
+     * A concrete product entity and its JPQL query.
+     */
+    private record Subtype(Class<? extends Product> type, String query) {
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("listingBulkhead")
+    private Bulkhead listingBulkhead;
+
+    private List<Subtype> subtypes;
+
+    @PostConstruct
+    void init() {
+        List<Subtype> discovered = new ArrayList<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            if (Product.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers())) {
+                // TYPE() keeps instances of a further subtype out of its parent's query
+                discovered.add(new Subtype(type.asSubclass(Product.class),
+                        "select p from " + entity.getName() + " p where type(p) = " + entity.getName() + " order by p.id"));
+            }
+        }
+        discovered.sort(Comparator.comparing(subtype -> subtype.type().getSimpleName()));
+        subtypes = List.copyOf(discovered);
+        log.info("Per-subtype product listing over " + subtypes.stream().map(s -> s.type().getSimpleName()).toList());
+    }
+
+    /**
+     * Reads all products, ordered by id.
+     */
+    public List<Product> findAll() {
+        List<CompletableFuture<List<? extends Product>>> results = new ArrayList<>(subtypes.size());
+        for (Subtype subtype : subtypes) {
+            results.add(submit(subtype));
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (CompletableFuture<List<? extends Product>> result : results) {
+            try {
+                products.addAll(result.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        // The list is a concatenation of sorted runs, which the merge sort merges in linear time
+        products.sort(BY_ID);
+        return products;
+    }
+
+    /**
+     * Returns the concrete product types read by {@link #findAll()}.
+     */
+    public List<Class<? extends Product>> getSubtypes() {
+        return subtypes.stream().<Class<? extends Product>>map(Subtype::type).toList();
+    }
+
+    private CompletableFuture<List<? extends Product>> submit(Subtype subtype) {
+        try {
+            return listingBulkhead.submit(() -> find(subtype));
+        } catch (BulkheadFullException e) {
+            return CompletableFuture.completedFuture(find(subtype));
+        }
+    }
+
+    private List<? extends Product> find(Subtype subtype) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(subtype.query(), subtype.type())
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
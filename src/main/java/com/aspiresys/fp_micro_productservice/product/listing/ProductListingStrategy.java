@@ -0,0 +1,44 @@
+package com.aspiresys.fp_micro_productservice.product.listing;
+
+import java.util.Locale;
+
+/**
+ * How a listing of all products is read from the database.
+ *
+ * @author bruno.gil
+ */
+public enum ProductListingStrategy {
+
+    /**
+     * One query on {@code Product}, which Hibernate turns into an outer join of every
+     * subtype table of the joined inheritance.
+     */
+    POLYMORPHIC,
+
+    /**
+     * One query per concrete subtype, run in parallel and merged in id order
+     * (see {@link PerSubtypeProductFetcher}).
+     */
+    PER_SUBTYPE;
+
+    /**
+     * Parses a request parameter or property value ({@code polymorphic}, {@code per-subtype}),
+     * ignoring case.
+     *
+     * @param value        the value, or null
+     * @param defaultValue returned when the value is null or blank
+     * @throws IllegalArgumentException if the value is not a strategy
+     */
+    public static ProductListingStrategy fromParameter(String value, ProductListingStrategy defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        String name = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        for (ProductListingStrategy strategy : values()) {
+            if (strategy.name().equals(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown listing strategy '" + value + "', expected polymorphic or per-subtype");
+    }
+}
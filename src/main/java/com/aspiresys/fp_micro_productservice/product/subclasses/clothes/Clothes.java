@@ -4,7 +4,6 @@ package com.aspiresys.fp_micro_productservice.product.subclasses.clothes;
 import com.aspiresys.fp_micro_productservice.product.Product;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.Table;
 import lombok.*;
 
 
@@ -13,23 +12,13 @@ import lombok.*;
  * Inherits common product properties from the {@link Product} class.
  * <p>
  * This entity is mapped to a database table for persistence.
+ * Uniqueness is enforced by the (name, category, imageUrl) constraint of the base
+ * product table, since the joined subclass table does not hold those columns.
  * </p>
  *
  * @author bruno.gil
  */
 @Entity
-@Table(
-    uniqueConstraints = @jakarta.persistence.UniqueConstraint(
-        columnNames = {
-            "name", 
-            "category",
-            "imageUrl",
-            "brand", 
-            "size", 
-            "color", 
-            "fabricType"}
-    )
-)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -10,6 +10,7 @@ import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
 import com.aspiresys.fp_micro_productservice.product.ProductUtils;
 import com.aspiresys.fp_micro_productservice.product.ProductUtils.TupleResponse;
 import com.aspiresys.fp_micro_productservice.product.ProductException;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
 import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
 
 import lombok.extern.java.Log;
@@ -58,6 +59,9 @@ public class ClothesController {
     @Autowired
     private ProductProducerService productProducerService;
 
+    @Autowired
+    private ProductValidators productValidators;
+
     /**
      * Creates a new Clothes item.
      * <p>
@@ -71,7 +75,7 @@ public class ClothesController {
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AppResponse<Clothes>> createClothes(@RequestBody Clothes clothes) {
-        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(clothes);
+        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(clothes, productValidators);
         if (!validation.getFirst()) {
             return ResponseEntity.badRequest().body(new AppResponse<>("Invalid clothes data: " + validation.getSecond(), null));
         }
@@ -144,7 +148,7 @@ public class ClothesController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AppResponse<Clothes>> updateClothes(@PathVariable Long id, @RequestBody Clothes clothes) {
         Clothes existing = clothesService.getClothesById(id);
-        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(clothes);
+        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(clothes, productValidators);
         if (!validation.getFirst()) {
             return ResponseEntity.badRequest().body(new AppResponse<>("Invalid clothes data: " + validation.getSecond(), null));
         }
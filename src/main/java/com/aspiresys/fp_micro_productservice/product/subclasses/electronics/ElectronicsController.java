@@ -10,6 +10,7 @@ import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
 import com.aspiresys.fp_micro_productservice.product.ProductUtils;
 import com.aspiresys.fp_micro_productservice.product.ProductUtils.TupleResponse;
 import com.aspiresys.fp_micro_productservice.product.ProductException;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
 import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
 
 import lombok.extern.java.Log;
@@ -57,11 +58,14 @@ public class ElectronicsController {
     @Autowired
     private ProductProducerService productProducerService;
 
+    @Autowired
+    private ProductValidators productValidators;
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AppResponse<Electronics>> createElectronics(@RequestBody Electronics electronics) {
         electronics.setCategory("electronics"); // Ensure category is set
-        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(electronics);
+        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(electronics, productValidators);
         if (!validation.getFirst()) {
             return ResponseEntity.badRequest().body(new AppResponse<>("Invalid electronics data: " + validation.getSecond(), null));
         }
@@ -129,7 +133,7 @@ public class ElectronicsController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AppResponse<Electronics>> updateElectronics(@PathVariable Long id, @RequestBody Electronics electronics) {
         Electronics existing = electronicsService.getElectronicsById(id);
-        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(electronics);
+        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(electronics, productValidators);
         if (!validation.getFirst()) {
             return ResponseEntity.badRequest().body(new AppResponse<>("Invalid electronics data: " + validation.getSecond(), null));
         }
@@ -2,7 +2,6 @@ package com.aspiresys.fp_micro_productservice.product.subclasses.electronics.sma
 
 import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.Electronics;
 import jakarta.persistence.Entity;
-import jakarta.persistence.Table;
 import lombok.*;
 
 
@@ -11,26 +10,13 @@ import lombok.*;
  * <p>
  * This class contains properties specific to smartphones, such as operating system,
  * storage capacity, RAM, processor, and screen size.
+ * Uniqueness is enforced by the (name, category, imageUrl) constraint of the base
+ * product table, since the joined subclass table does not hold those columns.
  * </p>
  *
  * @author bruno.gil
  */
 @Entity
-@Table(
-    uniqueConstraints = @jakarta.persistence.UniqueConstraint(
-        columnNames = {
-            "name",
-            "category",
-            "imageUrl",
-            "brand",
-            "operatingSystem",
-            "storageCapacity",
-            "ram",
-            "processor",
-            "screenSize"
-        }
-    )
-)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -10,6 +10,7 @@ import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
 import com.aspiresys.fp_micro_productservice.product.ProductUtils;
 import com.aspiresys.fp_micro_productservice.product.ProductUtils.TupleResponse;
 import com.aspiresys.fp_micro_productservice.product.ProductException;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
 import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
 
 import lombok.extern.java.Log;
@@ -60,11 +61,14 @@ public class SmartphoneController {
     @Autowired
     private ProductProducerService productProducerService;
 
+    @Autowired
+    private ProductValidators productValidators;
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AppResponse<Smartphone>> createSmartphone(@RequestBody Smartphone smartphone) {
         smartphone.setCategory("smartphone"); // Ensure category is set
-        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(smartphone);
+        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(smartphone, productValidators);
         if (!validation.getFirst()) {
             return ResponseEntity.badRequest().body(new AppResponse<>("Invalid smartphone data: " + validation.getSecond(), null));
         }
@@ -116,7 +120,7 @@ public class SmartphoneController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AppResponse<Smartphone>> updateSmartphone(@PathVariable Long id, @RequestBody Smartphone smartphone) {
         Smartphone existing = smartphoneService.getSmartphoneById(id);
-        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(smartphone);
+        TupleResponse<Boolean, String> validation = ProductUtils.isAValidProduct(smartphone, productValidators);
         if (!validation.getFirst()) {
             return ResponseEntity.badRequest().body(new AppResponse<>("Invalid smartphone data: " + validation.getSecond(), null));
         }
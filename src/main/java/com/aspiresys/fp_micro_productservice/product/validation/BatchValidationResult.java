@@ -0,0 +1,19 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of validating a batch of products.
+ *
+ * @param total    products in the batch
+ * @param valid    products without violations
+ * @param rejected violations of each rejected product, by position in the batch
+ * @author bruno.gil
+ */
+public record BatchValidationResult(int total, int valid, Map<Integer, List<Violation>> rejected) {
+
+    public boolean isValid() {
+        return rejected.isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Declarative validation rules of one product type. Rule sets are declared in
+ * {@link ProductRules} and compiled into {@link ProductValidator}s; a product is
+ * checked against the rule sets of its class and of every superclass, in declaration order.
+ *
+ * @param <T> product type the rules apply to
+ * @author bruno.gil
+ */
+public final class ProductRuleSet<T extends Product> {
+
+    /**
+     * One rule: the field it checks, the check and the message built when the check fails.
+     */
+    record Rule<T>(String field, Predicate<? super T> check, Function<? super T, String> message) {
+    }
+
+    private final Class<T> type;
+    private final List<Rule<T>> rules = new ArrayList<>();
+
+    private ProductRuleSet(Class<T> type) {
+        this.type = type;
+    }
+
+    public static <T extends Product> ProductRuleSet<T> forType(Class<T> type) {
+        return new ProductRuleSet<>(type);
+    }
+
+    /**
+     * Adds a rule.
+     *
+     * @param field   name of the checked field
+     * @param check   returns true if the product is valid
+     * @param message message of the violation, only built when the check fails
+     */
+    public ProductRuleSet<T> rule(String field, Predicate<? super T> check, Function<? super T, String> message) {
+        rules.add(new Rule<>(field, check, message));
+        return this;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    List<Rule<T>> getRules() {
+        return Collections.unmodifiableList(rules);
+    }
+}
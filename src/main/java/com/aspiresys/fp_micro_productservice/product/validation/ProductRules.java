@@ -0,0 +1,68 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.ProductUtils;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+
+import java.util.List;
+
+/**
+ * Validation rules of the product types.
+ * <p>
+ * {@link #product} applies to every product; the subtype rule sets add the checks
+ * of their own fields. To validate a new field or product type, declare a rule set
+ * here and add it to {@link #typeRules}.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public final class ProductRules {
+
+    /**
+     * Rules every product must satisfy to be created or updated through the API.
+     *
+     * @param categories registry the category is checked against
+     */
+    public static ProductRuleSet<Product> product(CategoryRegistry categories) {
+        return ProductRuleSet.forType(Product.class)
+                .rule("category", product -> ProductUtils.isValidCategory(product.getCategory(), categories),
+                        product -> "Invalid category: " + product.getCategory())
+                .rule("stock", product -> ProductUtils.isValidStock(product.getStock()),
+                        product -> "Invalid stock: " + product.getStock())
+                .rule("price", product -> ProductUtils.isValidPrice(product.getPrice()),
+                        product -> "Invalid price: " + product.getPrice())
+                .rule("name", product -> ProductUtils.isValidName(product.getName()),
+                        product -> "Invalid name: " + product.getName())
+                .rule("imageUrl", product -> ProductUtils.isValidImageUrl(product.getImageUrl()),
+                        product -> "Invalid image URL: " + product.getImageUrl());
+    }
+
+    public static final ProductRuleSet<Smartphone> SMARTPHONE = ProductRuleSet.forType(Smartphone.class)
+            .rule("storageCapacity", smartphone -> smartphone.getStorageCapacity() >= 0,
+                    smartphone -> "Invalid storage capacity: " + smartphone.getStorageCapacity())
+            .rule("ram", smartphone -> smartphone.getRam() >= 0,
+                    smartphone -> "Invalid RAM: " + smartphone.getRam())
+            .rule("screenSize", smartphone -> smartphone.getScreenSize() >= 0,
+                    smartphone -> "Invalid screen size: " + smartphone.getScreenSize());
+
+    /**
+     * Preconditions checked by the product service before saving (also for products
+     * that do not come through the API).
+     */
+    public static final ProductRuleSet<Product> SAVE_PRECONDITIONS = ProductRuleSet.forType(Product.class)
+            .rule("name", product -> product.getName() != null && !product.getName().trim().isEmpty(),
+                    product -> "Product name cannot be null or empty")
+            .rule("price", product -> product.getPrice() != null && product.getPrice() > 0,
+                    product -> "Product price must be greater than 0");
+
+    /**
+     * Rule sets applied by type, most general first.
+     */
+    static List<ProductRuleSet<? extends Product>> typeRules(CategoryRegistry categories) {
+        return List.of(product(categories), SMARTPHONE);
+    }
+
+    private ProductRules() {
+    }
+}
@@ -0,0 +1,78 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The rules of one product class, compiled into flat arrays.
+ * <p>
+ * Validators are built once per class by {@link ProductValidators}. Checking a product
+ * walks the arrays without allocating; messages and lists are only built for products
+ * that break a rule.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public final class ProductValidator {
+
+    private final String[] fields;
+    private final Predicate<Object>[] checks;
+    private final Function<Object, String>[] messages;
+
+    @SuppressWarnings("unchecked")
+    ProductValidator(List<? extends ProductRuleSet<?>> ruleSets) {
+        List<ProductRuleSet.Rule<?>> rules = new ArrayList<>();
+        for (ProductRuleSet<?> ruleSet : ruleSets) {
+            rules.addAll(ruleSet.getRules());
+        }
+        this.fields = new String[rules.size()];
+        this.checks = new Predicate[rules.size()];
+        this.messages = new Function[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            ProductRuleSet.Rule<?> rule = rules.get(i);
+            fields[i] = rule.field();
+            checks[i] = (Predicate<Object>) rule.check();
+            messages[i] = (Function<Object, String>) rule.message();
+        }
+    }
+
+    /**
+     * Returns the first rule the product breaks, or null if it is valid.
+     */
+    public Violation firstViolation(Product product) {
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(product)) {
+                return violation(i, product);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns every rule the product breaks, in declaration order (empty if it is valid).
+     */
+    public List<Violation> violations(Product product) {
+        List<Violation> violations = null;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(product)) {
+                if (violations == null) {
+                    violations = new ArrayList<>(2);
+                }
+                violations.add(violation(i, product));
+            }
+        }
+        return violations == null ? List.of() : violations;
+    }
+
+    public int ruleCount() {
+        return checks.length;
+    }
+
+    private Violation violation(int rule, Product product) {
+        return new Violation(fields[rule], messages[rule].apply(product));
+    }
+}
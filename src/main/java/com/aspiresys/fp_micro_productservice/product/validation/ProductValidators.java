@@ -0,0 +1,98 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point of product validation.
+ * <p>
+ * The validator of a product class is compiled from {@link ProductRules#typeRules}, with
+ * categories checked against the {@link CategoryRegistry} of this context, the first
+ * time a product of that class is validated and cached in a {@link ClassValue},
+ * so later lookups are a lock-free read. Validation either stops at the first violation
+ * ({@link #firstViolation}) or collects them all ({@link #violations}); batches
+ * ({@link #validateBatch}) collect the violations of every rejected product, for bulk imports.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+public class ProductValidators {
+
+    static final Violation NULL_PRODUCT = new Violation("product", "Product cannot be null");
+
+    private static final ProductValidator SAVE_PRECONDITIONS = new ProductValidator(List.of(ProductRules.SAVE_PRECONDITIONS));
+
+    private final ClassValue<ProductValidator> validators;
+
+    public ProductValidators(CategoryRegistry categoryRegistry) {
+        List<ProductRuleSet<? extends Product>> typeRules = ProductRules.typeRules(categoryRegistry);
+        this.validators = new ClassValue<>() {
+            @Override
+            protected ProductValidator computeValue(Class<?> type) {
+                return new ProductValidator(typeRules.stream()
+                        .filter(ruleSet -> ruleSet.getType().isAssignableFrom(type))
+                        .toList());
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled validator of a product class.
+     */
+    public ProductValidator forType(Class<? extends Product> type) {
+        return validators.get(type);
+    }
+
+    /**
+     * Returns the validator of the preconditions checked by the product service before saving.
+     */
+    public static ProductValidator savePreconditions() {
+        return SAVE_PRECONDITIONS;
+    }
+
+    /**
+     * Returns the first rule the product breaks, or null if it is valid.
+     */
+    public Violation firstViolation(Product product) {
+        return product == null ? NULL_PRODUCT : forType(product.getClass()).firstViolation(product);
+    }
+
+    /**
+     * Returns every rule the product breaks (empty if it is valid).
+     */
+    public List<Violation> violations(Product product) {
+        return product == null ? List.of(NULL_PRODUCT) : forType(product.getClass()).violations(product);
+    }
+
+    /**
+     * Validates a batch of products, collecting every violation of each rejected product.
+     */
+    public BatchValidationResult validateBatch(List<? extends Product> products) {
+        Map<Integer, List<Violation>> rejected = new LinkedHashMap<>();
+        Class<?> lastType = null;
+        ProductValidator validator = null;
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            if (product == null) {
+                rejected.put(i, List.of(NULL_PRODUCT));
+                continue;
+            }
+            // Batches are usually of one type; skip the lookup while the type does not change
+            if (product.getClass() != lastType) {
+                lastType = product.getClass();
+                validator = validators.get(lastType);
+            }
+            List<Violation> violations = validator.violations(product);
+            if (!violations.isEmpty()) {
+                rejected.put(i, violations);
+            }
+        }
+        return new BatchValidationResult(products.size(), products.size() - rejected.size(), rejected);
+    }
+}
@@ -0,0 +1,11 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+/**
+ * A product field that broke a validation rule.
+ *
+ * @param field   name of the product field
+ * @param message description of the violation, e.g. {@code Invalid price: -1.0}
+ * @author bruno.gil
+ */
+public record Violation(String field, String message) {
+}
@@ -0,0 +1,215 @@
+package com.aspiresys.fp_micro_productservice.security;
+
+import com.aspiresys.fp_micro_productservice.jfr.CacheLookupEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.java.Log;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Authenticates bearer tokens, caching verified tokens together with their converted authorities.
+ * <p>
+ * A token seen before is looked up by its SHA-256 hash and, until its {@code exp} claim,
+ * authenticated without verifying the signature or converting the claims again. Only
+ * tokens that verified successfully are cached. The cache holds at most
+ * {@code security.jwt.cache.max-size} tokens: when it is full, expired tokens are purged
+ * (at most once per second) and, if it is still full, new tokens are verified but not cached.
+ * </p>
+ * <p>
+ * Metrics: {@code security.jwt.verification} (time to verify a token not in the cache,
+ * tagged by outcome) and {@code security.jwt.cache} (lookups, tagged hit or miss); the
+ * hit rate is {@code hit / (hit + miss)}. Lookups also emit a {@link CacheLookupEvent}
+ * ({@code jwt} cache) to Flight Recorder recordings.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+@Log
+public class CachingJwtAuthenticationProvider implements AuthenticationProvider {
+
+    static final String CACHE_NAME = "jwt";
+    private static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    /**
+     * A verified token and its authentication details.
+     */
+    private record VerifiedToken(Jwt jwt, Collection<GrantedAuthority> authorities, String principalName,
+                                 Instant expiresAt) {
+    }
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private JwtAuthenticationConverter jwtAuthenticationConverter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+    private Clock clock = Clock.systemUTC();
+
+    private Counter hits;
+    private Counter misses;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    void init() {
+        hits = cacheCounter("hit");
+        misses = cacheCounter("miss");
+        verifiedTimer = verificationTimer("VERIFIED");
+        rejectedTimer = verificationTimer("REJECTED");
+        Gauge.builder("security.jwt.cache.size", cache, Map::size)
+                .description("Verified tokens in the JWT cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        BearerTokenAuthenticationToken bearer = (BearerTokenAuthenticationToken) authentication;
+        String key = hash(bearer.getToken());
+
+        VerifiedToken verified = cache.get(key);
+        if (verified != null && clock.instant().isBefore(verified.expiresAt())) {
+            hits.increment();
+            CacheLookupEvent.record(CACHE_NAME, key, true);
+        } else {
+            misses.increment();
+            CacheLookupEvent.record(CACHE_NAME, key, false);
+            if (verified != null) {
+                cache.remove(key, verified);
+            }
+            verified = verify(bearer.getToken());
+            if (verified.expiresAt() != null) {
+                put(key, verified);
+            }
+        }
+
+        JwtAuthenticationToken token = new JwtAuthenticationToken(verified.jwt(), verified.authorities(),
+                verified.principalName());
+        token.setDetails(bearer.getDetails());
+        return token;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return BearerTokenAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Removes every cached token.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Verifies the signature and claims of a token and converts its authorities.
+     */
+    private VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        try {
+            Jwt jwt = jwtDecoder.decode(token);
+            AbstractAuthenticationToken converted = jwtAuthenticationConverter.convert(jwt);
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return new VerifiedToken(jwt, List.copyOf(converted.getAuthorities()), converted.getName(),
+                    jwt.getExpiresAt());
+        } catch (BadJwtException e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new InvalidBearerTokenException(e.getMessage(), e);
+        } catch (JwtException e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
+    private void put(String key, VerifiedToken verified) {
+        if (cache.size() >= maxSize) {
+            purgeExpired();
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(key, verified);
+    }
+
+    private void purgeExpired() {
+        long now = clock.millis();
+        long last = lastPurgeMillis.get();
+        if (now - last < PURGE_INTERVAL_MILLIS || !lastPurgeMillis.compareAndSet(last, now)) {
+            return;
+        }
+        Instant instant = clock.instant();
+        cache.values().removeIf(verified -> !instant.isBefore(verified.expiresAt()));
+    }
+
+    private Counter cacheCounter(String result) {
+        return Counter.builder("security.jwt.cache")
+                .description("Lookups in the verified JWT cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer verificationTimer(String outcome) {
+        return Timer.builder("security.jwt.verification")
+                .description("Time to verify a bearer token that was not in the cache")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM provides SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.aspiresys.fp_micro_productservice.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the most recent traces of this service in memory so slow requests can be
+ * inspected without an external tracing backend.
+ * <p>
+ * Registered as a Brave {@link SpanHandler}, it receives every sampled span when it
+ * finishes. Spans are grouped by trace id; a trace is complete when its local root span
+ * (the HTTP server span for requests) finishes. Only the last
+ * {@code tracing.collector.capacity} complete traces are kept; traces whose root never
+ * finishes here are dropped once twice that many traces are buffered.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@Component
+public class InMemorySpanCollector extends SpanHandler {
+
+    private final int capacity;
+
+    private final Map<String, List<RecordedSpan>> spansByTrace = new ConcurrentHashMap<>();
+    private final Map<String, RecordedTrace> completed;
+
+    public InMemorySpanCollector(@Value("${tracing.collector.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+        this.completed = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RecordedTrace> eldest) {
+                if (size() > InMemorySpanCollector.this.capacity) {
+                    spansByTrace.remove(eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause != Cause.FINISHED) {
+            return true;
+        }
+        String traceId = context.traceIdString();
+        List<RecordedSpan> spans = spansByTrace.computeIfAbsent(traceId, id -> new CopyOnWriteArrayList<>());
+        spans.add(toRecordedSpan(context, span));
+
+        if (context.isLocalRoot()) {
+            RecordedTrace trace = new RecordedTrace(traceId, span.name(),
+                    Instant.EPOCH.plus(span.startTimestamp(), ChronoUnit.MICROS),
+                    span.finishTimestamp() - span.startTimestamp(), spans);
+            synchronized (completed) {
+                completed.put(traceId, trace);
+            }
+        } else if (spansByTrace.size() > capacity * 2) {
+            dropIncompleteTraces();
+        }
+        return true;
+    }
+
+    /**
+     * Complete traces that took at least the given time, slowest first.
+     *
+     * @param minDurationMs minimum duration of the root span
+     * @param limit         maximum number of traces returned
+     */
+    public List<RecordedTrace> slowest(double minDurationMs, int limit) {
+        long minMicros = (long) (minDurationMs * 1000);
+        List<RecordedTrace> traces;
+        synchronized (completed) {
+            traces = new ArrayList<>(completed.values());
+        }
+        return traces.stream()
+                .filter(trace -> trace.durationMicros() >= minMicros)
+                .sorted(Comparator.comparingLong(RecordedTrace::durationMicros).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * A complete trace by id, or null if it is not (or no longer) kept.
+     */
+    public RecordedTrace get(String traceId) {
+        synchronized (completed) {
+            return completed.get(traceId);
+        }
+    }
+
+    public void clear() {
+        synchronized (completed) {
+            completed.clear();
+        }
+        spansByTrace.clear();
+    }
+
+    private void dropIncompleteTraces() {
+        synchronized (completed) {
+            Iterator<String> traceIds = spansByTrace.keySet().iterator();
+            while (spansByTrace.size() > capacity && traceIds.hasNext()) {
+                if (!completed.containsKey(traceIds.next())) {
+                    traceIds.remove();
+                }
+            }
+        }
+    }
+
+    private static RecordedSpan toRecordedSpan(TraceContext context, MutableSpan span) {
+        Throwable error = span.error();
+        return new RecordedSpan(context.spanIdString(), context.parentIdString(), span.name(),
+                span.kind() != null ? span.kind().name() : null,
+                span.startTimestamp(), span.finishTimestamp() - span.startTimestamp(),
+                Map.copyOf(span.tags()),
+                error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : span.tag("error"));
+    }
+}
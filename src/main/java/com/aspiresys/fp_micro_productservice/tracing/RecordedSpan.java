@@ -0,0 +1,26 @@
+package com.aspiresys.fp_micro_productservice.tracing;
+
+import java.util.Map;
+
+/**
+ * A finished span kept by the {@link InMemorySpanCollector}.
+ *
+ * @param spanId         span id
+ * @param parentId       parent span id (null for the trace root)
+ * @param name           span name
+ * @param kind           SERVER, CLIENT, PRODUCER, CONSUMER, or null for local spans
+ * @param startEpochMicros start of the span, in microseconds since the epoch
+ * @param durationMicros duration of the span, in microseconds
+ * @param tags           span tags
+ * @param error          exception recorded on the span, or null
+ * @author bruno.gil
+ */
+public record RecordedSpan(String spanId,
+                           String parentId,
+                           String name,
+                           String kind,
+                           long startEpochMicros,
+                           long durationMicros,
+                           Map<String, String> tags,
+                           String error) {
+}
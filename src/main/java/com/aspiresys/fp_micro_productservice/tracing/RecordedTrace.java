@@ -0,0 +1,43 @@
+package com.aspiresys.fp_micro_productservice.tracing;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A trace kept by the {@link InMemorySpanCollector}: its local root span and every
+ * span of the trace finished in this service.
+ * <p>
+ * Spans that end after the root (e.g. a Kafka producer span acknowledged after the
+ * response was sent) are appended to {@code spans} when they finish.
+ * </p>
+ *
+ * @param traceId        trace id
+ * @param name           name of the local root span
+ * @param startedAt      start of the root span
+ * @param durationMicros duration of the root span, in microseconds
+ * @param spans          spans of the trace, in the order they finished
+ * @author bruno.gil
+ */
+public record RecordedTrace(String traceId,
+                            String name,
+                            Instant startedAt,
+                            long durationMicros,
+                            List<RecordedSpan> spans) {
+
+    /**
+     * Summary without the spans, for listings.
+     */
+    public TraceSummary toSummary() {
+        return new TraceSummary(traceId, name, startedAt, durationMicros / 1000.0, spans.size());
+    }
+
+    /**
+     * @param traceId    trace id
+     * @param name       name of the local root span
+     * @param startedAt  start of the root span
+     * @param durationMs duration of the root span, in milliseconds
+     * @param spanCount  spans recorded for the trace
+     */
+    public record TraceSummary(String traceId, String name, Instant startedAt, double durationMs, int spanCount) {
+    }
+}
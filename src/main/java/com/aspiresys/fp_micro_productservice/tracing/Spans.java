@@ -0,0 +1,67 @@
+package com.aspiresys.fp_micro_productservice.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Supplier;
+
+/**
+ * Helper for wrapping a call in a child span of the current trace.
+ * <p>
+ * Calls made outside a trace (startup runners, scheduled jobs) are not traced, so the
+ * collector only holds request, listener and explicitly started traces.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+public final class Spans {
+
+    /**
+     * A call that may throw anything, such as {@code ProceedingJoinPoint::proceed}.
+     */
+    @FunctionalInterface
+    public interface TracedCall<T> {
+        T call() throws Throwable;
+    }
+
+    private Spans() {
+    }
+
+    /**
+     * Runs the call in a new span that is a child of the current one, recording any exception on it.
+     *
+     * @param tracer the tracer ({@link Tracer#NOOP} when tracing is disabled)
+     * @param name   the span name
+     * @param call   the call to run
+     * @return the result of the call
+     */
+    public static <T> T inChildSpan(Tracer tracer, String name, TracedCall<T> call) throws Throwable {
+        if (tracer.currentSpan() == null) {
+            return call.call();
+        }
+        Span span = tracer.nextSpan().name(name).start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return call.call();
+        } catch (Throwable throwable) {
+            span.error(throwable);
+            throw throwable;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Same as {@link #inChildSpan} for calls that throw no checked exceptions.
+     */
+    public static <T> T supplyInChildSpan(Tracer tracer, String name, Supplier<T> supplier) {
+        try {
+            return inChildSpan(tracer, name, supplier::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // A Supplier cannot throw checked exceptions
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
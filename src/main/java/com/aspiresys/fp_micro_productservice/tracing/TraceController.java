@@ -0,0 +1,65 @@
+package com.aspiresys.fp_micro_productservice.tracing;
+
+import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for querying the traces kept by the {@link InMemorySpanCollector}.
+ *
+ * This controller is restricted to ADMIN users only. Example:
+ * {@code GET /products/admin/traces?minDurationMs=200&limit=10}, then
+ * {@code GET /products/admin/traces/{traceId}} for the spans of one trace.
+ *
+ * @author bruno.gil
+ */
+@RestController
+@RequestMapping("/products/admin/traces")
+public class TraceController {
+
+    private static final int MAX_LIMIT = 500;
+
+    @Autowired
+    private InMemorySpanCollector spanCollector;
+
+    /**
+     * Lists the recent traces that took at least {@code minDurationMs}, slowest first.
+     *
+     * @return ResponseEntity with the trace summaries
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<List<RecordedTrace.TraceSummary>>> getSlowTraces(
+            @RequestParam(defaultValue = "0") double minDurationMs,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<RecordedTrace.TraceSummary> traces = spanCollector.slowest(minDurationMs, Math.max(1, Math.min(limit, MAX_LIMIT)))
+                .stream()
+                .map(RecordedTrace::toSummary)
+                .toList();
+        return ResponseEntity.ok(new AppResponse<>("Traces retrieved successfully", traces));
+    }
+
+    /**
+     * Gets one trace with all its spans.
+     *
+     * @param traceId the trace id (also found in the log lines of the request)
+     * @return ResponseEntity with the trace, or 404 if it is not kept
+     */
+    @GetMapping("/{traceId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AppResponse<RecordedTrace>> getTrace(@PathVariable String traceId) {
+        RecordedTrace trace = spanCollector.get(traceId);
+        if (trace == null) {
+            return ResponseEntity.status(404).body(new AppResponse<>("Trace not found", null));
+        }
+        return ResponseEntity.ok(new AppResponse<>("Trace retrieved successfully", trace));
+    }
+}
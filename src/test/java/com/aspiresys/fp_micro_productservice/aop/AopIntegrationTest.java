@@ -11,6 +11,11 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.TestPropertySource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.aspiresys.fp_micro_productservice.config.AopRuntimeConfig;
+import com.aspiresys.fp_micro_productservice.kafka.startup.ProductKafkaInitializer;
 import com.aspiresys.fp_micro_productservice.product.Product;
 import com.aspiresys.fp_micro_productservice.product.ProductRepository;
 import com.aspiresys.fp_micro_productservice.product.ProductService;
@@ -45,9 +50,21 @@ public class AopIntegrationTest {
     @MockBean
     private ProductRepository productRepository;
 
+    // The initial catalog publication reads the mocked repository on another thread,
+    // which can interleave with the stubbing in a test
+    @SuppressWarnings("removal")
+    @MockBean
+    private ProductKafkaInitializer productKafkaInitializer;
+
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AopRuntimeConfig aopRuntimeConfig;
+
     @Test
     void testAopAnnotationsOnSaveProduct() {
         // Arrange
@@ -92,6 +109,50 @@ public class AopIntegrationTest {
         verify(productRepository, times(1)).findAll();
     }
 
+    @Test
+    void testExecutionTimeIsRecordedInOperationTimer() {
+        // Arrange
+        when(productRepository.findAll()).thenReturn(Arrays.asList(createMockSmartphone(1L, "Smartphone 1", 500.0)));
+        Timer timer = meterRegistry.find("product.operation.duration")
+                .tags("operation", "Get All Products", "outcome", "SUCCESS")
+                .timer();
+        long before = timer == null ? 0 : timer.count();
+
+        // Act
+        productService.getAllProducts();
+
+        // Assert - the @ExecutionTime aspect should have recorded one more sample
+        timer = meterRegistry.find("product.operation.duration")
+                .tags("operation", "Get All Products", "outcome", "SUCCESS")
+                .timer();
+        assertNotNull(timer, "Operation timer should be registered");
+        assertEquals(before + 1, timer.count(), "One execution should have been recorded");
+        assertEquals("ProductServiceImpl", timer.getId().getTag("class"));
+    }
+
+    @Test
+    void testPerformanceAspectCanBeDisabledAtRuntime() {
+        // Arrange
+        when(productRepository.findAll()).thenReturn(Arrays.asList(createMockSmartphone(1L, "Smartphone 1", 500.0)));
+        productService.getAllProducts();
+        Timer timer = meterRegistry.find("product.operation.duration")
+                .tags("operation", "Get All Products", "outcome", "SUCCESS")
+                .timer();
+        long before = timer.count();
+        AopRuntimeConfig.Snapshot original = aopRuntimeConfig.get();
+
+        try {
+            // Act - switch the performance aspect off without restarting
+            aopRuntimeConfig.set(original.withPerformance(new AopRuntimeConfig.AspectSettings(false, 1.0)));
+            productService.getAllProducts();
+
+            // Assert - no sample should have been recorded
+            assertEquals(before, timer.count(), "Disabled aspect should not record executions");
+        } finally {
+            aopRuntimeConfig.set(original);
+        }
+    }
+
     @Test
     void testAopAnnotationsOnGetProductById() {
         // Arrange
@@ -0,0 +1,85 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link AuditRingBuffer} class.
+ *
+ * @author bruno.gil
+ */
+@DisplayName("AuditRingBuffer Tests")
+public class AuditRingBufferTest {
+
+    @Test
+    @DisplayName("a full buffer rejects new elements until the consumer drains it")
+    void testFullBufferRejectsOffers() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isTrue();
+
+        drained.clear();
+        buffer.drainTo(drained, 10);
+        assertThat(drained).containsExactly(2, 3, 4, 5);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("concurrent producers deliver every element exactly once and in per-producer order")
+    void testConcurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        AuditRingBuffer<long[]> buffer = new AuditRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            executor.execute(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!buffer.offer(element)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        long[] nextExpected = new long[producers];
+        List<long[]> batch = new ArrayList<>();
+        int received = 0;
+        while (received < producers * perProducer) {
+            buffer.drainTo(batch, 256);
+            for (long[] element : batch) {
+                assertThat(element[1]).isEqualTo(nextExpected[(int) element[0]]++);
+            }
+            received += batch.size();
+            batch.clear();
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(nextExpected).containsOnly(perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+}
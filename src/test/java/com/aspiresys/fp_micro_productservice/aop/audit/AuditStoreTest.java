@@ -0,0 +1,93 @@
+package com.aspiresys.fp_micro_productservice.aop.audit;
+
+import com.aspiresys.fp_micro_productservice.config.AopProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the persistent audit store: batched inserts, queries and retention.
+ *
+ * @author bruno.gil
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JdbcAuditSink.class, AuditQueryService.class})
+@DisplayName("Audit store Tests")
+public class AuditStoreTest {
+
+    @Autowired
+    private JdbcAuditSink jdbcAuditSink;
+
+    @Autowired
+    private AuditQueryService auditQueryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("batched events can be queried by product, user and time range")
+    void testEventsAreQueryable() {
+        Instant now = Instant.now();
+        jdbcAuditSink.write(List.of(
+                event(now.minus(10, ChronoUnit.DAYS), "admin@test.com", "SAVE_PRODUCT", 42L),
+                event(now.minus(2, ChronoUnit.DAYS), "admin@test.com", "DELETE_PRODUCT", 42L),
+                event(now.minus(1, ChronoUnit.DAYS), "other@test.com", "SAVE_PRODUCT", 7L)));
+
+        List<AuditRecord> lastWeek = auditQueryService.search(null, 42L, null,
+                now.minus(7, ChronoUnit.DAYS), now, null);
+        assertThat(lastWeek).extracting(AuditRecord::getOperation).containsExactly("DELETE_PRODUCT");
+
+        List<AuditRecord> byUser = auditQueryService.search("admin@test.com", null, null, null, null, null);
+        assertThat(byUser).extracting(AuditRecord::getOperation).containsExactly("DELETE_PRODUCT", "SAVE_PRODUCT");
+
+        List<AuditRecord> saves = auditQueryService.search(null, null, "SAVE_PRODUCT", null, null, 1);
+        assertThat(saves).hasSize(1);
+        assertThat(saves.get(0).getEntityId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("retention removes day buckets older than the retention period")
+    void testRetentionPurgesExpiredDays() {
+        Instant now = Instant.now();
+        jdbcAuditSink.write(List.of(
+                event(now.minus(40, ChronoUnit.DAYS), "admin@test.com", "SAVE_PRODUCT", 1L),
+                event(now.minus(31, ChronoUnit.DAYS), "admin@test.com", "SAVE_PRODUCT", 2L),
+                event(now, "admin@test.com", "SAVE_PRODUCT", 3L)));
+
+        AopProperties aopProperties = new AopProperties();
+        aopProperties.getAudit().getStore().setRetentionDays(30);
+        AuditRetentionJob retentionJob = new AuditRetentionJob();
+        ReflectionTestUtils.setField(retentionJob, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(retentionJob, "aopProperties", aopProperties);
+
+        assertThat(retentionJob.purgeExpired()).isEqualTo(2);
+        assertThat(auditQueryService.search(null, null, null, null, null, null))
+                .extracting(AuditRecord::getEntityId).containsExactly(3L);
+    }
+
+    private AuditEvent event(Instant time, String user, String operation, Long productId) {
+        return AuditEvent.builder()
+                .timestampMillis(time.toEpochMilli())
+                .source(AuditEvent.SOURCE_AUDIT)
+                .phase(AuditEvent.Phase.SUCCESS)
+                .user(user)
+                .operation(operation)
+                .entityType("Product")
+                .entityId(productId)
+                .className("ProductServiceImpl")
+                .methodName("saveProduct")
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.aspiresys.fp_micro_productservice.aop.performance;
+
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadata;
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import com.aspiresys.fp_micro_productservice.config.AopProperties;
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for the rolling-window performance dashboard.
+ *
+ * @author bruno.gil
+ */
+@SpringJUnitConfig({PerformanceDashboard.class, AopProperties.class, SchedulingConfig.class})
+@DisplayName("PerformanceDashboard Tests")
+public class PerformanceDashboardTest {
+
+    @Autowired
+    private PerformanceDashboard performanceDashboard;
+
+    private AdviceMetadata metadata;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        metadata = new AdviceMetadataCache().get(String.class.getMethod("trim"), String.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        performanceDashboard.reset();
+    }
+
+    @Test
+    @DisplayName("completed slices report rate, error rate, percentiles and the slowest invocations")
+    void testSnapshotSummarizesWindow() {
+        AtomicInteger summarized = new AtomicInteger();
+        for (int ms = 100; ms >= 1; ms--) {
+            int id = ms;
+            performanceDashboard.record(metadata, TimeUnit.MILLISECONDS.toNanos(ms), ms % 10 != 0, () -> {
+                summarized.incrementAndGet();
+                return new Object[]{(long) id, new ArrayList<>(List.of("a", "b"))};
+            });
+        }
+        assertThat(performanceDashboard.snapshot().get(0).calls()).isZero();
+
+        performanceDashboard.rotate();
+        OperationPerformance performance = performanceDashboard.snapshot().get(0);
+
+        assertThat(performance.operation()).isEqualTo("trim");
+        assertThat(performance.calls()).isEqualTo(100);
+        assertThat(performance.errors()).isEqualTo(10);
+        assertThat(performance.errorRate()).isEqualTo(0.1);
+        assertThat(performance.p50Ms()).isCloseTo(50.0, within(1.0));
+        assertThat(performance.p99Ms()).isCloseTo(99.0, within(1.0));
+        assertThat(performance.maxMs()).isCloseTo(100.0, within(1.0));
+        assertThat(performance.slowest()).extracting(SlowInvocation::durationMs)
+                .containsExactly(100.0, 99.0, 98.0, 97.0, 96.0);
+        assertThat(performance.slowest().get(0).success()).isFalse();
+        assertThat(performance.slowest().get(0).arguments()).isEqualTo("100, ArrayList[2 items]");
+        // Only calls that made it into the slowest invocations had their arguments summarized
+        assertThat(summarized).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("calls leave the window once all its slices have advanced")
+    void testCallsExpireWithWindow() {
+        performanceDashboard.record(metadata, TimeUnit.MILLISECONDS.toNanos(5), true, () -> new Object[0]);
+        performanceDashboard.rotate();
+        assertThat(performanceDashboard.snapshot().get(0).calls()).isEqualTo(1);
+
+        for (int i = 0; i < new AopProperties.Dashboard().getWindowSlices(); i++) {
+            performanceDashboard.rotate();
+        }
+        assertThat(performanceDashboard.snapshot().get(0).calls()).isZero();
+        assertThat(performanceDashboard.snapshot().get(0).p99Ms()).isZero();
+    }
+}
@@ -0,0 +1,88 @@
+package com.aspiresys.fp_micro_productservice.common.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the bulkhead executor and the partitioned connection pools.
+ *
+ * @author bruno.gil
+ */
+@DisplayName("Bulkhead Tests")
+public class BulkheadTest {
+
+    @Test
+    @DisplayName("a full bulkhead rejects new tasks, and tasks run in the bulkhead's partition")
+    void testBulkheadRejectsWhenFull() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        try (Bulkhead bulkhead = new Bulkhead("test", DataSourcePartition.ADMIN, 1, 1, meterRegistry)) {
+            CompletableFuture<String> running = bulkhead.submit(() -> {
+                await(release);
+                return DataSourcePartition.current();
+            });
+            CompletableFuture<String> queued = bulkhead.submit(DataSourcePartition::current);
+
+            assertThatThrownBy(() -> bulkhead.submit(() -> "rejected")).isInstanceOf(BulkheadFullException.class);
+            assertThat(bulkhead.getQueueDepth()).isEqualTo(1);
+            assertThat(meterRegistry.get("bulkhead.rejected").tag("bulkhead", "test").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(DataSourcePartition.ADMIN);
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(DataSourcePartition.ADMIN);
+        }
+        assertThat(DataSourcePartition.current()).isEqualTo(DataSourcePartition.DEFAULT);
+    }
+
+    @Test
+    @DisplayName("connections come from the pool of the current partition")
+    void testConnectionsAreRoutedByPartition() throws Exception {
+        HikariDataSource defaultPool = pool("default");
+        HikariDataSource adminPool = pool("admin");
+        try (PartitionedDataSource dataSource = new PartitionedDataSource(Map.of(
+                DataSourcePartition.DEFAULT, defaultPool,
+                DataSourcePartition.ADMIN, adminPool))) {
+            try (Connection connection = dataSource.getConnection()) {
+                assertThat(defaultPool.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+            }
+
+            DataSourcePartition.wrap(DataSourcePartition.ADMIN, () -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    assertThat(adminPool.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+                    assertThat(defaultPool.getHikariPoolMXBean().getActiveConnections()).isZero();
+                }
+                return null;
+            }).call();
+        }
+        assertThat(adminPool.isClosed()).isTrue();
+        assertThat(defaultPool.isClosed()).isTrue();
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:bulkhead_" + name);
+        pool.setPoolName("bulkhead-test-" + name);
+        pool.setMaximumPoolSize(1);
+        return pool;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.aspiresys.fp_micro_productservice.common.overload;
+
+import com.aspiresys.fp_micro_productservice.common.readiness.StartupReadinessTracker;
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the adaptive concurrency limiter and the overload status.
+ *
+ * @author bruno.gil
+ */
+@SpringJUnitConfig(AdaptiveConcurrencyLimiterTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "overload.initial-limit=10",
+        "overload.min-limit=2",
+        "overload.max-limit=50",
+        "overload.out-of-service-after-seconds=5",
+        "overload.recover-after-seconds=10",
+        // The tests close the windows themselves; the scheduled tick does not fire during a test
+        "overload.window-ms=60000"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final double BASELINE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Configuration
+    @Import({AdaptiveConcurrencyLimiter.class, StartupReadinessTracker.class, OverloadHealthIndicator.class,
+            SchedulingConfig.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Autowired
+    private StartupReadinessTracker readinessTracker;
+
+    @Autowired
+    private OverloadHealthIndicator healthIndicator;
+
+    @Test
+    @DisplayName("the limit grows while latency holds, shrinks when it degrades, and requests above it are shed")
+    void testLimitFollowsLatency() {
+        for (int i = 0; i < 5; i++) {
+            limiter.onWindow(BASELINE_NANOS, (int) limiter.getLimit(), 0, 0, 0);
+        }
+        double grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(10);
+
+        // An idle instance does not raise its limit
+        limiter.onWindow(BASELINE_NANOS, 1, 0, 0, 0);
+        assertThat(limiter.getLimit()).isEqualTo(grown);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.onWindow(BASELINE_NANOS * 10, (int) limiter.getLimit(), 0, 0, 0);
+        }
+        double shrunk = limiter.getLimit();
+        assertThat(shrunk).isLessThan(grown);
+
+        int admitted = 0;
+        while (limiter.tryAcquire() != AdaptiveConcurrencyLimiter.REJECTED) {
+            admitted++;
+        }
+        assertThat(admitted).isEqualTo((int) shrunk);
+        assertThat(limiter.getInFlight()).isEqualTo(admitted);
+    }
+
+    @Test
+    @DisplayName("sustained shedding reports OUT_OF_SERVICE until the load has been calm long enough")
+    void testSustainedOverloadTakesInstanceOutOfService() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        for (int i = 0; i <= 5; i++) {
+            assertThat(readinessTracker.isOutOfService()).isFalse();
+            limiter.onWindow(BASELINE_NANOS, 10, 0, 3, i * second);
+        }
+        assertThat(readinessTracker.isOutOfService()).isTrue();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        limiter.onWindow(BASELINE_NANOS, 10, 0, 0, 6 * second);
+        limiter.onWindow(BASELINE_NANOS, 10, 0, 0, 10 * second);
+        assertThat(limiter.isOutOfService()).isTrue();
+        limiter.onWindow(BASELINE_NANOS, 10, 0, 0, 16 * second);
+        assertThat(limiter.isOutOfService()).isFalse();
+        assertThat(readinessTracker.isOutOfService()).isFalse();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("an instance taken out of service recovers once traffic stops, without further requests")
+    void testOutOfServiceInstanceRecoversWithoutTraffic() {
+        long window = TimeUnit.SECONDS.toNanos(60);
+        long start = System.nanoTime();
+        List<Long> admitted = new ArrayList<>();
+        long acquired;
+        while ((acquired = limiter.tryAcquire()) != AdaptiveConcurrencyLimiter.REJECTED) {
+            admitted.add(acquired);
+        }
+        limiter.tick(start + window);
+        assertThat(readinessTracker.isOutOfService()).isFalse();
+
+        assertThat(limiter.tryAcquire()).isEqualTo(AdaptiveConcurrencyLimiter.REJECTED);
+        limiter.tick(start + 2 * window);
+        assertThat(readinessTracker.isOutOfService()).isTrue();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        // The gateway routes traffic elsewhere: the admitted requests finish and none arrive
+        admitted.forEach(limiter::release);
+        limiter.tick(start + 3 * window);
+        assertThat(limiter.isOutOfService()).isTrue();
+        limiter.tick(start + 4 * window);
+        assertThat(limiter.isOutOfService()).isFalse();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.aspiresys.fp_micro_productservice.common.ratelimit;
+
+import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that anonymous clients behind the gateway are rate limited by their forwarded
+ * address rather than sharing the bucket of the gateway's own address.
+ *
+ * @author bruno.gil
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"ratelimit.list.capacity=1", "ratelimit.list.per-minute=1"})
+@DisplayName("Forwarded Client Rate Limit Tests")
+public class ForwardedClientRateLimitTest {
+
+    @SuppressWarnings("removal")
+    @MockBean
+    private ProductProducerService productProducerService;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("two clients forwarded by the same proxy get separate buckets")
+    void testForwardedClientsAreLimitedSeparately() throws Exception {
+        assertThat(listProducts("203.0.113.10")).isEqualTo(200);
+        assertThat(listProducts("203.0.113.10")).isEqualTo(429);
+
+        assertThat(listProducts("203.0.113.20")).isEqualTo(200);
+    }
+
+    private int listProducts(String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/products"))
+                .header("X-Forwarded-For", forwardedFor)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,134 @@
+package com.aspiresys.fp_micro_productservice.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the per-client rate limiter and its servlet filter.
+ *
+ * @author bruno.gil
+ */
+@SpringJUnitConfig(RateLimitFilterTest.TestConfig.class)
+@TestPropertySource(properties = {"ratelimit.list.capacity=2", "ratelimit.list.per-minute=1"})
+@DisplayName("RateLimitFilter Tests")
+public class RateLimitFilterTest {
+
+    @Configuration
+    @Import(ClientRateLimiter.class)
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ClientRateLimiter rateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("requests are classified by route and a bucket admits its burst, then refills over time")
+    void testRoutesAndTokenBucket() {
+        assertThat(RateLimitRoute.classify("GET", "/products")).isEqualTo(RateLimitRoute.LIST);
+        assertThat(RateLimitRoute.classify("GET", "/products/clothes")).isEqualTo(RateLimitRoute.LIST);
+        assertThat(RateLimitRoute.classify("GET", "/products/clothes/7")).isEqualTo(RateLimitRoute.SINGLE);
+        assertThat(RateLimitRoute.classify("PUT", "/products/clothes/7")).isEqualTo(RateLimitRoute.WRITE);
+        assertThat(RateLimitRoute.classify("GET", "/products/admin/audit")).isEqualTo(RateLimitRoute.ADMIN);
+        assertThat(RateLimitRoute.classify("POST", "/products/kafka/sync/force-full-sync")).isEqualTo(RateLimitRoute.ADMIN_SYNC);
+        assertThat(RateLimitRoute.classify("GET", "/actuator/health")).isNull();
+        assertThat(RateLimitRoute.classify("GET", "/productsX")).isNull();
+
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(3, 60, now);
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bucket.isFull(now)).isFalse();
+
+        now += TimeUnit.SECONDS.toNanos(1);
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isPositive();
+        assertThat(bucket.isFull(now + TimeUnit.SECONDS.toNanos(3))).isTrue();
+    }
+
+    @Test
+    @DisplayName("a client over its budget gets 429 with Retry-After while other clients are admitted")
+    void testFilterRejectsClientOverBudget() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+
+        assertThat(filter(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(filter(filter, "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = filter(filter, "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isBetween(1L, 60L);
+        assertThat(rejected.getContentAsString()).contains("Too many requests");
+
+        assertThat(filter(filter, "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("http.ratelimit.rejected").tag("route", "LIST").counter().count()).isEqualTo(1);
+        assertThat(rateLimiter.trackedClients()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("new clients of a full stripe evict the oldest client instead of sharing one bucket")
+    void testFullStripeEvictsOldestClient() {
+        ClientRateLimiter limiter = new ClientRateLimiter();
+        ReflectionTestUtils.setField(limiter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(limiter, "environment", new MockEnvironment()
+                .withProperty("ratelimit.list.capacity", "1")
+                .withProperty("ratelimit.list.per-minute", "1"));
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "maxClients", ClientRateLimiter.STRIPES);
+        limiter.init();
+
+        // Three clients of the same stripe, which holds a single client
+        List<String> clients = new ArrayList<>();
+        for (int i = 0; clients.size() < 3; i++) {
+            String client = "ip:10.1.0." + i;
+            if (clients.isEmpty() || stripe(client) == stripe(clients.get(0))) {
+                clients.add(client);
+            }
+        }
+        for (String client : clients) {
+            assertThat(limiter.tryAcquire(client, RateLimitRoute.LIST)).isZero();
+            assertThat(limiter.tryAcquire(client, RateLimitRoute.LIST)).isPositive();
+        }
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    private static int stripe(String client) {
+        return (client.hashCode() & 0x7fffffff) % ClientRateLimiter.STRIPES;
+    }
+
+    private static MockHttpServletResponse filter(RateLimitFilter filter, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        request.setServletPath("/products");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
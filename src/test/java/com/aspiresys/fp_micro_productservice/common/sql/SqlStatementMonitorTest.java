@@ -0,0 +1,158 @@
+package com.aspiresys.fp_micro_productservice.common.sql;
+
+import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.ClothesRepository;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.ClothesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Locks in the number of SQL statements issued by the product endpoints, and checks the
+ * statement budget and N+1 flags of the {@link SqlStatementMonitor}.
+ * <p>
+ * If a change makes one of these counts grow, look for a lazy association or a
+ * find-then-save round trip before updating the expected value.
+ * </p>
+ *
+ * @author bruno.gil
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "sql.monitor.statement-budget=2",
+    "sql.monitor.repeated-statement-threshold=3"
+})
+@DisplayName("SqlStatementMonitor Tests")
+public class SqlStatementMonitorTest {
+
+    @SuppressWarnings("removal")
+    @MockBean
+    private ProductProducerService productProducerService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    @Autowired
+    private ClothesRepository clothesRepository;
+
+    @Autowired
+    private ClothesService clothesService;
+
+    private final List<Long> clothesIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        clothesRepository.deleteAll();
+        clothesIds.clear();
+        for (int i = 0; i < 3; i++) {
+            clothesIds.add(clothesRepository.save(clothes("SQL Test Shirt " + i, 20.0 + i)).getId());
+        }
+        sqlStatementMonitor.reset();
+    }
+
+    @Test
+    @DisplayName("read endpoints issue a single statement per request")
+    void testReadEndpointsIssueOneStatement() throws Exception {
+        mockMvc.perform(get("/products/clothes/" + clothesIds.get(0))).andExpect(status().isOk());
+        mockMvc.perform(get("/products/clothes")).andExpect(status().isOk());
+        mockMvc.perform(get("/products")).andExpect(status().isOk());
+
+        assertThat(sqlStatementMonitor.snapshot("ClothesController.getClothesById").maxStatements()).isEqualTo(1);
+        assertThat(sqlStatementMonitor.snapshot("ClothesController.getAllClothes").maxStatements()).isEqualTo(1);
+        assertThat(sqlStatementMonitor.snapshot("ProductController.getAllProducts").maxStatements()).isEqualTo(1);
+        assertThat(sqlStatementMonitor.snapshot("ProductController.getAllProducts").overBudget()).isZero();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("update loads the entity once and updates both tables of the hierarchy")
+    void testUpdateStatementsAndBudget() throws Exception {
+        mockMvc.perform(put("/products/clothes/" + clothesIds.get(0))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"SQL Test Shirt 0","price":25.0,"category":"clothes",
+                                 "imageUrl":"https://example.com/sql-test-0.jpg","stock":5,
+                                 "brand":"Acme","size":"M","color":"Red","fabricType":"Cotton"}
+                                """))
+                .andExpect(status().isOk());
+
+        SqlHandlerStats update = sqlStatementMonitor.snapshot("ClothesController.updateClothes");
+        // select by id, update product, update clothes
+        assertThat(update.maxStatements()).isEqualTo(3);
+        assertThat(update.overBudget()).isEqualTo(1);
+
+        mockMvc.perform(get("/products/admin/sql-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].handler").value("ClothesController.updateClothes"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("an async request does not leave its context on the request thread and is recorded once")
+    void testAsyncRequestIsRecordedOnce() throws Exception {
+        MvcResult result = mockMvc.perform(get("/products/kafka/sync/status"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // MockMvc runs the request on this thread, as a servlet container thread would
+        assertThat(SqlStatementContext.end()).isNull();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertThat(SqlStatementContext.end()).isNull();
+        assertThat(sqlStatementMonitor.snapshot("KafkaSyncController.getSyncStatus").requests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("repeating one statement per row is flagged as a possible N+1")
+    void testRepeatedStatementsAreFlagged() {
+        SqlStatementContext.begin("test.loadOneByOne");
+        clothesIds.forEach(clothesService::getClothesById);
+        SqlStatementContext context = SqlStatementContext.end();
+        sqlStatementMonitor.record(context);
+
+        assertThat(context.statements()).isEqualTo(3);
+        assertThat(context.maxRepeated()).isEqualTo(3);
+        assertThat(sqlStatementMonitor.snapshot("test.loadOneByOne").repeatedStatements()).isEqualTo(1);
+    }
+
+    private static Clothes clothes(String name, double price) {
+        Clothes clothes = new Clothes();
+        clothes.setName(name);
+        clothes.setPrice(price);
+        clothes.setCategory("clothes");
+        clothes.setImageUrl("https://example.com/sql-test-" + name.charAt(name.length() - 1) + ".jpg");
+        clothes.setStock(5);
+        clothes.setBrand("Acme");
+        clothes.setSize("M");
+        clothes.setColor("Blue");
+        clothes.setFabricType("Cotton");
+        return clothes;
+    }
+}
@@ -0,0 +1,58 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks which actuator endpoints are public: health and info are, while metrics and
+ * prometheus (per-method timers, pools, rate-limit and cache counts) require ADMIN.
+ *
+ * @author bruno.gil
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Actuator Security Tests")
+public class ActuatorSecurityTest {
+
+    @SuppressWarnings("removal")
+    @MockBean
+    private ProductProducerService productProducerService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("info is public, metrics and prometheus are not")
+    void testAnonymousAccess() throws Exception {
+        mockMvc.perform(get("/actuator/info")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/http.server.requests")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("admins can read the metrics")
+    void testAdminAccess() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("other authenticated users cannot read the metrics")
+    void testUserAccess() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+}
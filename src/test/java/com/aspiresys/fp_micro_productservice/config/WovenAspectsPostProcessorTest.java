@@ -0,0 +1,87 @@
+package com.aspiresys.fp_micro_productservice.config;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the wiring of compile-time woven aspects without the {@code aspectj} profile, using
+ * classes shaped like ajc output: an aspect with a static {@code aspectOf()} and an advised
+ * class with a woven join point field.
+ *
+ * @author bruno.gil
+ */
+@DisplayName("WovenAspectsPostProcessor Tests")
+public class WovenAspectsPostProcessorTest {
+
+    @Test
+    @DisplayName("a bean created by a @Bean method with a woven return type depends on the woven aspects")
+    void testFactoryMethodBeanDependsOnWovenAspects() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(AdvisedBeanConfig.class)) {
+            assertThat(context.getBeanFactory().getBeanDefinition("advisedService").getDependsOn())
+                    .contains(WovenAspect.class.getName());
+            assertThat(context.getBean(WovenAspect.class)).isSameAs(WovenAspect.aspectOf());
+        }
+    }
+
+    @Test
+    @DisplayName("a woven aspect created by a @Bean method fails the startup")
+    void testFactoryMethodWovenAspectFails() {
+        assertThatThrownBy(() -> new AnnotationConfigApplicationContext(AspectBeanConfig.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("wovenAspect")
+                .hasMessageContaining("aspectOf()");
+    }
+
+    @Configuration
+    @Import(WovenAspect.class)
+    static class AdvisedBeanConfig {
+
+        @Bean
+        static WovenAspectsPostProcessor wovenAspectsPostProcessor() {
+            return new WovenAspectsPostProcessor();
+        }
+
+        @Bean
+        AdvisedService advisedService() {
+            return new AdvisedService();
+        }
+    }
+
+    @Configuration
+    static class AspectBeanConfig {
+
+        @Bean
+        static WovenAspectsPostProcessor wovenAspectsPostProcessor() {
+            return new WovenAspectsPostProcessor();
+        }
+
+        @Bean
+        WovenAspect wovenAspect() {
+            return WovenAspect.aspectOf();
+        }
+    }
+
+    @Aspect
+    public static class WovenAspect {
+
+        private static final WovenAspect INSTANCE = new WovenAspect();
+
+        public static WovenAspect aspectOf() {
+            return INSTANCE;
+        }
+    }
+
+    static class AdvisedService {
+
+        @SuppressWarnings("unused")
+        private static final Object ajc$tjp_0 = null;
+    }
+}
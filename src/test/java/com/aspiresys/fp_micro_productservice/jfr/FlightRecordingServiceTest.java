@@ -0,0 +1,74 @@
+package com.aspiresys.fp_micro_productservice.jfr;
+
+import com.aspiresys.fp_micro_productservice.aop.metadata.AdviceMetadataCache;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the on-demand flight recordings and the product JFR events.
+ *
+ * @author bruno.gil
+ */
+@SpringJUnitConfig(FlightRecordingService.class)
+@TestPropertySource(properties = "jfr.recording.directory=target/jfr-test")
+@DisplayName("FlightRecordingService Tests")
+public class FlightRecordingServiceTest {
+
+    @Autowired
+    private FlightRecordingService flightRecordingService;
+
+    @AfterEach
+    void tearDown() {
+        flightRecordingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("a recording captures the product events and is written on dump and stop")
+    void testRecordingCapturesProductEvents() throws Exception {
+        assertThat(CacheLookupEvent.isActive()).isFalse();
+        assertThat(flightRecordingService.start("default")).isTrue();
+        assertThat(CacheLookupEvent.isActive()).isTrue();
+        assertThat(flightRecordingService.start("default")).isFalse();
+        assertThat(flightRecordingService.status().state()).isEqualTo("RUNNING");
+
+        AdviceMetadataCache cache = new AdviceMetadataCache();
+        cache.get(String.class.getMethod("trim"), String.class);
+        cache.get(String.class.getMethod("trim"), String.class);
+
+        String dumped = flightRecordingService.dump();
+        List<RecordedEvent> lookups = RecordingFile.readAllEvents(flightRecordingService.recordingFile(dumped)).stream()
+                .filter(event -> event.getEventType().getName().equals(CacheLookupEvent.NAME))
+                .filter(event -> "String.trim".equals(event.getString("key")))
+                .toList();
+        assertThat(lookups).extracting(event -> event.getBoolean("hit")).containsExactly(false, true);
+        assertThat(lookups).allSatisfy(event -> assertThat(event.getString("cache")).isEqualTo("adviceMetadata"));
+
+        String stopped = flightRecordingService.stop();
+        assertThat(CacheLookupEvent.isActive()).isFalse();
+        assertThat(Files.size(flightRecordingService.recordingFile(stopped))).isPositive();
+        assertThat(flightRecordingService.status().state()).isEqualTo("NONE");
+        assertThat(flightRecordingService.status().lastFile()).isEqualTo(stopped);
+    }
+
+    @Test
+    @DisplayName("only known settings are accepted and only recording files can be resolved")
+    void testInvalidRequestsAreRejected() {
+        assertThatThrownBy(() -> flightRecordingService.start("custom")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> flightRecordingService.dump()).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> flightRecordingService.recordingFile("../pom.xml")).isInstanceOf(NoSuchFileException.class);
+        assertThatThrownBy(() -> flightRecordingService.recordingFile("missing.jfr")).isInstanceOf(NoSuchFileException.class);
+    }
+}
@@ -0,0 +1,167 @@
+package com.aspiresys.fp_micro_productservice.kafka.consumer;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.OrderMessage;
+import com.aspiresys.fp_micro_productservice.product.ProductRepository;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.ClothesRepository;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the order event consumer against an embedded Kafka broker.
+ * Verifies that stock changes are aggregated per batch and applied idempotently.
+ *
+ * @author bruno.gil
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"order", "product"})
+@TestPropertySource(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "spring.datasource.url=jdbc:h2:mem:ordereventdb",
+    "kafka.consumer.order.enabled=true",
+    "spring.cloud.config.enabled=false",
+    "spring.cloud.discovery.enabled=false",
+    "eureka.client.enabled=false"
+})
+public class OrderEventConsumerTest {
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Autowired
+    private ClothesRepository clothesRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProcessedOrderEventRepository processedOrderEventRepository;
+
+    @Autowired
+    private OrderStockService orderStockService;
+
+    private KafkaTemplate<String, OrderMessage> orderTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafkaBroker.getBrokersAsString());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        orderTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderTemplate.destroy();
+    }
+
+    @Test
+    void testOrderEventsAdjustStockOncePerOrder() throws Exception {
+        Clothes shirt = clothesRepository.save(createClothes("Order Test Shirt", 100));
+        Clothes pants = clothesRepository.save(createClothes("Order Test Pants", 40));
+
+        send(order(1001L, OrderMessage.ORDER_CREATED, shirt.getId(), 3, pants.getId(), 1));
+        send(order(1001L, OrderMessage.ORDER_CREATED, shirt.getId(), 3, pants.getId(), 1)); // redelivery
+        send(order(1002L, OrderMessage.ORDER_CREATED, shirt.getId(), 2, pants.getId(), 4));
+
+        awaitStock(shirt.getId(), 95);
+        awaitStock(pants.getId(), 35);
+
+        send(order(1001L, OrderMessage.ORDER_CANCELLED, shirt.getId(), 3, pants.getId(), 1));
+
+        awaitStock(shirt.getId(), 98);
+        awaitStock(pants.getId(), 36);
+        assertTrue(processedOrderEventRepository.existsById(
+                ProcessedOrderEvent.keyOf(1001L, OrderMessage.ORDER_CANCELLED)));
+    }
+
+    @Test
+    void testOrderExceedingStockLeavesStockAtZero() {
+        Clothes jacket = clothesRepository.save(createClothes("Order Test Jacket", 2));
+        Clothes scarf = clothesRepository.save(createClothes("Order Test Scarf", 10));
+
+        Map<Long, Integer> applied = orderStockService.applyOrderEvents(List.of(
+                order(2001L, OrderMessage.ORDER_CREATED, jacket.getId(), 5, scarf.getId(), 1)));
+
+        assertEquals(0, productRepository.findById(jacket.getId()).orElseThrow().getStock());
+        assertEquals(9, productRepository.findById(scarf.getId()).orElseThrow().getStock());
+        assertEquals(Map.of(jacket.getId(), -2, scarf.getId(), -1), applied);
+    }
+
+    @Test
+    void testCancellingAnOversoldOrderRestoresOnlyTheUnitsItTook() {
+        Clothes jacket = clothesRepository.save(createClothes("Order Test Coat", 2));
+        Clothes scarf = clothesRepository.save(createClothes("Order Test Gloves", 10));
+
+        orderStockService.applyOrderEvents(List.of(
+                order(3001L, OrderMessage.ORDER_CREATED, jacket.getId(), 5, scarf.getId(), 1)));
+        assertEquals(0, productRepository.findById(jacket.getId()).orElseThrow().getStock());
+
+        Map<Long, Integer> applied = orderStockService.applyOrderEvents(List.of(
+                order(3001L, OrderMessage.ORDER_CANCELLED, jacket.getId(), 5, scarf.getId(), 1)));
+
+        assertEquals(2, productRepository.findById(jacket.getId()).orElseThrow().getStock());
+        assertEquals(10, productRepository.findById(scarf.getId()).orElseThrow().getStock());
+        assertEquals(Map.of(jacket.getId(), 2, scarf.getId(), 1), applied);
+    }
+
+    private void send(OrderMessage order) throws Exception {
+        orderTemplate.send("order", order.getOrderId().toString(), order).get();
+    }
+
+    private void awaitStock(Long productId, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        int actual = -1;
+        while (System.currentTimeMillis() < deadline) {
+            actual = productRepository.findById(productId).orElseThrow().getStock();
+            if (actual == expected) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+        assertEquals(expected, actual, "Stock of product " + productId + " did not reach the expected value");
+    }
+
+    private OrderMessage order(Long orderId, String eventType, Long firstProduct, int firstQuantity,
+                               Long secondProduct, int secondQuantity) {
+        return new OrderMessage(orderId, eventType, List.of(
+                new OrderMessage.Item(firstProduct, firstQuantity),
+                new OrderMessage.Item(secondProduct, secondQuantity)), LocalDateTime.now());
+    }
+
+    private Clothes createClothes(String name, int stock) {
+        Clothes clothes = new Clothes();
+        clothes.setName(name);
+        clothes.setStock(stock);
+        clothes.setPrice(25.0);
+        clothes.setCategory("clothes");
+        clothes.setImageUrl("https://example.com/" + name.replace(' ', '-') + ".jpg");
+        clothes.setBrand("TestBrand");
+        clothes.setSize("M");
+        clothes.setColor("Black");
+        clothes.setFabricType("Cotton");
+        return clothes;
+    }
+}
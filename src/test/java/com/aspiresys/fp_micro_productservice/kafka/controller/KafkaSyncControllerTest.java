@@ -0,0 +1,90 @@
+package com.aspiresys.fp_micro_productservice.kafka.controller;
+
+import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for the admin Kafka sync endpoints running on the admin bulkhead: a full sync that
+ * outlives its request timeout, and the rejection of operations when the bulkhead is full.
+ *
+ * @author bruno.gil
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "ratelimit.enabled=false",
+    "bulkhead.admin.threads=1",
+    "bulkhead.admin.queue-capacity=1",
+    "bulkhead.admin.retry-after-seconds=7",
+    "kafka.sync.full-sync-timeout-ms=120000"
+})
+@DisplayName("KafkaSyncController Tests")
+public class KafkaSyncControllerTest {
+
+    @SuppressWarnings("removal")
+    @MockBean
+    private ProductProducerService productProducerService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final CountDownLatch syncReleased = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        syncReleased.countDown();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("a full sync still running at its timeout answers 202, and a full bulkhead answers 503")
+    void testLongFullSyncAndFullBulkhead() throws Exception {
+        when(productProducerService.sendInitialProductList(any())).thenAnswer(invocation -> {
+            syncReleased.await();
+            return 0;
+        });
+
+        MvcResult running = mockMvc.perform(post("/products/kafka/sync/force-full-sync"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) running.getRequest().getAsyncContext();
+        assertThat(asyncContext.getTimeout()).isEqualTo(120000);
+
+        mockMvc.perform(post("/products/kafka/sync/force-full-sync")).andExpect(request().asyncStarted());
+        mockMvc.perform(post("/products/kafka/sync/force-full-sync"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "7"));
+
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(null);
+        }
+        mockMvc.perform(asyncDispatch(running))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/products/kafka/sync/status"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.aspiresys.fp_micro_productservice.kafka.producer;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the {@link ProductEventCoalescer} class.
+ * <p>
+ * The flush is triggered manually so the tests do not depend on the scheduler timing.
+ *
+ * @author bruno.gil
+ */
+@DisplayName("ProductEventCoalescer Tests")
+public class ProductEventCoalescerTest {
+
+    private ProductEventCoalescer coalescer;
+    private MeterRegistry meterRegistry;
+    private final List<ProductMessage> sent = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new ProductEventCoalescer();
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "windowMs", 60_000L);
+        ReflectionTestUtils.setField(coalescer, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "taskScheduler", mock(TaskScheduler.class));
+        coalescer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("successive updates of the same product are emitted once with the latest state")
+    void testUpdatesAreCoalesced() {
+        coalescer.submit(message(1L, "PRODUCT_UPDATED", 10), sent::add);
+        coalescer.submit(message(1L, "PRODUCT_UPDATED", 9), sent::add);
+        coalescer.submit(message(1L, "PRODUCT_UPDATED", 8), sent::add);
+        coalescer.submit(message(2L, "PRODUCT_UPDATED", 5), sent::add);
+
+        assertThat(sent).isEmpty();
+        coalescer.flush();
+
+        assertThat(sent).hasSize(2);
+        assertThat(sent).filteredOn(m -> m.getId() == 1L).singleElement()
+                .extracting(ProductMessage::getStock).isEqualTo(8);
+        assertThat(meterRegistry.counter("product.kafka.coalescer.events.in").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("product.kafka.coalescer.events.out").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("a delete is never published ahead of a buffered update")
+    void testDeleteFlushesPendingUpdateFirst() {
+        coalescer.submit(message(1L, "PRODUCT_UPDATED", 3), sent::add);
+        coalescer.submit(message(1L, "PRODUCT_DELETED", 0), sent::add);
+
+        assertThat(sent).extracting(ProductMessage::getEventType)
+                .containsExactly("PRODUCT_UPDATED", "PRODUCT_DELETED");
+
+        coalescer.flush();
+        assertThat(sent).hasSize(2);
+    }
+
+    private ProductMessage message(Long id, String eventType, int stock) {
+        ProductMessage message = new ProductMessage();
+        message.setId(id);
+        message.setEventType(eventType);
+        message.setStock(stock);
+        return message;
+    }
+}
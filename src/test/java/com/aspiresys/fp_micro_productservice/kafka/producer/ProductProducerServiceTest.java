@@ -0,0 +1,174 @@
+package com.aspiresys.fp_micro_productservice.kafka.producer;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import com.aspiresys.fp_micro_productservice.kafka.spool.KafkaSendSpool;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the producer routing and the spooling of failed sends in
+ * {@link ProductProducerService}.
+ * <p>
+ * Sends are completed by hand, so a failure can be reported after later sends
+ * for the same product were already acknowledged.
+ *
+ * @author bruno.gil
+ */
+@DisplayName("ProductProducerService Tests")
+public class ProductProducerServiceTest {
+
+    private ProductProducerService producerService;
+    private KafkaTemplate<String, ProductMessage> kafkaTemplate;
+    private KafkaTemplate<String, ProductMessage> highThroughputKafkaTemplate;
+    private KafkaSendSpool kafkaSendSpool;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        kafkaTemplate = mock(KafkaTemplate.class);
+        highThroughputKafkaTemplate = mock(KafkaTemplate.class);
+        kafkaSendSpool = mock(KafkaSendSpool.class);
+        when(kafkaSendSpool.isEmpty()).thenReturn(true);
+        when(kafkaSendSpool.append(any())).thenReturn(true);
+
+        ProductEventCoalescer coalescer = new ProductEventCoalescer();
+        ReflectionTestUtils.setField(coalescer, "meterRegistry", meterRegistry);
+        coalescer.init();
+
+        ProducerCircuitBreaker circuitBreaker = new ProducerCircuitBreaker();
+        ReflectionTestUtils.setField(circuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(circuitBreaker, "meterRegistry", meterRegistry);
+
+        ProducerSendMetrics sendMetrics = new ProducerSendMetrics();
+        ReflectionTestUtils.setField(sendMetrics, "meterRegistry", meterRegistry);
+
+        producerService = new ProductProducerService();
+        ReflectionTestUtils.setField(producerService, "kafkaTemplate", kafkaTemplate);
+        ReflectionTestUtils.setField(producerService, "highThroughputKafkaTemplate", highThroughputKafkaTemplate);
+        ReflectionTestUtils.setField(producerService, "productEventCoalescer", coalescer);
+        ReflectionTestUtils.setField(producerService, "circuitBreaker", circuitBreaker);
+        ReflectionTestUtils.setField(producerService, "sendMetrics", sendMetrics);
+        ReflectionTestUtils.setField(producerService, "kafkaSendSpool", kafkaSendSpool);
+        ReflectionTestUtils.setField(producerService, "productTopic", "product");
+    }
+
+    @Test
+    @DisplayName("an update that fails after a later delete was acknowledged is not spooled")
+    void testLateFailureSupersededByDeleteIsNotSpooled() {
+        CompletableFuture<SendResult<String, ProductMessage>> updateSend = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), eq("7"), any(ProductMessage.class)))
+                .thenReturn(updateSend)
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        producerService.sendProductUpdated(product(7L));
+        producerService.sendProductDeleted(7L);
+        updateSend.completeExceptionally(new TimeoutException("Expiring 1 record(s)"));
+
+        verify(kafkaTemplate, times(2)).send(anyString(), eq("7"), any(ProductMessage.class));
+        verify(kafkaSendSpool, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("a late failure is spooled when no newer event for the product was published")
+    void testLateFailureIsSpooled() {
+        CompletableFuture<SendResult<String, ProductMessage>> updateSend = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), eq("7"), any(ProductMessage.class))).thenReturn(updateSend);
+        when(kafkaTemplate.send(anyString(), eq("8"), any(ProductMessage.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        producerService.sendProductUpdated(product(7L));
+        producerService.sendProductDeleted(8L);
+        updateSend.completeExceptionally(new TimeoutException("Expiring 1 record(s)"));
+
+        verify(kafkaSendSpool).append(argThat(message ->
+                message.getId() == 7L && "PRODUCT_UPDATED".equals(message.getEventType())));
+        verify(kafkaSendSpool, never()).append(argThat(message -> message.getId() == 8L));
+    }
+
+    @Test
+    @DisplayName("product events sent during an initial load use the load producer and supersede its snapshot")
+    void testEventsDuringInitialLoadShareTheLoadProducer() {
+        when(highThroughputKafkaTemplate.send(anyString(), anyString(), any(ProductMessage.class)))
+                .thenAnswer(invocation -> {
+                    if ("1".equals(invocation.getArgument(1))) {
+                        // An update committed after the catalog was read, while the load is still sending
+                        producerService.sendProductUpdated(product(2L));
+                    }
+                    return CompletableFuture.completedFuture(null);
+                });
+        when(kafkaTemplate.send(anyString(), anyString(), any(ProductMessage.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        int productCount = producerService.sendInitialProductList(() -> List.of(product(1L), product(2L)));
+        producerService.sendProductUpdated(product(3L));
+
+        assertThat(productCount).isEqualTo(2);
+        InOrder inOrder = inOrder(kafkaTemplate, highThroughputKafkaTemplate);
+        inOrder.verify(kafkaTemplate).flush();
+        inOrder.verify(highThroughputKafkaTemplate).send(anyString(), eq("1"), any(ProductMessage.class));
+        inOrder.verify(highThroughputKafkaTemplate).send(anyString(), eq("2"),
+                argThat(message -> "PRODUCT_UPDATED".equals(message.getEventType())));
+        inOrder.verify(highThroughputKafkaTemplate).flush();
+        inOrder.verify(kafkaTemplate).send(anyString(), eq("3"), any(ProductMessage.class));
+        verify(highThroughputKafkaTemplate, never()).send(anyString(), eq("2"),
+                argThat(message -> "INITIAL_LOAD".equals(message.getEventType())));
+        verify(kafkaTemplate, never()).send(anyString(), eq("2"), any(ProductMessage.class));
+    }
+
+    @Test
+    @DisplayName("events are not blocked while the previous producer is flushed, and in-flight products keep their producer")
+    void testFlushOnSwitchDoesNotBlockSends() {
+        when(kafkaTemplate.send(anyString(), eq("5"), any(ProductMessage.class)))
+                .thenReturn(new CompletableFuture<>());
+        when(highThroughputKafkaTemplate.send(anyString(), anyString(), any(ProductMessage.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        doAnswer(invocation -> {
+            // A slow broker: events from request threads must go through while the flush waits
+            CompletableFuture.runAsync(() -> {
+                producerService.sendProductUpdated(product(5L));
+                producerService.sendProductUpdated(product(6L));
+            }).get(5, TimeUnit.SECONDS);
+            return null;
+        }).when(kafkaTemplate).flush();
+
+        producerService.sendProductUpdated(product(5L));
+        producerService.sendInitialProductList(List::of);
+
+        verify(kafkaTemplate, times(2)).send(anyString(), eq("5"), any(ProductMessage.class));
+        verify(highThroughputKafkaTemplate, never()).send(anyString(), eq("5"), any(ProductMessage.class));
+        verify(highThroughputKafkaTemplate).send(anyString(), eq("6"), any(ProductMessage.class));
+    }
+
+    private Clothes product(Long id) {
+        Clothes clothes = new Clothes();
+        clothes.setId(id);
+        clothes.setName("Product " + id);
+        clothes.setPrice(20.0);
+        clothes.setStock(3);
+        clothes.setCategory("clothes");
+        clothes.setImageUrl("https://example.com/" + id + ".jpg");
+        clothes.setBrand("Brand");
+        return clothes;
+    }
+}
@@ -0,0 +1,102 @@
+package com.aspiresys.fp_micro_productservice.kafka.spool;
+
+import com.aspiresys.fp_micro_productservice.kafka.dto.ProductMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@link KafkaSendSpool} class.
+ *
+ * @author bruno.gil
+ */
+@DisplayName("KafkaSendSpool Tests")
+public class KafkaSendSpoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("records are replayed in order and survive reopening the spool")
+    void testRecordsAreReplayedInOrderAfterReopen() throws Exception {
+        Path file = tempDir.resolve("spool.dat");
+        KafkaSendSpool spool = newSpool();
+        spool.open(file, 64 * 1024);
+        spool.append(message(1L, "PRODUCT_CREATED"));
+        spool.append(message(2L, "PRODUCT_UPDATED"));
+        spool.append(message(3L, "PRODUCT_DELETED"));
+
+        KafkaSendSpool.SpooledRecord first = spool.peek();
+        assertThat(first.message().getId()).isEqualTo(1L);
+        spool.commit(first);
+
+        KafkaSendSpool reopened = newSpool();
+        reopened.open(file, 64 * 1024);
+
+        assertThat(reopened.pendingRecords()).isEqualTo(2);
+        KafkaSendSpool.SpooledRecord second = reopened.peek();
+        assertThat(second.message().getId()).isEqualTo(2L);
+        reopened.commit(second);
+        KafkaSendSpool.SpooledRecord third = reopened.peek();
+        assertThat(third.message().getEventType()).isEqualTo("PRODUCT_DELETED");
+        reopened.commit(third);
+
+        assertThat(reopened.isEmpty()).isTrue();
+        assertThat(reopened.sizeBytes()).isZero();
+        assertThat(reopened.peek()).isNull();
+    }
+
+    @Test
+    @DisplayName("replayed space is reclaimed and a full spool rejects new records")
+    void testCompactionAndCapacity() throws Exception {
+        KafkaSendSpool spool = newSpool();
+        spool.open(tempDir.resolve("small.dat"), 1024);
+
+        int accepted = 0;
+        while (spool.append(message((long) accepted, "PRODUCT_UPDATED"))) {
+            accepted++;
+        }
+        assertThat(accepted).isPositive();
+        assertThat(spool.pendingRecords()).isEqualTo(accepted);
+
+        spool.commit(spool.peek());
+        assertThat(spool.append(message(999L, "PRODUCT_UPDATED"))).isTrue();
+        assertThat(spool.pendingRecords()).isEqualTo(accepted);
+        assertThat(spool.peek().message().getId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("a capacity that does not fit a single mapping is rejected at startup")
+    void testCapacityOutOfRangeIsRejected() {
+        KafkaSendSpool spool = newSpool();
+        ReflectionTestUtils.setField(spool, "spoolPath", tempDir.resolve("large.dat").toString());
+        ReflectionTestUtils.setField(spool, "capacityMb", 4096);
+
+        assertThatThrownBy(spool::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("kafka.spool.capacity-mb");
+        ReflectionTestUtils.setField(spool, "capacityMb", 0);
+        assertThatThrownBy(spool::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    private KafkaSendSpool newSpool() {
+        KafkaSendSpool spool = new KafkaSendSpool();
+        ReflectionTestUtils.setField(spool, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(spool, "meterRegistry", new SimpleMeterRegistry());
+        return spool;
+    }
+
+    private ProductMessage message(Long id, String eventType) {
+        ProductMessage message = new ProductMessage(id, "Product " + id, 10.0, "clothes",
+                "https://example.com/" + id + ".jpg", 5, "Brand", eventType);
+        return message;
+    }
+}
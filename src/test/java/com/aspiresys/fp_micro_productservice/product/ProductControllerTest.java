@@ -1,11 +1,16 @@
 package com.aspiresys.fp_micro_productservice.product;
 
 import com.aspiresys.fp_micro_productservice.common.dto.AppResponse;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.category.CategorySummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,25 +33,27 @@ public class ProductControllerTest {
     @BeforeEach
     void setUp() {
         productController = new ProductController();
+        ReflectionTestUtils.setField(productController, "categoryRegistry", new CategoryRegistry());
     }
 
     @Test
-    @DisplayName("getCategories should return all available categories")
+    @DisplayName("getCategories should return the registered categories with their product counts")
     void testGetCategoriesReturnsAllCategories() {
         // When
-        ResponseEntity<AppResponse<java.util.List<String>>> response = productController.getCategories();
+        ResponseEntity<AppResponse<List<CategorySummary>>> response = productController.getCategories();
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         
-        AppResponse<java.util.List<String>> appResponse = response.getBody();
+        AppResponse<List<CategorySummary>> appResponse = response.getBody();
         assertThat(appResponse).isNotNull();
         assertThat(appResponse.getMessage()).isEqualTo("Categories retrieved successfully");
         
-        java.util.List<String> categories = appResponse.getData();
+        List<CategorySummary> categories = appResponse.getData();
         assertThat(categories).isNotNull()
-                             .hasSize(3)
-                             .containsExactly("clothes", "electronics", "smartphone");
+                             .extracting(CategorySummary::name)
+                             .containsExactly("clothes", "smartphone");
+        assertThat(categories).allSatisfy(category -> assertThat(category.productCount()).isNotNegative());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.aspiresys.fp_micro_productservice.product.category;
+
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import com.aspiresys.fp_micro_productservice.product.ProductUtils;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.ClothesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the category registry: registration without a deploy, product
+ * counts kept current by committed JPA writes, and counts changed during a refresh.
+ *
+ * @author bruno.gil
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CategoryRegistry.class, SchedulingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CategoryRegistry Tests")
+public class CategoryRegistryTest {
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private ClothesRepository clothesRepository;
+
+    @Test
+    @DisplayName("a registered category is valid at once and its product count follows inserts, moves and deletes")
+    void testRegisteredCategoryAndCounts() {
+        assertThat(categoryRegistry.names()).contains("clothes", "smartphone");
+        assertThat(ProductUtils.isValidCategory("Tablet", categoryRegistry)).isFalse();
+
+        assertThat(categoryRegistry.add("Tablet", "Tablets")).isTrue();
+        assertThat(categoryRegistry.add("tablet", "Tablets")).isFalse();
+        try {
+            assertThat(ProductUtils.isValidCategory("Tablet", categoryRegistry)).isTrue();
+            long clothesBefore = count("clothes");
+
+            Clothes clothes = new Clothes();
+            clothes.setName("Registry Test Jacket");
+            clothes.setCategory("tablet");
+            clothes.setPrice(59.0);
+            clothes.setImageUrl("https://example.com/registry-jacket.jpg");
+            clothes = clothesRepository.save(clothes);
+            assertThat(count("tablet")).isEqualTo(1);
+            assertThatThrownBy(() -> categoryRegistry.remove("tablet")).isInstanceOf(IllegalStateException.class);
+
+            clothes.setCategory("clothes");
+            clothes = clothesRepository.save(clothes);
+            assertThat(count("tablet")).isZero();
+            assertThat(count("clothes")).isEqualTo(clothesBefore + 1);
+
+            clothesRepository.delete(clothes);
+            assertThat(count("clothes")).isEqualTo(clothesBefore);
+        } finally {
+            categoryRegistry.remove("tablet");
+        }
+        assertThat(ProductUtils.isValidCategory("tablet", categoryRegistry)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a product committed while a refresh is counting is kept in the new counts")
+    void testCountChangedDuringRefreshIsKept() {
+        CategoryRepository repository = mock(CategoryRepository.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CategoryRegistry registry = new CategoryRegistry();
+        ReflectionTestUtils.setField(registry, "categoryRepository", repository);
+        ReflectionTestUtils.setField(registry, "jdbcTemplate", jdbcTemplate);
+        when(repository.findAll()).thenReturn(CategoryRegistry.DEFAULT_CATEGORIES);
+        doAnswer(invocation -> {
+            // Committed after the count query read the table, before the new map is swapped in
+            registry.productAdded("clothes");
+            return null;
+        }).when(jdbcTemplate).query(eq(CategoryRegistry.COUNT_SQL), any(RowCallbackHandler.class));
+
+        registry.refresh();
+
+        assertThat(count(registry, "clothes")).isEqualTo(1);
+        assertThat(count(registry, "smartphone")).isZero();
+    }
+
+    private long count(String category) {
+        return count(categoryRegistry, category);
+    }
+
+    private static long count(CategoryRegistry registry, String category) {
+        return registry.categories().stream()
+                .filter(summary -> summary.name().equals(category))
+                .mapToLong(CategorySummary::productCount)
+                .findFirst()
+                .orElseThrow();
+    }
+}
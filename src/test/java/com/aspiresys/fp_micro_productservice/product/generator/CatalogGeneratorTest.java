@@ -0,0 +1,110 @@
+package com.aspiresys.fp_micro_productservice.product.generator;
+
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.ClothesRepository;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.SmartphoneRepository;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the synthetic catalog generator: batched inserts into the joined tables,
+ * reproducibility and skewed distributions.
+ *
+ * @author bruno.gil
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CatalogGenerator.class, CategoryRegistry.class, ProductValidators.class, SchedulingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CatalogGenerator Tests")
+public class CatalogGeneratorTest {
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private ClothesRepository clothesRepository;
+
+    @Autowired
+    private SmartphoneRepository smartphoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("generated products are complete entities and the same seed gives the same catalog")
+    void testGeneratedCatalogIsReadableAndReproducible() {
+        CatalogGenerationStatus sequential = catalogGenerator.generate(new CatalogGenerationRequest(1500, 0.6, 200, 1, 7L));
+        CatalogGenerationStatus parallel = catalogGenerator.generate(new CatalogGenerationRequest(1500, 0.6, 200, 4, 7L));
+
+        assertThat(sequential.state()).isEqualTo(CatalogGenerationStatus.State.COMPLETED);
+        assertThat(parallel.state()).isEqualTo(CatalogGenerationStatus.State.COMPLETED);
+        assertThat(sequential.inserted()).isEqualTo(1500);
+        assertThat(parallel.clothes()).isEqualTo(sequential.clothes());
+        assertThat(brandCounts(parallel.runTag())).isEqualTo(brandCounts(sequential.runTag()));
+
+        List<Clothes> clothes = clothesRepository.findAll().stream()
+                .filter(item -> item.getName().contains(" " + sequential.runTag() + "-"))
+                .toList();
+        List<Smartphone> smartphones = smartphoneRepository.findAll().stream()
+                .filter(item -> item.getName().contains(" " + sequential.runTag() + "-"))
+                .toList();
+        assertThat(clothes).hasSize((int) sequential.clothes());
+        assertThat(smartphones).hasSize((int) sequential.smartphones());
+        assertThat(clothes).allSatisfy(item -> {
+            assertThat(item.getBrand()).isNotNull();
+            assertThat(item.getSize()).isNotNull();
+        });
+        assertThat(smartphones).allSatisfy(item -> {
+            assertThat(item.getBrand()).isNotNull();
+            assertThat(item.getStorageCapacity()).isPositive();
+        });
+
+        // JPA inserts keep working after the batched inserts
+        Clothes manual = new Clothes();
+        manual.setName("Manual Shirt");
+        manual.setCategory("clothes");
+        manual.setPrice(10.0);
+        manual.setImageUrl("https://example.com/manual.jpg");
+        assertThat(clothesRepository.save(manual).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("brands follow a skewed distribution")
+    void testBrandsAreSkewed() {
+        CatalogGenerationStatus status = catalogGenerator.generate(new CatalogGenerationRequest(4000, 1.0, 500, 2, 11L));
+
+        Map<String, Integer> counts = brandCounts(status.runTag());
+        assertThat(counts.get("UrbanThread")).isEqualTo(counts.values().stream().max(Integer::compare).orElseThrow());
+        assertThat(counts.get("UrbanThread")).isGreaterThan(10 * counts.getOrDefault("Linen House", 0));
+    }
+
+    private Map<String, Integer> brandCounts(String runTag) {
+        return jdbcTemplate.query("SELECT c.brand, COUNT(*) FROM clothes c JOIN product p ON p.id = c.id "
+                        + "WHERE p.name LIKE ? GROUP BY c.brand",
+                rs -> {
+                    Map<String, Integer> counts = new HashMap<>();
+                    while (rs.next()) {
+                        counts.put(rs.getString(1), rs.getInt(2));
+                    }
+                    return counts;
+                }, "% " + runTag + "-%");
+    }
+}
@@ -0,0 +1,90 @@
+package com.aspiresys.fp_micro_productservice.product.listing;
+
+import com.aspiresys.fp_micro_productservice.common.bulkhead.Bulkhead;
+import com.aspiresys.fp_micro_productservice.common.bulkhead.DataSourcePartition;
+import com.aspiresys.fp_micro_productservice.config.SchedulingConfig;
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.ProductRepository;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.generator.CatalogGenerationRequest;
+import com.aspiresys.fp_micro_productservice.product.generator.CatalogGenerator;
+import com.aspiresys.fp_micro_productservice.product.validation.ProductValidators;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the per-subtype product listing: same products as the polymorphic query, in id order.
+ *
+ * @author bruno.gil
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PerSubtypeProductFetcher.class, CatalogGenerator.class, CategoryRegistry.class, ProductValidators.class,
+        SchedulingConfig.class, PerSubtypeProductFetcherTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PerSubtypeProductFetcher Tests")
+public class PerSubtypeProductFetcherTest {
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean(destroyMethod = "close")
+        Bulkhead listingBulkhead() {
+            return new Bulkhead("listing", DataSourcePartition.DEFAULT, 2, 8, new SimpleMeterRegistry());
+        }
+    }
+
+    @Autowired
+    private PerSubtypeProductFetcher perSubtypeProductFetcher;
+
+    @Autowired
+    private CatalogGenerator catalogGenerator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("the per-subtype listing returns the products of the polymorphic query ordered by id")
+    void testPerSubtypeListingMatchesPolymorphicQuery() {
+        catalogGenerator.generate(new CatalogGenerationRequest(600, 0.5, 100, 2, 11L));
+
+        List<Product> polymorphic = productRepository.findAll().stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .toList();
+        List<Product> perSubtype = perSubtypeProductFetcher.findAll();
+
+        assertThat(perSubtypeProductFetcher.getSubtypes()).containsExactly(Clothes.class, Smartphone.class);
+        assertThat(perSubtype).hasSize(polymorphic.size());
+        assertThat(perSubtype).isSortedAccordingTo(Comparator.comparing(Product::getId));
+        assertThat(perSubtype).usingRecursiveFieldByFieldElementComparator().isEqualTo(polymorphic);
+        assertThat(perSubtype).hasAtLeastOneElementOfType(Clothes.class).hasAtLeastOneElementOfType(Smartphone.class);
+    }
+
+    @Test
+    @DisplayName("listing strategies are parsed from request parameters")
+    void testStrategyParameter() {
+        assertThat(ProductListingStrategy.fromParameter("per-subtype", null)).isEqualTo(ProductListingStrategy.PER_SUBTYPE);
+        assertThat(ProductListingStrategy.fromParameter("Polymorphic", null)).isEqualTo(ProductListingStrategy.POLYMORPHIC);
+        assertThat(ProductListingStrategy.fromParameter(" ", ProductListingStrategy.POLYMORPHIC))
+                .isEqualTo(ProductListingStrategy.POLYMORPHIC);
+        assertThatThrownBy(() -> ProductListingStrategy.fromParameter("union", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.aspiresys.fp_micro_productservice.product.validation;
+
+import com.aspiresys.fp_micro_productservice.product.Product;
+import com.aspiresys.fp_micro_productservice.product.ProductUtils;
+import com.aspiresys.fp_micro_productservice.product.category.CategoryRegistry;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.electronics.smartphone.Smartphone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the compiled product validation rules.
+ *
+ * @author bruno.gil
+ */
+@DisplayName("ProductValidators Tests")
+public class ProductValidatorsTest {
+
+    private final ProductValidators productValidators = new ProductValidators(new CategoryRegistry());
+
+    @Test
+    @DisplayName("fail-fast reports the first broken rule and collect-all reports every one, subtype rules included")
+    void testFirstAndAllViolations() {
+        Smartphone smartphone = smartphone();
+        smartphone.setCategory("furniture");
+        smartphone.setPrice(-5.0);
+        smartphone.setRam(-1);
+
+        assertThat(productValidators.firstViolation(smartphone))
+                .isEqualTo(new Violation("category", "Invalid category: furniture"));
+        assertThat(productValidators.violations(smartphone)).extracting(Violation::field)
+                .containsExactly("category", "price", "ram");
+        assertThat(productValidators.forType(Smartphone.class).ruleCount())
+                .isGreaterThan(productValidators.forType(Clothes.class).ruleCount());
+
+        assertThat(ProductUtils.isAValidProduct(smartphone(), productValidators).getFirst()).isTrue();
+        assertThat(ProductUtils.isAValidProduct(null, productValidators).getSecond()).isEqualTo("Product cannot be null");
+        assertThat(ProductUtils.isAValidProduct(smartphone, productValidators).getSecond()).isEqualTo("Invalid category: furniture");
+    }
+
+    @Test
+    @DisplayName("a batch reports the violations of each rejected product by position")
+    void testBatchValidation() {
+        Clothes invalid = clothes();
+        invalid.setName(" ");
+        invalid.setImageUrl("ftp://example.com/shirt.jpg");
+        List<Product> batch = Arrays.asList(clothes(), smartphone(), invalid, null, clothes());
+
+        BatchValidationResult result = productValidators.validateBatch(batch);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.total()).isEqualTo(5);
+        assertThat(result.valid()).isEqualTo(3);
+        assertThat(result.rejected()).containsOnlyKeys(2, 3);
+        assertThat(result.rejected().get(2)).extracting(Violation::field).containsExactly("name", "imageUrl");
+        assertThat(result.rejected().get(3)).containsExactly(ProductValidators.NULL_PRODUCT);
+    }
+
+    private static Clothes clothes() {
+        Clothes clothes = new Clothes();
+        clothes.setName("Basic T-Shirt");
+        clothes.setPrice(19.99);
+        clothes.setCategory("clothes");
+        clothes.setImageUrl("https://example.com/shirt.jpg");
+        clothes.setStock(25);
+        return clothes;
+    }
+
+    private static Smartphone smartphone() {
+        Smartphone smartphone = new Smartphone();
+        smartphone.setName("Phone X");
+        smartphone.setPrice(799.0);
+        smartphone.setCategory("Smartphone");
+        smartphone.setImageUrl("https://example.com/phone.jpg");
+        smartphone.setStock(10);
+        smartphone.setRam(8);
+        return smartphone;
+    }
+}
@@ -0,0 +1,123 @@
+package com.aspiresys.fp_micro_productservice.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the verified JWT cache.
+ *
+ * @author bruno.gil
+ */
+@SpringJUnitConfig(CachingJwtAuthenticationProviderTest.TestConfig.class)
+@DisplayName("CachingJwtAuthenticationProvider Tests")
+public class CachingJwtAuthenticationProviderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final AtomicInteger DECODES = new AtomicInteger();
+
+    @Configuration
+    @Import(CachingJwtAuthenticationProvider.class)
+    static class TestConfig {
+
+        @Bean
+        JwtDecoder jwtDecoder() {
+            return token -> {
+                DECODES.incrementAndGet();
+                if (token.startsWith("bad")) {
+                    throw new BadJwtException("Invalid signature");
+                }
+                return Jwt.withTokenValue(token)
+                        .header("alg", "RS256")
+                        .subject("admin")
+                        .claim("roles", List.of("ADMIN"))
+                        .issuedAt(NOW.minusSeconds(60))
+                        .expiresAt(NOW.plusSeconds(300))
+                        .build();
+            };
+        }
+
+        @Bean
+        JwtAuthenticationConverter jwtAuthenticationConverter() {
+            JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+            converter.setJwtGrantedAuthoritiesConverter(jwt -> jwt.getClaimAsStringList("roles").stream()
+                    .map(role -> (GrantedAuthority) () -> "ROLE_" + role)
+                    .toList());
+            return converter;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private CachingJwtAuthenticationProvider provider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        provider.clear();
+        provider.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        DECODES.set(0);
+    }
+
+    @Test
+    @DisplayName("a verified token is served from the cache until it expires")
+    void testVerifiedTokenIsCachedUntilExpiry() {
+        Authentication first = provider.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        Authentication second = provider.authenticate(new BearerTokenAuthenticationToken("token-1"));
+
+        assertThat(DECODES.get()).isEqualTo(1);
+        assertThat(second.getName()).isEqualTo("admin");
+        assertThat(second.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(second.getAuthorities()).isEqualTo(first.getAuthorities());
+        assertThat(meterRegistry.get("security.jwt.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.jwt.verification").tag("outcome", "VERIFIED").timer().count())
+                .isGreaterThanOrEqualTo(1);
+
+        provider.setClock(Clock.fixed(NOW.plusSeconds(300), ZoneOffset.UTC));
+        provider.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        assertThat(DECODES.get()).isEqualTo(2);
+        assertThat(provider.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a rejected token is not cached and is verified on every request")
+    void testRejectedTokenIsNotCached() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> provider.authenticate(new BearerTokenAuthenticationToken("bad-token")))
+                    .isInstanceOf(InvalidBearerTokenException.class);
+        }
+
+        assertThat(DECODES.get()).isEqualTo(2);
+        assertThat(provider.size()).isZero();
+    }
+}
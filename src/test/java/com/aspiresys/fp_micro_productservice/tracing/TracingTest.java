@@ -0,0 +1,159 @@
+package com.aspiresys.fp_micro_productservice.tracing;
+
+import com.aspiresys.fp_micro_productservice.kafka.producer.ProductProducerService;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.Clothes;
+import com.aspiresys.fp_micro_productservice.product.subclasses.clothes.ClothesRepository;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for request tracing: span hierarchy of a request (HTTP server,
+ * {@code @ExecutionTime} methods, repository calls), trace propagation into Kafka
+ * record headers, and the in-memory collector.
+ *
+ * @author bruno.gil
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"order", "product"})
+@TestPropertySource(properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "spring.datasource.url=jdbc:h2:mem:tracingdb",
+    "kafka.spool.path=target/kafka-spool/tracing-test-spool.dat",
+    "management.tracing.sampling.probability=1.0"
+})
+@DisplayName("Tracing Tests")
+public class TracingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanCollector spanCollector;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private ProductProducerService productProducerService;
+
+    @Autowired
+    private ClothesRepository clothesRepository;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @BeforeEach
+    void setUp() {
+        spanCollector.clear();
+    }
+
+    @Test
+    @DisplayName("a request trace nests the controller, service and repository spans")
+    void testRequestSpanHierarchy() throws Exception {
+        mockMvc.perform(get("/products")).andExpect(status().isOk());
+
+        List<RecordedTrace> traces = spanCollector.slowest(0, 10);
+        assertThat(traces).hasSize(1);
+        RecordedTrace trace = traces.get(0);
+        Map<String, RecordedSpan> spans = trace.spans().stream()
+                .collect(Collectors.toMap(RecordedSpan::name, Function.identity(), (first, second) -> first));
+
+        RecordedSpan controller = spans.get("ProductController.getAllProducts");
+        RecordedSpan service = spans.get("ProductServiceImpl.getAllProducts");
+        RecordedSpan repository = spans.get("ProductRepository.findAll");
+        assertThat(controller).isNotNull();
+        assertThat(service.parentId()).isEqualTo(controller.spanId());
+        assertThat(repository.parentId()).isEqualTo(service.spanId());
+        assertThat(trace.durationMicros()).isGreaterThanOrEqualTo(repository.durationMicros());
+        assertThat(spanCollector.get(trace.traceId())).isSameAs(trace);
+    }
+
+    @Test
+    @DisplayName("Kafka sends get a producer span and carry the trace context in the record headers")
+    void testKafkaSendPropagatesTraceContext() {
+        Clothes clothes = clothesRepository.save(createClothes());
+
+        Span root = tracer.nextSpan().name("create-clothes-test").start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(root)) {
+            productProducerService.sendProductCreated(clothes);
+        } finally {
+            root.end();
+        }
+        String traceId = root.context().traceId();
+
+        ConsumerRecord<String, String> record = consumeProductEvent(clothes.getId().toString());
+        Header traceparent = record.headers().lastHeader("traceparent");
+        assertThat(traceparent).isNotNull();
+        assertThat(new String(traceparent.value(), StandardCharsets.UTF_8)).contains(traceId);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(spanCollector.get(traceId).spans())
+                        .anySatisfy(span -> assertThat(span.kind()).isEqualTo("PRODUCER")));
+    }
+
+    private ConsumerRecord<String, String> consumeProductEvent(String key) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("tracing-test", "false", embeddedKafkaBroker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            embeddedKafkaBroker.consumeFromAnEmbeddedTopic(consumer, "product");
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (System.currentTimeMillis() < deadline) {
+                for (ConsumerRecord<String, String> record : KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(1))) {
+                    if (key.equals(record.key())) {
+                        return record;
+                    }
+                }
+            }
+        }
+        throw new AssertionError("No product event received for key " + key);
+    }
+
+    private static Clothes createClothes() {
+        Clothes clothes = new Clothes();
+        clothes.setName("Tracing Test Shirt");
+        clothes.setPrice(19.99);
+        clothes.setCategory("clothes");
+        clothes.setImageUrl("https://example.com/tracing-test.jpg");
+        clothes.setStock(10);
+        clothes.setBrand("Acme");
+        clothes.setSize("M");
+        clothes.setColor("Blue");
+        clothes.setFabricType("Cotton");
+        return clothes;
+    }
+}